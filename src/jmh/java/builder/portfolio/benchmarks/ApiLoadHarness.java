@@ -0,0 +1,173 @@
+package builder.portfolio.benchmarks;
+
+import builder.portfolio.api.ApiServer;
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.util.SessionRegistry;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load test of the HTTP API against the in-memory backend.
+ *
+ * Starts an {@link ApiServer} on a free port, registers a builder, a project manager and a
+ * client, creates the projects through the API and then runs concurrent clients for a fixed
+ * time. Each client loops over a mix of reads (project pages, timelines, tasks) and spend
+ * updates, and the harness reports throughput and p50/p90/p99/max latency per request.
+ *
+ * Run after building the benchmarks jar:
+ * java -cp target/benchmarks.jar builder.portfolio.benchmarks.ApiLoadHarness [clients] [seconds] [projects]
+ */
+public class ApiLoadHarness {
+
+    private static final Pattern ID = Pattern.compile("\"(projectId|userId|sessionId)\":\"?([^,\"}]+)");
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int projects = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+
+        PrintStream console = System.out;
+        BenchmarkData.silenceConsole();
+        RepositoryFactory.setBackend(RepositoryFactory.Backend.MEMORY);
+        ApiServer server = new ApiServer(0, 1_048_576, new SessionRegistry(0));
+        server.start();
+        String base = "http://localhost:" + server.getPort();
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        String builder = field(call(http, base, "POST", "/api/auth/register", null, registration("Load Builder", "BUILDER")), "sessionId");
+        String managerResponse = call(http, base, "POST", "/api/auth/register", null, registration("Load Manager", "PROJECT_MANAGER"));
+        String clientResponse = call(http, base, "POST", "/api/auth/register", null, registration("Load Client", "CLIENT"));
+        String manager = field(managerResponse, "sessionId");
+        String client = field(clientResponse, "sessionId");
+        long[] projectIds = new long[projects];
+        for (int i = 0; i < projects; i++) {
+            String project = call(http, base, "POST", "/api/projects", builder, "{\"projectName\":\"Load " + i
+                    + "\",\"plannedBudget\":100000,\"projectManagerId\":" + field(managerResponse, "userId")
+                    + ",\"clientId\":" + field(clientResponse, "userId") + ",\"endDate\":\""
+                    + LocalDate.now().plusYears(1) + "\",\"numberOfTasks\":8}");
+            projectIds[i] = Long.parseLong(field(project, "projectId"));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            results.add(pool.submit(() -> run(http, base, builder, manager, client, projectIds, deadline)));
+        }
+
+        long[] latencies = new long[0];
+        long errors = 0;
+        for (Future<long[]> result : results) {
+            long[] clientLatencies = result.get();
+            errors += clientLatencies[0];
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + clientLatencies.length - 1);
+            System.arraycopy(clientLatencies, 1, latencies, offset, clientLatencies.length - 1);
+        }
+        pool.shutdown();
+        server.stop(0);
+
+        Arrays.sort(latencies);
+        console.printf("clients=%d duration=%ds projects=%d%n", clients, seconds, projects);
+        console.printf("requests=%d errors=%d throughput=%.1f req/s%n", latencies.length, errors,
+                latencies.length / (double) seconds);
+        console.printf("latency p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+    }
+
+    /**
+     * Runs one client until the deadline.
+     *
+     * @return the error count followed by the latency of every request in nanoseconds
+     */
+    private static long[] run(HttpClient http, String base, String builder, String manager, String client,
+                              long[] projectIds, long deadline) throws Exception {
+        long[] latencies = new long[1024];
+        int count = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            long projectId = projectIds[random.nextInt(projectIds.length)];
+            int operation = random.nextInt(10);
+            HttpRequest request;
+            if (operation < 4) {
+                request = request(base, "GET", "/api/projects?size=20", client, null);
+            } else if (operation < 7) {
+                request = request(base, "GET", "/api/projects/" + projectId + "/timeline", builder, null);
+            } else if (operation < 9) {
+                request = request(base, "GET", "/api/projects/" + projectId + "/tasks", manager, null);
+            } else {
+                request = request(base, "POST", "/api/projects/" + projectId + "/spend", manager, "{\"amount\":1}");
+            }
+
+            long start = System.nanoTime();
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            long latency = System.nanoTime() - start;
+            if (response.statusCode() >= 300) {
+                latencies[0]++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static String registration(String name, String role) {
+        String email = role.toLowerCase() + System.nanoTime() + "@example.com";
+        return "{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"password\":\"secret123\",\"role\":\"" + role + "\"}";
+    }
+
+    private static String call(HttpClient http, String base, String method, String path, String session, String body)
+            throws Exception {
+        HttpResponse<String> response = http.send(request(base, method, path, session, body),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(method + " " + path + " failed: " + response.body());
+        }
+        return response.body();
+    }
+
+    private static HttpRequest request(String base, String method, String path, String session, String body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + path))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (session != null) {
+            request.header(ApiServer.SESSION_HEADER, session);
+        }
+        return request.build();
+    }
+
+    private static String field(String json, String name) {
+        Matcher matcher = ID.matcher(json);
+        while (matcher.find()) {
+            if (matcher.group(1).equals(name)) {
+                return matcher.group(2);
+            }
+        }
+        throw new IllegalStateException("No " + name + " in " + json);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,71 @@
+package builder.portfolio.benchmarks;
+
+import builder.portfolio.model.AuditTrail;
+import builder.portfolio.util.AuditRecordCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of audit trail entries to and from their line and binary formats.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditTrailBenchmark {
+
+    private final AuditTrail auditTrail = new AuditTrail("Project created", BenchmarkData.BUILDER);
+    private final String line = auditTrail.toString();
+    private final AuditRecordCodec encoder = new AuditRecordCodec();
+    private final AuditRecordCodec decoder = new AuditRecordCodec();
+    private final AuditRecordCodec.Record record = new AuditRecordCodec.Record();
+    private final ByteBuffer encoded = ByteBuffer.allocate(4096);
+    private final ByteBuffer binary = ByteBuffer.allocate(4096);
+    private int entryStart;
+
+    @Setup
+    public void setUp() {
+        encoder.encode(auditTrail, binary);
+        entryStart = binary.position();
+        encoder.encode(auditTrail, binary);
+        binary.flip();
+        decoder.decode(binary, record);
+    }
+
+    @Benchmark
+    public String toLine() {
+        return auditTrail.toString();
+    }
+
+    @Benchmark
+    public AuditTrail fromLine() {
+        return AuditTrail.fromString(line);
+    }
+
+    @Benchmark
+    public int toBinary() {
+        encoded.clear();
+        encoder.encode(auditTrail, encoded);
+        return encoded.position();
+    }
+
+    @Benchmark
+    public AuditRecordCodec.Record fromBinary() {
+        binary.position(entryStart);
+        decoder.decode(binary, record);
+        return record;
+    }
+}
@@ -0,0 +1,149 @@
+package builder.portfolio.benchmarks;
+
+import builder.portfolio.model.Project;
+import builder.portfolio.model.Task;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.Status;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.util.ConnectionPool;
+import builder.portfolio.util.DBUtil;
+import builder.portfolio.util.MigrationRunner;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sets up the backends the benchmarks run against and seeds them with a builder's portfolio.
+ *
+ * The JDBC backend runs on an embedded H2 database in PostgreSQL mode, created by
+ * {@link MigrationRunner} and seeded with plain SQL, so no database server is needed.
+ * H2 does not support {@code RETURNING}, so the write paths are measured on the in-memory
+ * backend only.
+ *
+ * Example usage:
+ * BenchmarkData.use(RepositoryFactory.Backend.JDBC, 100, 20);
+ */
+final class BenchmarkData {
+
+    /** The builder owning every seeded project. */
+    static final User BUILDER = new User(1, "builder@example.com", null, "Builder", UserRole.BUILDER);
+    static final long MANAGER_ID = 2;
+    static final long CLIENT_ID = 3;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Switches to a fresh instance of the given backend and seeds it.
+     *
+     * @param backend         the backend to use
+     * @param projects        number of projects owned by {@link #BUILDER}
+     * @param tasksPerProject number of pending tasks per project
+     * @return the IDs of the seeded projects
+     */
+    static List<Long> use(RepositoryFactory.Backend backend, int projects, int tasksPerProject) throws SQLException {
+        silenceConsole();
+        if (backend == RepositoryFactory.Backend.JDBC) {
+            String url = "jdbc:h2:mem:benchmarks" + System.nanoTime()
+                    + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+            DBUtil.setPool(new ConnectionPool(() -> DriverManager.getConnection(url), 1, 4, 60_000, 5_000, 2, 64));
+            RepositoryFactory.setBackend(backend);
+            return seedDatabase(projects, tasksPerProject);
+        }
+        RepositoryFactory.setBackend(backend);
+        List<Long> projectIds = new ArrayList<>();
+        for (int i = 0; i < projects; i++) {
+            projectIds.add(RepositoryFactory.projects().create(project("Project " + i), tasks(tasksPerProject)).getProjectId());
+        }
+        return projectIds;
+    }
+
+    /**
+     * Closes the embedded database, if one is open.
+     */
+    static void close() {
+        DBUtil.shutdown();
+    }
+
+    /**
+     * Builds an unsaved project of {@link #BUILDER}.
+     */
+    static Project project(String name) {
+        Project project = new Project();
+        project.setProjectName(name);
+        project.setPlannedBudget(100_000);
+        project.setBuilderId(BUILDER.getUserId());
+        project.setProjectManagerId(MANAGER_ID);
+        project.setClientId(CLIENT_ID);
+        project.setEndDate(LocalDate.now().plusYears(1));
+        project.setStatus(Status.UPCOMING);
+        return project;
+    }
+
+    /**
+     * Builds the given number of unsaved, pending tasks.
+     */
+    static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Task task = new Task();
+            task.setTaskName("Phase " + i);
+            task.setStatus("PENDING");
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Discards console output, so notification printing and logging are not part of the measurements.
+     */
+    static void silenceConsole() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    private static List<Long> seedDatabase(int projects, int tasksPerProject) throws SQLException {
+        try (Connection connection = DBUtil.getConnection()) {
+            new MigrationRunner(MigrationRunner.DEFAULT_LOCATION).migrate(connection);
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("INSERT INTO users (user_id, username, email, password, role) VALUES "
+                        + "(1, 'Builder', 'builder@example.com', 'secret1', 'BUILDER'), "
+                        + "(2, 'Manager', 'manager@example.com', 'secret1', 'PROJECT_MANAGER'), "
+                        + "(3, 'Client', 'client@example.com', 'secret1', 'CLIENT')");
+            }
+
+            String projectSql = "INSERT INTO project (project_id, project_name, status, planned_budget, builder_id, "
+                    + "manager_id, client_id, end_date, total_tasks) VALUES (?, ?, 'UPCOMING', 100000, 1, 2, 3, ?, ?)";
+            String taskSql = "INSERT INTO task (project_id, task_name, status) VALUES (?, ?, 'PENDING')";
+            List<Long> projectIds = new ArrayList<>();
+            try (PreparedStatement projectStmt = connection.prepareStatement(projectSql);
+                 PreparedStatement taskStmt = connection.prepareStatement(taskSql)) {
+                for (long projectId = 1; projectId <= projects; projectId++) {
+                    projectStmt.setLong(1, projectId);
+                    projectStmt.setString(2, "Project " + projectId);
+                    projectStmt.setDate(3, Date.valueOf(LocalDate.now().plusYears(1)));
+                    projectStmt.setInt(4, tasksPerProject);
+                    projectStmt.addBatch();
+                    for (int i = 1; i <= tasksPerProject; i++) {
+                        taskStmt.setLong(1, projectId);
+                        taskStmt.setString(2, "Phase " + i);
+                        taskStmt.addBatch();
+                    }
+                    projectIds.add(projectId);
+                }
+                projectStmt.executeBatch();
+                taskStmt.executeBatch();
+            }
+            return projectIds;
+        }
+    }
+}
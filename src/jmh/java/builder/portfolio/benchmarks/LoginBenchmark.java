@@ -0,0 +1,82 @@
+package builder.portfolio.benchmarks;
+
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.AuthRepository;
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.util.PasswordHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures logins per second on the in-memory backend.
+ *
+ * {@link #loginCached} repeats a successful login, which is answered by the login cache;
+ * {@link #loginWrongPassword} is never cached and always runs the key derivation, like the
+ * first login of a user. {@link #verify} measures the key derivation alone for several
+ * iteration counts, to pick {@code password_hash_iterations}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final String EMAIL = "login.benchmark@example.com";
+    private static final String PASSWORD = "secret123";
+
+    @State(Scope.Benchmark)
+    public static class LoginState {
+
+        private final AuthRepository authRepository = new AuthRepository();
+
+        @Setup
+        public void setUp() throws Exception {
+            BenchmarkData.use(RepositoryFactory.Backend.MEMORY, 0, 0);
+            authRepository.register(new User(0, EMAIL, PASSWORD, "Login Benchmark", UserRole.CLIENT));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class HashState {
+
+        @Param({"100000", "310000", "600000"})
+        private int iterations;
+
+        private PasswordHasher hasher;
+        private String stored;
+
+        @Setup
+        public void setUp() {
+            hasher = new PasswordHasher(iterations);
+            stored = hasher.hash(PASSWORD);
+        }
+    }
+
+    @Benchmark
+    public User loginCached(LoginState state) {
+        return state.authRepository.login(EMAIL, PASSWORD);
+    }
+
+    @Benchmark
+    public User loginWrongPassword(LoginState state) {
+        return state.authRepository.login(EMAIL, "wrong-password");
+    }
+
+    @Benchmark
+    public boolean verify(HashState state) {
+        return state.hasher.verify(PASSWORD, state.stored);
+    }
+}
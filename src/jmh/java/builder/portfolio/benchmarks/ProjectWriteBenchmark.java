@@ -0,0 +1,80 @@
+package builder.portfolio.benchmarks;
+
+import builder.portfolio.model.Project;
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.service.implementations.BuilderService;
+import builder.portfolio.service.implementations.ProjectManagerService;
+import builder.portfolio.util.SessionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures project creation and status updates through the services, on the in-memory backend.
+ *
+ * Both operations change state, so each iteration starts from a fresh store and runs a fixed
+ * batch of {@value #BATCH} operations: every {@link #updateProjectStatus} call completes one
+ * task of a project seeded with exactly {@value #BATCH} pending tasks. Reported times are per
+ * batch.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, batchSize = ProjectWriteBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = ProjectWriteBenchmark.BATCH)
+@Fork(1)
+public class ProjectWriteBenchmark {
+
+    static final int BATCH = 1_000;
+
+    @State(Scope.Thread)
+    public static class CreateState {
+
+        @Param({"1", "10", "50"})
+        private int phases;
+
+        private final BuilderService builderService = new BuilderService();
+        private LocalDate endDate;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws Exception {
+            BenchmarkData.use(RepositoryFactory.Backend.MEMORY, 0, 0);
+            SessionManager.setCurrentUser(BenchmarkData.BUILDER);
+            endDate = LocalDate.now().plusYears(1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class StatusState {
+
+        private final ProjectManagerService projectManagerService = new ProjectManagerService();
+        private long projectId;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws Exception {
+            projectId = BenchmarkData.use(RepositoryFactory.Backend.MEMORY, 1, BATCH).get(0);
+        }
+    }
+
+    @Benchmark
+    public Project createProjectService(CreateState state) {
+        return state.builderService.createProjectService("Tower", 100_000, 0,
+                BenchmarkData.MANAGER_ID, BenchmarkData.CLIENT_ID, state.endDate, state.phases);
+    }
+
+    @Benchmark
+    public int updateProjectStatus(StatusState state) {
+        return state.projectManagerService.updateProjectStatus(state.projectId, 1);
+    }
+}
@@ -0,0 +1,76 @@
+package builder.portfolio.benchmarks;
+
+import builder.portfolio.model.Project;
+import builder.portfolio.model.Task;
+import builder.portfolio.repository.CommonRepository;
+import builder.portfolio.repository.RepositoryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the project and task reads behind {@link CommonRepository#getAllProjects} and
+ * {@link CommonRepository#getAllTasks}, including the mapping of rows to models.
+ *
+ * {@link #findProjects()} bypasses the project list cache, so it measures the query and
+ * mapping; {@link #getAllProjectsCached()} measures the cached path the menus use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryReadBenchmark {
+
+    @Param({"MEMORY", "JDBC"})
+    private RepositoryFactory.Backend backend;
+
+    @Param({"100"})
+    private int projects;
+
+    @Param({"20"})
+    private int tasksPerProject;
+
+    private long projectId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        List<Long> projectIds = BenchmarkData.use(backend, projects, tasksPerProject);
+        projectId = projectIds.get(projectIds.size() / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkData.close();
+    }
+
+    @Benchmark
+    public List<Project> findProjects() {
+        return RepositoryFactory.projects().findByUser(BenchmarkData.BUILDER);
+    }
+
+    @Benchmark
+    public List<Project> getAllProjectsCached() {
+        return CommonRepository.getAllProjects(BenchmarkData.BUILDER);
+    }
+
+    @Benchmark
+    public List<Task> getAllTasks() {
+        return CommonRepository.getAllTasks(projectId);
+    }
+}
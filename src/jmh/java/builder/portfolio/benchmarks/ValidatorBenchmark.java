@@ -0,0 +1,79 @@
+package builder.portfolio.benchmarks;
+
+import builder.portfolio.util.ValidatorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the input validations run on every prompt, for valid and invalid input.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    private String email;
+    private String password;
+    private String name;
+    private String documentPath;
+    private String role;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        email = valid ? "site.manager@builder-portfolio.com" : "site.manager@builder-portfolio";
+        password = valid ? "secret123" : "abc";
+        name = valid ? "Tower Block East" : "Tower Block 7";
+        documentPath = valid ? "/plans/floor-1.PDF" : "/plans/floor-1.docx";
+        role = valid ? "project_manager" : "architect";
+        date = valid ? LocalDate.now().plusDays(30) : LocalDate.now().minusDays(1);
+    }
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return ValidatorUtil.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean isValidPassword() {
+        return ValidatorUtil.isValidPassword(password);
+    }
+
+    @Benchmark
+    public boolean isValidName() {
+        return ValidatorUtil.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean isValidDocumentPath() {
+        return ValidatorUtil.isValidDocumentPath(documentPath);
+    }
+
+    @Benchmark
+    public boolean isValidRole() {
+        return ValidatorUtil.isValidRole(role);
+    }
+
+    @Benchmark
+    public boolean isValidDate() {
+        return ValidatorUtil.isValidDate(date);
+    }
+}
@@ -1,9 +1,29 @@
 package builder.portfolio;
 
+import builder.portfolio.api.ApiServer;
+import builder.portfolio.batch.BatchRunner;
 import builder.portfolio.controller.MainController;
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.util.MigrationRunner;
+import builder.portfolio.util.OutboxRelay;
+
+import java.util.Arrays;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        if (RepositoryFactory.getBackend() == RepositoryFactory.Backend.JDBC) {
+            MigrationRunner.migrateOnStartup();
+            OutboxRelay.startShared();
+        }
+        if (args.length > 0 && args[0].equals("--api")) {
+            ApiServer server = ApiServer.fromConfig();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(5), "api-shutdown"));
+            server.start();
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--batch")) {
+            System.exit(BatchRunner.runCommandLine(Arrays.copyOfRange(args, 1, args.length)));
+        }
         MainController controller = new MainController();
         controller.start();
     }
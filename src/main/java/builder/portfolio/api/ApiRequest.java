@@ -0,0 +1,178 @@
+package builder.portfolio.api;
+
+import builder.portfolio.exceptions.ApiException;
+import builder.portfolio.model.Session;
+import builder.portfolio.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One HTTP API request: its path parameters, query parameters, JSON body and the caller's session.
+ *
+ * The typed accessors fail with a 400 {@link ApiException} when a value is missing or malformed.
+ */
+@Getter
+public class ApiRequest {
+    private final Map<String, String> pathParameters;
+    private final Map<String, String> queryParameters;
+    private final byte[] body;
+    private final Session session;
+    private final ObjectMapper mapper;
+    private JsonNode json;
+
+    ApiRequest(Map<String, String> pathParameters, String rawQuery, byte[] body, Session session,
+               ObjectMapper mapper) {
+        this.pathParameters = pathParameters;
+        this.queryParameters = parseQuery(rawQuery);
+        this.body = body;
+        this.session = session;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return the logged-in user of the request, or {@code null} for public endpoints
+     */
+    public User getUser() {
+        return session == null ? null : session.getCurrentUser();
+    }
+
+    /**
+     * Reads a numeric path parameter.
+     *
+     * @param name the parameter name
+     * @return the value
+     */
+    public long pathLong(String name) {
+        return parseLong(name, pathParameters.get(name));
+    }
+
+    /**
+     * Reads a numeric query parameter.
+     *
+     * @param name         the parameter name
+     * @param defaultValue the value used when the parameter is absent
+     * @return the value or {@code defaultValue}
+     */
+    public long queryLong(String name, long defaultValue) {
+        String value = queryParameters.get(name);
+        return value == null || value.isBlank() ? defaultValue : parseLong(name, value);
+    }
+
+    /**
+     * Reads a text field of the JSON body.
+     *
+     * @param name the field name
+     * @return the value
+     */
+    public String text(String name) {
+        return field(name).asText();
+    }
+
+    /**
+     * Reads a numeric field of the JSON body.
+     *
+     * @param name the field name
+     * @return the value
+     */
+    public double number(String name) {
+        JsonNode field = field(name);
+        if (!field.isNumber()) {
+            throw new ApiException(400, "Field '" + name + "' must be a number");
+        }
+        return field.asDouble();
+    }
+
+    /**
+     * Reads an integral field of the JSON body.
+     *
+     * @param name the field name
+     * @return the value
+     */
+    public long longValue(String name) {
+        JsonNode field = field(name);
+        if (!field.canConvertToLong() || !field.isIntegralNumber()) {
+            throw new ApiException(400, "Field '" + name + "' must be an integer");
+        }
+        return field.asLong();
+    }
+
+    /**
+     * Reads an ISO-8601 date field ({@code yyyy-MM-dd}) of the JSON body.
+     *
+     * @param name the field name
+     * @return the value
+     */
+    public LocalDate date(String name) {
+        try {
+            return LocalDate.parse(text(name));
+        } catch (DateTimeParseException dateTimeParseException) {
+            throw new ApiException(400, "Field '" + name + "' must be a date (yyyy-MM-dd)");
+        }
+    }
+
+    /**
+     * Binds the whole JSON body to a type.
+     *
+     * @param type the target type
+     * @param <T>  the target type
+     * @return the bound value
+     */
+    public <T> T body(Class<T> type) {
+        try {
+            return mapper.treeToValue(json(), type);
+        } catch (JsonProcessingException jsonProcessingException) {
+            throw new ApiException(400, "Malformed request body");
+        }
+    }
+
+    private JsonNode field(String name) {
+        JsonNode field = json().get(name);
+        if (field == null || field.isNull()) {
+            throw new ApiException(400, "Missing field '" + name + "'");
+        }
+        return field;
+    }
+
+    private JsonNode json() {
+        if (json == null) {
+            try {
+                json = body.length == 0 ? mapper.createObjectNode() : mapper.readTree(body);
+            } catch (IOException ioException) {
+                throw new ApiException(400, "Malformed JSON body");
+            }
+        }
+        return json;
+    }
+
+    private static long parseLong(String name, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException numberFormatException) {
+            throw new ApiException(400, "Parameter '" + name + "' must be an integer");
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,314 @@
+package builder.portfolio.api;
+
+import builder.portfolio.exceptions.ApiException;
+import builder.portfolio.model.AuditTrail;
+import builder.portfolio.model.Document;
+import builder.portfolio.model.Project;
+import builder.portfolio.model.ProjectTimeline;
+import builder.portfolio.model.Session;
+import builder.portfolio.model.SpendEntry;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.CommonRepository;
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.service.implementations.AdminService;
+import builder.portfolio.service.implementations.AuthService;
+import builder.portfolio.service.implementations.BuilderService;
+import builder.portfolio.service.implementations.ClientService;
+import builder.portfolio.service.implementations.ProjectManagerService;
+import builder.portfolio.util.FileReaderUtil;
+import builder.portfolio.util.FileWriterUtil;
+import builder.portfolio.util.PagingUtil;
+import builder.portfolio.util.SessionManager;
+import builder.portfolio.util.SessionRegistry;
+import builder.portfolio.util.ValidatorUtil;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * The endpoints of the {@link ApiServer}, mapped onto the services.
+ *
+ * <pre>
+ * GET    /api/health                                  public
+ * POST   /api/auth/login        {email, password}     public; returns {sessionId, user}
+ * POST   /api/auth/register     {name, email, password, role}  public, not for ADMIN; returns {sessionId, user}
+ * POST   /api/auth/logout                             any role
+ * GET    /api/auth/me                                 any role; the session user
+ * GET    /api/projects?after=&amp;size=                   any role; the caller's projects
+ * GET    /api/projects/{id}/budget|tasks|documents|timeline  any role with access to the project
+ * POST   /api/projects          {projectName, plannedBudget, projectManagerId, clientId, endDate, numberOfTasks}  BUILDER
+ * PUT    /api/projects/{id}     {projectName, plannedBudget}  BUILDER
+ * DELETE /api/projects/{id}                           BUILDER
+ * PUT    /api/projects/{id}/manager  {projectManagerId}  BUILDER
+ * POST   /api/projects/{id}/documents  {documentName, documentPath}  BUILDER, PROJECT_MANAGER
+ * POST   /api/projects/{id}/progress   {tasksCompleted}  PROJECT_MANAGER
+ * POST   /api/projects/{id}/spend      {amount}          PROJECT_MANAGER
+ * POST   /api/spend-ledger      [{projectId, amount}]  PROJECT_MANAGER
+ * GET    /api/audit?after=&amp;size=                      ADMIN
+ * DELETE /api/users/{role}/{id}                       ADMIN; role is builders, project-managers or clients
+ * </pre>
+ * Project endpoints answer 404 for projects the caller has no access to, like the console
+ * only lists the caller's own projects. Successful changes are recorded in the audit trail
+ * under the same actions as in the console.
+ */
+class ApiRoutes {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Set<UserRole> ANY = EnumSet.noneOf(UserRole.class);
+    private static final Set<UserRole> BUILDER = EnumSet.of(UserRole.BUILDER);
+    private static final Set<UserRole> PROJECT_MANAGER = EnumSet.of(UserRole.PROJECT_MANAGER);
+    private static final Set<UserRole> ADMIN = EnumSet.of(UserRole.ADMIN);
+
+    private final SessionRegistry sessions;
+    private final AuthService authService = new AuthService();
+    private final BuilderService builderService = new BuilderService();
+    private final ProjectManagerService projectManagerService = new ProjectManagerService();
+    private final ClientService clientService = new ClientService();
+    private final AdminService adminService = new AdminService();
+
+    ApiRoutes(SessionRegistry sessions) {
+        this.sessions = sessions;
+    }
+
+    void register(ApiServer server) {
+        server.publicRoute("GET", "/api/health", request -> Map.of("status", "UP"));
+        server.publicRoute("POST", "/api/auth/login", this::login);
+        server.publicRoute("POST", "/api/auth/register", this::register);
+        server.route("POST", "/api/auth/logout", ANY, this::logout);
+        server.route("GET", "/api/auth/me", ANY, request -> SessionManager.getCurrentUser());
+
+        server.route("GET", "/api/projects", ANY, this::listProjects);
+        server.route("GET", "/api/projects/{id}/budget", ANY, request ->
+                Map.of("projectId", requireProject(request).getProjectId(),
+                        "budgetStatus", clientService.trackBudget(request.pathLong("id"))));
+        server.route("GET", "/api/projects/{id}/tasks", ANY, request ->
+                CommonRepository.getAllTasks(requireProject(request).getProjectId()));
+        server.route("GET", "/api/projects/{id}/documents", ANY, request ->
+                clientService.getUploadedDocs(requireProject(request).getProjectId()));
+        server.route("GET", "/api/projects/{id}/timeline", ANY, this::timeline);
+
+        server.route("POST", "/api/projects", BUILDER, this::createProject);
+        server.route("PUT", "/api/projects/{id}", BUILDER, this::updateProject);
+        server.route("DELETE", "/api/projects/{id}", BUILDER, this::deleteProject);
+        server.route("PUT", "/api/projects/{id}/manager", BUILDER, this::updateProjectManager);
+        server.route("POST", "/api/projects/{id}/documents", EnumSet.of(UserRole.BUILDER, UserRole.PROJECT_MANAGER),
+                this::uploadDocument);
+
+        server.route("POST", "/api/projects/{id}/progress", PROJECT_MANAGER, this::updateProgress);
+        server.route("POST", "/api/projects/{id}/spend", PROJECT_MANAGER, this::updateSpend);
+        server.route("POST", "/api/spend-ledger", PROJECT_MANAGER, this::applySpendLedger);
+
+        server.route("GET", "/api/audit", ADMIN, request ->
+                FileReaderUtil.readAuditTrailPage(request.queryLong("after", 0), pageSize(request)));
+        server.route("DELETE", "/api/users/{role}/{id}", ADMIN, this::deleteUser);
+    }
+
+    private Object login(ApiRequest request) {
+        User user = authService.login(request.text("email"), request.text("password"));
+        if (user == null) {
+            throw new ApiException(401, "Invalid credentials");
+        }
+        return openSession(user, "User Logged In");
+    }
+
+    /**
+     * Registration is public, so it must not create admin accounts.
+     */
+    private Object register(ApiRequest request) {
+        String role = request.text("role");
+        if (!ValidatorUtil.isValidRole(role)) {
+            throw new ApiException(400, "Role must be one of " + Arrays.toString(UserRole.values()));
+        }
+        UserRole userRole = UserRole.valueOf(role.toUpperCase(Locale.ROOT));
+        if (userRole == UserRole.ADMIN) {
+            throw new ApiException(403, "Admin accounts cannot be registered");
+        }
+        User user = authService.register(request.text("name"), request.text("email"), request.text("password"),
+                userRole);
+        if (user == null) {
+            throw new ApiException(400, "Registration failed");
+        }
+        return openSession(user, "User Registered");
+    }
+
+    private Object openSession(User user, String action) {
+        Session session = sessions.create();
+        session.setCurrentUser(user);
+        FileWriterUtil.writeAuditTrail(new AuditTrail(action, user));
+        return Map.of("sessionId", session.getSessionId(), "user", user);
+    }
+
+    private Object logout(ApiRequest request) {
+        sessions.invalidate(request.getSession().getSessionId());
+        SessionManager.clearSession();
+        return null;
+    }
+
+    private Object listProjects(ApiRequest request) {
+        User user = request.getUser();
+        long after = request.queryLong("after", 0);
+        int size = pageSize(request);
+        return switch (user.getRole()) {
+            case ADMIN -> adminService.viewAllProjects(user, after, size);
+            case CLIENT -> clientService.viewOwnedProjects(user, after, size);
+            default -> CommonRepository.getProjectsPage(user, after, size);
+        };
+    }
+
+    private Object timeline(ApiRequest request) {
+        ProjectTimeline timeline = builderService.getProjectTimeline(requireProject(request).getProjectId());
+        if (timeline == null) {
+            throw new ApiException(404, "Timeline not available");
+        }
+        return timeline;
+    }
+
+    private Object createProject(ApiRequest request) {
+        long projectManagerId = request.longValue("projectManagerId");
+        long clientId = request.longValue("clientId");
+        requireUser(UserRole.PROJECT_MANAGER, projectManagerId);
+        requireUser(UserRole.CLIENT, clientId);
+        if (!ValidatorUtil.isValidDate(request.date("endDate"))) {
+            throw new ApiException(400, "End date cannot be in the past");
+        }
+        long numberOfTasks = request.longValue("numberOfTasks");
+        if (numberOfTasks < 0 || numberOfTasks > 1_000) {
+            throw new ApiException(400, "numberOfTasks must be between 0 and 1000");
+        }
+
+        Project project = builderService.createProjectService(request.text("projectName"), request.number("plannedBudget"),
+                0, projectManagerId, clientId, request.date("endDate"), (int) numberOfTasks);
+        if (project == null) {
+            throw new ApiException(400, "Unable to add project");
+        }
+        SessionManager.setCurrentProject(project);
+        audit("Create Project");
+        return project;
+    }
+
+    private Object updateProject(ApiRequest request) {
+        long projectId = requireProject(request).getProjectId();
+        Project project = builderService.updateProjectService(projectId, request.text("projectName"),
+                request.number("plannedBudget"));
+        if (project == null) {
+            throw new ApiException(400, "Unable to update project");
+        }
+        audit("Update Project");
+        return project;
+    }
+
+    private Object deleteProject(ApiRequest request) {
+        if (!builderService.deleteProjectService(requireProject(request).getProjectId())) {
+            throw new ApiException(400, "Unable to delete project");
+        }
+        audit("Delete Project");
+        return null;
+    }
+
+    private Object updateProjectManager(ApiRequest request) {
+        long projectId = requireProject(request).getProjectId();
+        long projectManagerId = request.longValue("projectManagerId");
+        requireUser(UserRole.PROJECT_MANAGER, projectManagerId);
+        if (!builderService.updateProjectManagerService(projectId, projectManagerId)) {
+            throw new ApiException(400, "Unable to update project manager");
+        }
+        audit("Updated Project Manager");
+        return Map.of("projectId", projectId, "projectManagerId", projectManagerId);
+    }
+
+    private Object uploadDocument(ApiRequest request) {
+        long projectId = requireProject(request).getProjectId();
+        String documentPath = request.text("documentPath");
+        if (!ValidatorUtil.isValidDocumentPath(documentPath)) {
+            throw new ApiException(400, "Document path must end with .pdf, .png or .jpg");
+        }
+        Document document = builderService.uploadDocumentDetails(projectId, request.text("documentName"), documentPath);
+        if (document == null) {
+            throw new ApiException(400, "Unable to save document");
+        }
+        audit(request.getUser().getRole() == UserRole.BUILDER ? "Documents Saved Successfully" : "Document Saved");
+        return document;
+    }
+
+    private Object updateProgress(ApiRequest request) {
+        long projectId = requireProject(request).getProjectId();
+        long tasksCompleted = request.longValue("tasksCompleted");
+        if (tasksCompleted < 0 || tasksCompleted > Integer.MAX_VALUE) {
+            throw new ApiException(400, "tasksCompleted must not be negative");
+        }
+        int updatedTasks = projectManagerService.updateProjectStatus(projectId, (int) tasksCompleted);
+        if (updatedTasks > 0) {
+            audit("Updated Project Status");
+        }
+        return Map.of("projectId", projectId, "updatedTasks", updatedTasks);
+    }
+
+    private Object updateSpend(ApiRequest request) {
+        long projectId = requireProject(request).getProjectId();
+        double actualSpend = projectManagerService.updateActualSpend(projectId, request.number("amount"));
+        if (actualSpend == 0) {
+            throw new ApiException(400, "Unable to update spend");
+        }
+        audit("Updated Project Spend");
+        return Map.of("projectId", projectId, "actualSpend", actualSpend);
+    }
+
+    private Object applySpendLedger(ApiRequest request) {
+        List<SpendEntry> entries = Arrays.asList(request.body(SpendEntry[].class));
+        LongPredicate managed = projectId ->
+                ValidatorUtil.hasProjectAccess(request.getUser(), RepositoryFactory.projects().findById(projectId));
+        if (!entries.stream().allMatch(entry -> managed.test(entry.getProjectId()))) {
+            throw new ApiException(404, "Project not found");
+        }
+        Map<Long, Double> updated = projectManagerService.applySpendLedger(entries);
+        if (updated.isEmpty() && !entries.isEmpty()) {
+            throw new ApiException(400, "Spend ledger rejected");
+        }
+        audit("Updated Project Spend");
+        return updated;
+    }
+
+    private Object deleteUser(ApiRequest request) {
+        long userId = request.pathLong("id");
+        boolean deleted = switch (request.getPathParameters().get("role")) {
+            case "builders" -> requireUser(UserRole.BUILDER, userId) && adminService.deleteBuilder(userId);
+            case "project-managers" -> requireUser(UserRole.PROJECT_MANAGER, userId)
+                    && adminService.deleteProjectManager(userId);
+            case "clients" -> requireUser(UserRole.CLIENT, userId) && adminService.deleteClient(userId);
+            default -> throw new ApiException(404, "Not found");
+        };
+        if (!deleted) {
+            throw new ApiException(400, "Unable to delete user");
+        }
+        return null;
+    }
+
+    private Project requireProject(ApiRequest request) {
+        Project project = RepositoryFactory.projects().findById(request.pathLong("id"));
+        if (!ValidatorUtil.hasProjectAccess(request.getUser(), project)) {
+            throw new ApiException(404, "Project not found");
+        }
+        return project;
+    }
+
+    private static boolean requireUser(UserRole role, long userId) {
+        if (CommonRepository.getAllUsers(role).stream().noneMatch(user -> user.getUserId() == userId)) {
+            throw new ApiException(400, "No " + role + " with ID " + userId);
+        }
+        return true;
+    }
+
+    private static int pageSize(ApiRequest request) {
+        return (int) Math.max(1, Math.min(MAX_PAGE_SIZE, request.queryLong("size", PagingUtil.pageSize())));
+    }
+
+    private static void audit(String action) {
+        FileWriterUtil.writeAuditTrail(new AuditTrail(action, SessionManager.getCurrentUser()));
+    }
+}
@@ -0,0 +1,283 @@
+package builder.portfolio.api;
+
+import builder.portfolio.exceptions.ApiException;
+import builder.portfolio.model.Session;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.util.ConfigUtil;
+import builder.portfolio.util.SessionManager;
+import builder.portfolio.util.SessionRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded HTTP server exposing the service layer as a JSON API.
+ *
+ * Every request runs on its own virtual thread. Requests other than login, registration and
+ * the health check carry the session ID returned by login in the {@value #SESSION_HEADER}
+ * header; the session is bound to the request thread through {@link SessionManager}, so the
+ * services see the caller as the current user. Errors are returned as
+ * {@code {"error": "..."}} with a matching status code. The endpoints are listed in
+ * {@link ApiRoutes}.
+ *
+ * The server is configured by these optional properties in {@code application.properties}:
+ * api_port (default 8080), api_max_body_bytes (default 1048576).
+ *
+ * Example usage:
+ * ApiServer server = ApiServer.fromConfig();
+ * server.start();
+ */
+@Slf4j
+public class ApiServer {
+
+    /** Request header carrying the session ID. */
+    public static final String SESSION_HEADER = "X-Session-Id";
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every small
+        // response waits ~40ms on Nagle's algorithm and the client's delayed ACK.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /** Hides passwords from every serialized {@link User}. */
+    private abstract static class UserMixin {
+        @JsonIgnore
+        abstract String getPassword();
+    }
+
+    /**
+     * Handles the requests of one endpoint.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * @param request the request
+         * @return the response body, or {@code null} for an empty 204 response
+         */
+        Object handle(ApiRequest request);
+    }
+
+    /**
+     * One endpoint: a method, a path template such as {@code /api/projects/{id}}, the roles
+     * allowed to call it (none for a public endpoint) and its handler.
+     */
+    private static final class Route {
+        private final String method;
+        private final Pattern pattern;
+        private final List<String> parameterNames;
+        private final Set<UserRole> roles;
+        private final boolean isPublic;
+        private final Handler handler;
+
+        private Route(String method, String template, boolean isPublic, Set<UserRole> roles, Handler handler) {
+            this.method = method;
+            this.isPublic = isPublic;
+            this.roles = roles;
+            this.handler = handler;
+            this.parameterNames = new ArrayList<>();
+            Matcher matcher = Pattern.compile("\\{(\\w+)}").matcher(template);
+            StringBuilder regex = new StringBuilder();
+            int last = 0;
+            while (matcher.find()) {
+                regex.append(Pattern.quote(template.substring(last, matcher.start()))).append("([^/]+)");
+                parameterNames.add(matcher.group(1));
+                last = matcher.end();
+            }
+            regex.append(Pattern.quote(template.substring(last)));
+            this.pattern = Pattern.compile(regex.toString());
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final SessionRegistry sessions;
+    private final ObjectMapper mapper;
+    private final int maxBodyBytes;
+    private final List<Route> routes = new ArrayList<>();
+
+    /**
+     * Creates a server with the standard {@link ApiRoutes}; call {@link #start()} to accept requests.
+     *
+     * @param port         the port to listen on; 0 picks a free port
+     * @param maxBodyBytes largest accepted request body
+     * @param sessions     registry of the API sessions
+     */
+    public ApiServer(int port, int maxBodyBytes, SessionRegistry sessions) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.sessions = sessions;
+        this.maxBodyBytes = maxBodyBytes;
+        this.mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .addMixIn(User.class, UserMixin.class);
+        server.setExecutor(executor);
+        server.createContext("/api/", this::handle);
+        new ApiRoutes(sessions).register(this);
+    }
+
+    /**
+     * Creates a server from the application properties, using the shared {@link SessionRegistry}.
+     *
+     * @return the new {@link ApiServer}
+     */
+    public static ApiServer fromConfig() throws IOException {
+        Properties config = ConfigUtil.getProperties();
+        return new ApiServer(
+                ConfigUtil.intProperty(config, "api_port", 8080),
+                ConfigUtil.intProperty(config, "api_max_body_bytes", 1_048_576),
+                SessionRegistry.getShared());
+    }
+
+    /**
+     * Adds an endpoint that requires a logged-in user with one of the given roles; no roles
+     * admits every logged-in user.
+     */
+    void route(String method, String template, Set<UserRole> roles, Handler handler) {
+        routes.add(new Route(method, template, false, roles.isEmpty() ? EnumSet.allOf(UserRole.class) : roles, handler));
+    }
+
+    /**
+     * Adds an endpoint that needs no session.
+     */
+    void publicRoute(String method, String template, Handler handler) {
+        routes.add(new Route(method, template, true, Collections.emptySet(), handler));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        log.info("API server listening on port {}", getPort());
+    }
+
+    /**
+     * Stops the server, giving running requests up to {@code delaySeconds} to finish.
+     *
+     * @param delaySeconds the maximum wait
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the port the server listens on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int status;
+        Object response;
+        try {
+            response = dispatch(exchange);
+            status = response == null ? 204 : 200;
+        } catch (ApiException apiException) {
+            status = apiException.getStatus();
+            response = Map.of("error", apiException.getMessage());
+        } catch (IllegalArgumentException illegalArgumentException) {
+            status = 400;
+            response = Map.of("error", String.valueOf(illegalArgumentException.getMessage()));
+        } catch (Exception exception) {
+            log.error("API request {} {} failed", exchange.getRequestMethod(), exchange.getRequestURI(), exception);
+            status = 500;
+            response = Map.of("error", "Internal server error");
+        }
+
+        try {
+            if (response == null) {
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            byte[] bytes = mapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Object dispatch(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        boolean pathMatched = false;
+        for (Route route : routes) {
+            Matcher matcher = route.pattern.matcher(path);
+            if (!matcher.matches()) {
+                continue;
+            }
+            pathMatched = true;
+            if (!route.method.equals(exchange.getRequestMethod())) {
+                continue;
+            }
+
+            Map<String, String> parameters = new HashMap<>();
+            for (int i = 0; i < route.parameterNames.size(); i++) {
+                parameters.put(route.parameterNames.get(i), matcher.group(i + 1));
+            }
+            Session session = route.isPublic ? null : authenticate(exchange, route);
+            ApiRequest request = new ApiRequest(parameters, exchange.getRequestURI().getRawQuery(),
+                    readBody(exchange), session, mapper);
+            return session == null ? route.handler.handle(request)
+                    : SessionManager.callWith(session, () -> route.handler.handle(request));
+        }
+        throw pathMatched ? new ApiException(405, "Method not allowed") : new ApiException(404, "Not found");
+    }
+
+    private Session authenticate(HttpExchange exchange, Route route) {
+        Session session = sessions.get(exchange.getRequestHeaders().getFirst(SESSION_HEADER));
+        User user = session == null ? null : session.getCurrentUser();
+        if (user == null) {
+            throw new ApiException(401, "Login required");
+        }
+        if (!route.roles.contains(user.getRole())) {
+            throw new ApiException(403, "Not allowed for role " + user.getRole());
+        }
+        return session;
+    }
+
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(maxBodyBytes + 1);
+            if (body.length > maxBodyBytes) {
+                throw new ApiException(413, "Request body too large");
+            }
+            return body;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package builder.portfolio.batch;
+
+import builder.portfolio.model.enums.UserRole;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One line of a batch command file: the command, its arguments and its line number.
+ */
+@Getter
+@ToString
+public class BatchCommand {
+
+    /**
+     * The commands of a batch file, with their arguments and the roles allowed to run them.
+     */
+    @Getter
+    public enum Type {
+        /** {@code create-project <ref> <name> <plannedBudget> <managerId> <clientId> <endDate> <numberOfTasks>} */
+        CREATE_PROJECT("create-project", 7, EnumSet.of(UserRole.BUILDER)),
+        /** {@code add-spend <project> <amount>} */
+        ADD_SPEND("add-spend", 2, EnumSet.of(UserRole.PROJECT_MANAGER)),
+        /** {@code complete-tasks <project> <numberOfTasks>} */
+        COMPLETE_TASKS("complete-tasks", 2, EnumSet.of(UserRole.PROJECT_MANAGER)),
+        /** {@code upload-document <project> <documentName> <documentPath>} */
+        UPLOAD_DOCUMENT("upload-document", 3, EnumSet.of(UserRole.BUILDER, UserRole.PROJECT_MANAGER));
+
+        private final String keyword;
+        private final int arity;
+        private final Set<UserRole> roles;
+
+        Type(String keyword, int arity, Set<UserRole> roles) {
+            this.keyword = keyword;
+            this.arity = arity;
+            this.roles = roles;
+        }
+
+        /**
+         * @param keyword the command keyword of a line
+         * @return the matching {@link Type}, or {@code null} if there is none
+         */
+        public static Type fromKeyword(String keyword) {
+            for (Type type : values()) {
+                if (type.keyword.equals(keyword)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Type type;
+    private final int lineNumber;
+    private final List<String> arguments;
+
+    public BatchCommand(Type type, int lineNumber, List<String> arguments) {
+        this.type = type;
+        this.lineNumber = lineNumber;
+        this.arguments = List.copyOf(arguments);
+    }
+
+    /**
+     * @param index the position of the argument
+     * @return the argument
+     */
+    public String argument(int index) {
+        return arguments.get(index);
+    }
+}
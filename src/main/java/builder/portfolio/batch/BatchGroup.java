@@ -0,0 +1,22 @@
+package builder.portfolio.batch;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Commands of a batch file that are validated together and applied in order: the lines
+ * between {@code begin} and {@code commit}, or a single command outside such a block.
+ */
+@Getter
+@ToString
+public class BatchGroup {
+    private final String name;
+    private final List<BatchCommand> commands;
+
+    public BatchGroup(String name, List<BatchCommand> commands) {
+        this.name = name;
+        this.commands = List.copyOf(commands);
+    }
+}
@@ -0,0 +1,112 @@
+package builder.portfolio.batch;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a batch run: the result of every group and the elapsed time.
+ */
+@Getter
+@ToString
+public class BatchReport {
+
+    /**
+     * Outcome of one {@link BatchGroup}. A group stops at its first failing command; the
+     * commands before it are rolled back and the commands after it are skipped, so a failed
+     * group has no applied commands.
+     */
+    @Getter
+    @ToString
+    public static class GroupResult {
+        private final String name;
+        private final int commands;
+        private final int applied;
+        private final String failure;
+
+        public GroupResult(String name, int commands, int applied, String failure) {
+            this.name = name;
+            this.commands = commands;
+            this.applied = applied;
+            this.failure = failure;
+        }
+
+        /**
+         * @return {@code true} if every command of the group was applied
+         */
+        public boolean isSucceeded() {
+            return failure == null;
+        }
+
+        /**
+         * @return the number of commands neither applied nor failed, including rolled back ones
+         */
+        public int getSkipped() {
+            return commands - applied - (failure == null ? 0 : 1);
+        }
+    }
+
+    private final List<GroupResult> groups;
+    private final long elapsedNanos;
+
+    public BatchReport(List<GroupResult> groups, long elapsedNanos) {
+        this.groups = List.copyOf(groups);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the number of groups whose commands were all applied
+     */
+    public long getSucceededGroups() {
+        return groups.stream().filter(GroupResult::isSucceeded).count();
+    }
+
+    /**
+     * @return the number of groups that stopped at a failing command
+     */
+    public long getFailedGroups() {
+        return groups.size() - getSucceededGroups();
+    }
+
+    /**
+     * @return the number of commands applied
+     */
+    public long getAppliedCommands() {
+        return groups.stream().mapToLong(GroupResult::getApplied).sum();
+    }
+
+    /**
+     * @return the number of commands skipped or rolled back because another command of their group failed
+     */
+    public long getSkippedCommands() {
+        return groups.stream().mapToLong(GroupResult::getSkipped).sum();
+    }
+
+    /**
+     * @return the applied commands per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getAppliedCommands() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Formats the totals, the throughput and one line per failed group.
+     *
+     * @return the summary text
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+                "Groups: %d succeeded, %d failed%nCommands: %d applied, %d failed, %d skipped%n"
+                        + "Elapsed: %.1f ms (%.1f commands/s)%n",
+                getSucceededGroups(), getFailedGroups(), getAppliedCommands(), getFailedGroups(),
+                getSkippedCommands(), elapsedNanos / 1e6, getThroughput()));
+        for (GroupResult group : groups) {
+            if (!group.isSucceeded()) {
+                summary.append(String.format("Failed %s: %s%n", group.getName(), group.getFailure()));
+            }
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,507 @@
+package builder.portfolio.batch;
+
+import builder.portfolio.model.AuditTrail;
+import builder.portfolio.model.Document;
+import builder.portfolio.model.Project;
+import builder.portfolio.model.Session;
+import builder.portfolio.model.SpendEntry;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.CommonRepository;
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.service.implementations.AuthService;
+import builder.portfolio.service.implementations.BuilderService;
+import builder.portfolio.service.implementations.ProjectManagerService;
+import builder.portfolio.util.ConfigUtil;
+import builder.portfolio.util.FileWriterUtil;
+import builder.portfolio.util.SessionManager;
+import builder.portfolio.util.ValidatorUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a command file against the services without the console menus.
+ *
+ * A command file holds one command per line; blank lines and lines starting with {@code #}
+ * are ignored, and arguments containing spaces are written in double quotes:
+ * <pre>
+ * create-project &lt;ref&gt; &lt;name&gt; &lt;plannedBudget&gt; &lt;managerId&gt; &lt;clientId&gt; &lt;endDate&gt; &lt;numberOfTasks&gt;   BUILDER
+ * add-spend &lt;project&gt; &lt;amount&gt;                                   PROJECT_MANAGER
+ * complete-tasks &lt;project&gt; &lt;numberOfTasks&gt;                        PROJECT_MANAGER
+ * upload-document &lt;project&gt; &lt;documentName&gt; &lt;documentPath&gt;          BUILDER, PROJECT_MANAGER
+ * </pre>
+ * {@code <project>} is a project ID or the {@code @ref} given to a project created earlier in
+ * the same group, {@code <endDate>} is {@code yyyy-MM-dd}.
+ *
+ * Commands between {@code begin [name]} and {@code commit} form a group; any other command
+ * is a group of its own. Groups run in parallel on {@code batch_threads} threads (default:
+ * the number of processors), the commands of a group in file order on one thread. Every
+ * command of a group is checked before the first one runs: role, ownership of the projects,
+ * user IDs and values. A group then runs as one unit of work
+ * ({@link RepositoryFactory#inTransaction}): it stops at its first failing command and the
+ * changes of its earlier commands are rolled back, so a failed group changes nothing. The
+ * commands of a group that succeeded are audited like their console counterparts.
+ *
+ * The whole batch runs as one logged-in user, with the same role and ownership checks as the
+ * menus. A file with a syntax error is rejected before anything runs.
+ *
+ * Example usage:
+ * BatchReport report = BatchRunner.fromConfig().run(user, BatchRunner.parse(reader));
+ */
+@Slf4j
+public class BatchRunner {
+
+    /** Environment variable holding the password of the batch user. */
+    public static final String PASSWORD_VARIABLE = "PORTFOLIO_PASSWORD";
+
+    private static final int MAX_TASKS = 1_000;
+
+    private final int threads;
+    private final BuilderService builderService;
+    private final ProjectManagerService projectManagerService;
+
+    /**
+     * @param threads the number of groups run in parallel
+     */
+    public BatchRunner(int threads) {
+        this(threads, new BuilderService(), new ProjectManagerService());
+    }
+
+    BatchRunner(int threads, BuilderService builderService, ProjectManagerService projectManagerService) {
+        this.threads = Math.max(1, threads);
+        this.builderService = builderService;
+        this.projectManagerService = projectManagerService;
+    }
+
+    /**
+     * Creates a runner with {@code batch_threads} threads from the application properties.
+     *
+     * @return the new {@link BatchRunner}
+     */
+    public static BatchRunner fromConfig() {
+        return new BatchRunner(ConfigUtil.intProperty(ConfigUtil.getProperties(), "batch_threads",
+                Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Runs {@code --batch <file> <email>} from the command line: logs in with the password from
+     * {@value #PASSWORD_VARIABLE}, runs the file and prints the summary.
+     *
+     * @param args the file and the email of the batch user
+     * @return the process exit code: 0 if every group succeeded, 1 if any failed, 2 if nothing ran
+     */
+    public static int runCommandLine(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Usage: --batch <command file> <email>  (password in " + PASSWORD_VARIABLE + ")");
+            return 2;
+        }
+        String password = System.getenv(PASSWORD_VARIABLE);
+        User user = password == null ? null : new AuthService().login(args[1], password);
+        if (user == null) {
+            System.out.println("Login failed: set " + PASSWORD_VARIABLE + " to the password of " + args[1]);
+            return 2;
+        }
+
+        List<BatchGroup> groups;
+        try (Reader reader = Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8)) {
+            groups = parse(reader);
+        } catch (IOException ioException) {
+            System.out.println("Unable to read " + args[0] + ": " + ioException.getMessage());
+            return 2;
+        } catch (IllegalArgumentException illegalArgumentException) {
+            System.out.println("Batch rejected: " + illegalArgumentException.getMessage());
+            return 2;
+        }
+
+        BatchReport report = fromConfig().run(user, groups);
+        System.out.print(report.summary());
+        return report.getFailedGroups() == 0 ? 0 : 1;
+    }
+
+    /**
+     * Parses a command file into its groups.
+     *
+     * @param reader the command file
+     * @return the {@link BatchGroup}s in file order
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed; the message names the line
+     */
+    public static List<BatchGroup> parse(Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        List<BatchGroup> groups = new ArrayList<>();
+        List<BatchCommand> open = null;
+        String openName = null;
+        int openLine = 0;
+        int lineNumber = 0;
+
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            lineNumber++;
+            List<String> tokens = tokenize(line, lineNumber);
+            if (tokens.isEmpty()) {
+                continue;
+            }
+            String keyword = tokens.get(0);
+            if (keyword.equals("begin")) {
+                if (open != null) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": group of line " + openLine + " is not committed");
+                }
+                if (tokens.size() > 2) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": usage: begin [name]");
+                }
+                open = new ArrayList<>();
+                openLine = lineNumber;
+                openName = tokens.size() == 2 ? tokens.get(1) + " (line " + lineNumber + ")" : "group at line " + lineNumber;
+            } else if (keyword.equals("commit")) {
+                if (open == null || tokens.size() > 1) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": commit without begin");
+                }
+                groups.add(new BatchGroup(openName, open));
+                open = null;
+            } else {
+                BatchCommand command = parseCommand(tokens, lineNumber);
+                if (open != null) {
+                    open.add(command);
+                } else {
+                    groups.add(new BatchGroup("line " + lineNumber, List.of(command)));
+                }
+            }
+        }
+        if (open != null) {
+            throw new IllegalArgumentException("Line " + openLine + ": begin without commit");
+        }
+        return groups;
+    }
+
+    /**
+     * Runs the groups in parallel as the given user and waits for all of them.
+     *
+     * @param user   the logged-in user the commands run as
+     * @param groups the groups to run
+     * @return the {@link BatchReport}, with the group results in the order of {@code groups}
+     */
+    public BatchReport run(User user, List<BatchGroup> groups) {
+        long start = System.nanoTime();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, groups.size())), runnable -> {
+            Thread thread = new Thread(runnable, "batch-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<BatchReport.GroupResult>> futures = new ArrayList<>(groups.size());
+        for (BatchGroup group : groups) {
+            Session session = new Session("batch-" + group.getName(), System.currentTimeMillis());
+            session.setCurrentUser(user);
+            futures.add(executor.submit(() -> SessionManager.callWith(session, () -> runGroup(group))));
+        }
+
+        List<BatchReport.GroupResult> results = new ArrayList<>(groups.size());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(await(futures.get(i), groups.get(i)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        BatchReport report = new BatchReport(results, System.nanoTime() - start);
+        log.info("Batch of {} groups finished: {} commands applied, {} groups failed",
+                groups.size(), report.getAppliedCommands(), report.getFailedGroups());
+        return report;
+    }
+
+    private static BatchReport.GroupResult await(Future<BatchReport.GroupResult> future, BatchGroup group) {
+        try {
+            return future.get();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            return new BatchReport.GroupResult(group.getName(), group.getCommands().size(), 0, "interrupted");
+        } catch (ExecutionException executionException) {
+            log.error("Batch group {} failed", group.getName(), executionException.getCause());
+            return new BatchReport.GroupResult(group.getName(), group.getCommands().size(), 0,
+                    "unexpected error: " + executionException.getCause());
+        }
+    }
+
+    /**
+     * Validates the group, then applies its commands in order as one unit of work and audits
+     * them once it has been committed.
+     */
+    private BatchReport.GroupResult runGroup(BatchGroup group) {
+        List<BatchCommand> commands = group.getCommands();
+        try {
+            validate(SessionManager.getCurrentUser(), commands);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            return new BatchReport.GroupResult(group.getName(), commands.size(), 0, illegalArgumentException.getMessage());
+        }
+
+        List<String> audits = new ArrayList<>();
+        try {
+            RepositoryFactory.inTransaction(() -> {
+                Map<String, Long> references = new HashMap<>();
+                for (BatchCommand command : commands) {
+                    String failure = apply(command, references, audits);
+                    if (failure != null) {
+                        throw new GroupFailedException("line " + command.getLineNumber() + ": " + failure);
+                    }
+                }
+                return null;
+            });
+        } catch (GroupFailedException groupFailedException) {
+            return new BatchReport.GroupResult(group.getName(), commands.size(), 0, groupFailedException.getMessage());
+        } catch (Exception exception) {
+            log.error("Batch group {} was rolled back", group.getName(), exception);
+            return new BatchReport.GroupResult(group.getName(), commands.size(), 0,
+                    "rolled back: " + exception.getMessage());
+        }
+        audits.forEach(BatchRunner::audit);
+        return new BatchReport.GroupResult(group.getName(), commands.size(), commands.size(), null);
+    }
+
+    /**
+     * Applies one command and adds the actions to audit once the group is committed.
+     *
+     * @return {@code null} on success, otherwise the reason of the failure
+     */
+    private String apply(BatchCommand command, Map<String, Long> references, List<String> audits) {
+        switch (command.getType()) {
+            case CREATE_PROJECT: {
+                Project project = builderService.createProjectService(command.argument(1),
+                        Double.parseDouble(command.argument(2)), 0, Long.parseLong(command.argument(3)),
+                        Long.parseLong(command.argument(4)), LocalDate.parse(command.argument(5)),
+                        Integer.parseInt(command.argument(6)));
+                if (project == null) {
+                    return "unable to add project";
+                }
+                references.put(command.argument(0), project.getProjectId());
+                audits.add("Create Project");
+                return null;
+            }
+            case ADD_SPEND: {
+                long projectId = projectId(command.argument(0), references);
+                SpendEntry entry = new SpendEntry(projectId, Double.parseDouble(command.argument(1)));
+                if (projectManagerService.applySpendLedger(List.of(entry)).isEmpty()) {
+                    return "unable to add spend to project " + projectId;
+                }
+                audits.add("Updated Project Spend");
+                return null;
+            }
+            case COMPLETE_TASKS: {
+                int updatedTasks = projectManagerService.updateProjectStatus(
+                        projectId(command.argument(0), references), Integer.parseInt(command.argument(1)));
+                if (updatedTasks > 0) {
+                    audits.add("Updated Project Status");
+                }
+                return null;
+            }
+            case UPLOAD_DOCUMENT: {
+                Document document = builderService.uploadDocumentDetails(projectId(command.argument(0), references),
+                        command.argument(1), command.argument(2));
+                if (document == null) {
+                    return "unable to save document";
+                }
+                audits.add(SessionManager.getCurrentUser().getRole() == UserRole.BUILDER
+                        ? "Documents Saved Successfully" : "Document Saved");
+                return null;
+            }
+            default:
+                throw new IllegalStateException("Unexpected command " + command.getType());
+        }
+    }
+
+    /**
+     * Checks every command of a group before any of them runs.
+     *
+     * @throws IllegalArgumentException naming the line of the first invalid command
+     */
+    private static void validate(User user, List<BatchCommand> commands) {
+        Set<String> references = new HashSet<>();
+        for (BatchCommand command : commands) {
+            String line = "line " + command.getLineNumber() + ": ";
+            if (!command.getType().getRoles().contains(user.getRole())) {
+                throw new IllegalArgumentException(line + command.getType().getKeyword()
+                        + " is not allowed for role " + user.getRole());
+            }
+
+            switch (command.getType()) {
+                case CREATE_PROJECT:
+                    String reference = command.argument(0);
+                    if (!reference.startsWith("@") || reference.length() == 1 || !references.add(reference)) {
+                        throw new IllegalArgumentException(line + "project reference must be a new @name");
+                    }
+                    requireText(line, "project name", command.argument(1));
+                    requireNumber(line, "planned budget", command.argument(2));
+                    requireUser(line, UserRole.PROJECT_MANAGER, command.argument(3));
+                    requireUser(line, UserRole.CLIENT, command.argument(4));
+                    requireEndDate(line, command.argument(5));
+                    requireCount(line, command.argument(6), MAX_TASKS);
+                    break;
+                case ADD_SPEND:
+                    requireProject(line, user, command.argument(0), references);
+                    requireNumber(line, "amount", command.argument(1));
+                    break;
+                case COMPLETE_TASKS:
+                    requireProject(line, user, command.argument(0), references);
+                    requireCount(line, command.argument(1), Integer.MAX_VALUE);
+                    break;
+                case UPLOAD_DOCUMENT:
+                    requireProject(line, user, command.argument(0), references);
+                    requireText(line, "document name", command.argument(1));
+                    if (!ValidatorUtil.isValidDocumentPath(command.argument(2))) {
+                        throw new IllegalArgumentException(line + "document path must end with .pdf, .png or .jpg");
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected command " + command.getType());
+            }
+        }
+    }
+
+    private static void requireProject(String line, User user, String project, Set<String> references) {
+        if (project.startsWith("@")) {
+            if (!references.contains(project)) {
+                throw new IllegalArgumentException(line + project + " is not created earlier in this group");
+            }
+            return;
+        }
+        long projectId = parseId(line, "project", project);
+        if (!ValidatorUtil.hasProjectAccess(user, RepositoryFactory.projects().findById(projectId))) {
+            throw new IllegalArgumentException(line + "project " + projectId + " not found");
+        }
+    }
+
+    private static void requireUser(String line, UserRole role, String id) {
+        long userId = parseId(line, role + " ID", id);
+        List<User> users = CommonRepository.getAllUsers(role);
+        if (users == null || users.stream().noneMatch(user -> user.getUserId() == userId)) {
+            throw new IllegalArgumentException(line + "no " + role + " with ID " + userId);
+        }
+    }
+
+    private static void requireText(String line, String what, String value) {
+        if (value.isBlank()) {
+            throw new IllegalArgumentException(line + what + " must not be empty");
+        }
+    }
+
+    private static void requireNumber(String line, String what, String value) {
+        try {
+            if (Double.isFinite(Double.parseDouble(value))) {
+                return;
+            }
+        } catch (NumberFormatException numberFormatException) {
+            // reported below
+        }
+        throw new IllegalArgumentException(line + what + " must be a number");
+    }
+
+    private static void requireCount(String line, String value, int max) {
+        try {
+            int count = Integer.parseInt(value);
+            if (count >= 0 && count <= max) {
+                return;
+            }
+        } catch (NumberFormatException numberFormatException) {
+            // reported below
+        }
+        throw new IllegalArgumentException(line + "number of tasks must be between 0 and " + max);
+    }
+
+    private static void requireEndDate(String line, String value) {
+        try {
+            if (ValidatorUtil.isValidDate(LocalDate.parse(value))) {
+                return;
+            }
+        } catch (DateTimeParseException dateTimeParseException) {
+            throw new IllegalArgumentException(line + "end date must be yyyy-MM-dd");
+        }
+        throw new IllegalArgumentException(line + "end date cannot be in the past");
+    }
+
+    private static long parseId(String line, String what, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException numberFormatException) {
+            throw new IllegalArgumentException(line + what + " must be a number or @reference");
+        }
+    }
+
+    private static long projectId(String project, Map<String, Long> references) {
+        return project.startsWith("@") ? references.get(project) : Long.parseLong(project);
+    }
+
+    private static BatchCommand parseCommand(List<String> tokens, int lineNumber) {
+        BatchCommand.Type type = BatchCommand.Type.fromKeyword(tokens.get(0));
+        if (type == null) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": unknown command '" + tokens.get(0) + "'");
+        }
+        if (tokens.size() - 1 != type.getArity()) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": " + type.getKeyword() + " takes "
+                    + type.getArity() + " arguments, found " + (tokens.size() - 1));
+        }
+        return new BatchCommand(type, lineNumber, tokens.subList(1, tokens.size()));
+    }
+
+    /**
+     * Splits a line at whitespace, keeping double-quoted text together; a {@code #} outside
+     * quotes starts a comment.
+     */
+    private static List<String> tokenize(String line, int lineNumber) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '#') {
+                break;
+            } else if (c == '"') {
+                int end = line.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": unterminated quote");
+                }
+                tokens.add(line.substring(i + 1, end));
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < line.length() && !Character.isWhitespace(line.charAt(end))) {
+                    end++;
+                }
+                tokens.add(line.substring(i, end));
+                i = end;
+            }
+        }
+        return tokens;
+    }
+
+    private static void audit(String action) {
+        FileWriterUtil.writeAuditTrail(new AuditTrail(action, SessionManager.getCurrentUser()));
+    }
+
+    /**
+     * Ends the unit of work of a group whose command failed, so that it is rolled back.
+     */
+    private static final class GroupFailedException extends Exception {
+        private GroupFailedException(String message) {
+            super(message);
+        }
+    }
+}
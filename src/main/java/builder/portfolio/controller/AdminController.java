@@ -1,16 +1,15 @@
 package builder.portfolio.controller;
 
-import builder.portfolio.model.Project;
 import builder.portfolio.model.User;
 import builder.portfolio.model.enums.UserRole;
 import builder.portfolio.repository.CommonRepository;
 import builder.portfolio.service.implementations.AdminService;
 import builder.portfolio.util.FileReaderUtil;
+import builder.portfolio.util.PagingUtil;
 import builder.portfolio.util.SessionManager;
 import builder.portfolio.util.ValidatorUtil;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,49 +23,48 @@ public class AdminController {
     private final AdminService adminService = new AdminService();
 
     /**
-     * Displays all projects in the system.
-     * Retrieves the project list from AdminService and prints details to console.
+     * Displays all projects in the system, one page at a time.
+     * Retrieves the project pages from AdminService and prints details to console.
      * If no projects are found, logs a message indicating the system has no projects.
-     * After displaying the projects, shows the admin dashboard.
+     * After displaying the projects, returns to the admin dashboard.
      */
     public void viewAllProjects() {
-        List<Project> projectList = new ArrayList<>();
-        projectList = adminService.viewAllProjects(SessionManager.getCurrentUser());
-
-        if (projectList.isEmpty()) {
+        int pageSize = PagingUtil.pageSize();
+        int shown = PagingUtil.showPages(
+                cursor -> adminService.viewAllProjects(SessionManager.getCurrentUser(), cursor, pageSize),
+                projectList -> projectList.forEach(project ->
+                        System.out.println("Project ID: " + project.getProjectId()
+                                + ", Project Name: " + project.getProjectName()
+                                + ", Project Status: " + project.getStatus())
+                ));
+
+        if (shown == 0) {
             log.info("No current projects in the system");
-        } else {
-            projectList.forEach(project ->
-                    System.out.println("Project ID: " + project.getProjectId()
-                            + ", Project Name: " + project.getProjectName()
-                            + ", Project Status: " + project.getStatus())
-            );
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
-     * Displays the audit trail of system actions.
-     * Reads audit trail data using FileReaderUtil and prints each action
+     * Displays the audit trail of system actions, one page at a time.
+     * Reads audit trail pages using FileReaderUtil and prints each action
      * along with the performing user's name and role.
-     * After displaying the audit trail, shows the admin dashboard.
+     * After displaying the audit trail, returns to the admin dashboard.
      */
     public void viewAuditTrail() {
-        FileReaderUtil.readAuditTrails().forEach(audit -> {
-            System.out.println("Action: " + audit.getAction() +
-                    ", Performed By: " + audit.getPerformedBy().getUserName() +
-                    ", User Type: " + audit.getPerformedBy().getRole());
-        });
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
+        int pageSize = PagingUtil.pageSize();
+        PagingUtil.showPages(
+                cursor -> FileReaderUtil.readAuditTrailPage(cursor, pageSize),
+                auditTrails -> auditTrails.forEach(audit ->
+                        System.out.println("Action: " + audit.getAction() +
+                                ", Performed By: " + audit.getPerformedBy().getUserName() +
+                                ", User Type: " + audit.getPerformedBy().getRole())
+                ));
     }
 
     /**
      * Deletes a Project Manager from the system.
      * Retrieves all Project Managers, displays their details, and asks for a valid ID.
      * Uses AdminService to perform the deletion and logs the result.
-     * Finally, shows the admin dashboard.
+     * Finally, returns to the admin dashboard.
      */
     public void deleteProjectManager() {
         List<User> projectManagerList = CommonRepository.getAllUsers(UserRole.PROJECT_MANAGER);
@@ -88,15 +86,13 @@ public class AdminController {
         } else {
             log.info("Error Deleting Manager");
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
      * Deletes a Client from the system.
      * Retrieves all Clients, displays their details, and asks for a valid ID.
      * Uses AdminService to perform the deletion and logs the result.
-     * Finally, shows the admin dashboard.
+     * Finally, returns to the admin dashboard.
      */
     public void deleteClient() {
         List<User> clientList = CommonRepository.getAllUsers(UserRole.CLIENT);
@@ -118,15 +114,13 @@ public class AdminController {
         } else {
             log.info("Error Deleting Client");
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
      * Deletes a Builder from the system.
      * Retrieves all Builders, displays their details, and asks for a valid ID.
      * Uses AdminService to perform the deletion and logs the result.
-     * Finally, shows the admin dashboard.
+     * Finally, returns to the admin dashboard.
      */
     public void deleteBuilder() {
         List<User> builderList = CommonRepository.getAllUsers(UserRole.BUILDER);
@@ -148,7 +142,5 @@ public class AdminController {
         } else {
             log.info("Error Deleting Builder");
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 }
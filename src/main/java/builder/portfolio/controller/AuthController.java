@@ -4,7 +4,6 @@ import builder.portfolio.model.AuditTrail;
 import builder.portfolio.model.User;
 import builder.portfolio.model.enums.UserRole;
 import builder.portfolio.service.implementations.AuthService;
-import builder.portfolio.userinterface.MainMenu;
 import builder.portfolio.util.FileWriterUtil;
 import builder.portfolio.util.InputUtil;
 import builder.portfolio.util.SessionManager;
@@ -27,7 +26,7 @@ public class AuthController {
      * Prompts the user for email and password, validates credentials using AuthService,
      * and sets the current user in SessionManager upon successful login.
      * Also creates an audit trail entry for successful login.
-     * If login fails, logs a message and redirects to the Main Menu.
+     * If login fails, logs a message and returns to the Main Menu.
      *
      * @return the logged-in User object if successful, otherwise null
      */
@@ -38,7 +37,6 @@ public class AuthController {
 
         if (loggedUser == null) {
             log.info("Login failed. Invalid credentials.");
-            MainMenu.show();
             return null;
         } else {
             SessionManager.setCurrentUser(loggedUser);
@@ -47,7 +45,6 @@ public class AuthController {
             FileWriterUtil.writeAuditTrail(auditTrail);
 
             log.info("Login successful! Welcome, " + loggedUser.getUserName() + ".");
-            DashboardController.showDashboard(loggedUser);
             return loggedUser;
         }
     }
@@ -57,7 +54,7 @@ public class AuthController {
      * Prompts the user for name, email, password, and role. Validates the role input.
      * Registers the user using AuthService and sets the current user in SessionManager
      * upon successful registration. Also creates an audit trail entry for registration.
-     * If registration fails, logs a message and redirects to the Main Menu.
+     * If registration fails, logs a message and returns to the Main Menu.
      *
      * @return the registered User object if successful, otherwise null
      */
@@ -85,10 +82,8 @@ public class AuthController {
 
             System.out.println("==== User Registered Successfully ====");
             log.info("Assigned User ID: " + registeredUser.getUserId());
-            DashboardController.showDashboard(registeredUser);
         } else {
             log.info("Registration failed. Please try again.");
-            MainMenu.show();
         }
 
         return registeredUser;
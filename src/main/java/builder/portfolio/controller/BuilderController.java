@@ -62,8 +62,6 @@ public class BuilderController {
         } else {
             log.info("Unable to add Project");
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
@@ -73,6 +71,9 @@ public class BuilderController {
      */
     public void updateProject() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         String projectName = InputUtil.readString("Enter Project Name: ");
         double plannedBudget = InputUtil.readDouble("Enter Estimate budget: ");
 
@@ -85,8 +86,6 @@ public class BuilderController {
         } else {
             log.info("Failed");
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
@@ -96,6 +95,9 @@ public class BuilderController {
      */
     public void deleteProject() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         boolean deletedProject = builderService.deleteProjectService(projectId);
 
         if (deletedProject) {
@@ -105,8 +107,6 @@ public class BuilderController {
         } else {
             log.info("Failed");
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
@@ -116,6 +116,9 @@ public class BuilderController {
      */
     public void updateProjectManager() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         long projectManagerId = commonRepository.availableProjectManagers();
         boolean updateStatus = builderService.updateProjectManagerService(projectId, projectManagerId);
 
@@ -126,8 +129,6 @@ public class BuilderController {
         } else {
             log.info("Error updating manager");
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
@@ -138,6 +139,9 @@ public class BuilderController {
      */
     public void uploadDocuments() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         String documentName = InputUtil.readString("Enter Document Name: ");
         String documentPath;
 
@@ -156,7 +160,6 @@ public class BuilderController {
             log.info("Document saved successfully");
             auditTrail = new AuditTrail("Documents Saved Successfully", SessionManager.getCurrentUser());
             FileWriterUtil.writeAuditTrail(auditTrail);
-            DashboardController.showDashboard(SessionManager.getCurrentUser());
         }
     }
 
@@ -167,6 +170,9 @@ public class BuilderController {
      */
     public void viewPortfolio() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
 
         System.out.println("1. Budget tracking");
         System.out.println("2. Project Phase Status");
@@ -175,14 +181,12 @@ public class BuilderController {
 
         String choice = InputUtil.readString("Enter the operation to perform on project: ");
 
-        while (true) {
-            switch (choice) {
-                case "1" -> builderService.budgetTrack(projectId);
-                case "2" -> builderService.projectStatus(projectId);
-                case "3" -> builderService.getUploadADocs(projectId);
-                case "4" -> DashboardController.showDashboard(SessionManager.getCurrentUser());
-                default -> System.out.println("Invalid choice! Try Again");
-            }
+        switch (choice) {
+            case "1" -> builderService.budgetTrack(projectId);
+            case "2" -> builderService.projectStatus(projectId);
+            case "3" -> builderService.getUploadADocs(projectId);
+            case "4" -> { }
+            default -> System.out.println("Invalid choice! Try Again");
         }
     }
 
@@ -193,6 +197,9 @@ public class BuilderController {
      */
     public void viewTimeLine() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         ProjectTimeline timeline = builderService.getProjectTimeline(projectId);
 
         if (timeline == null) {
@@ -206,7 +213,5 @@ public class BuilderController {
         System.out.println("Remaining Tasks: " + timeline.getRemainingTasks());
         System.out.println("Days Remaining: " + timeline.getDaysRemaining());
         System.out.println("Progress: " + timeline.getGanttChart());
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 }
@@ -2,16 +2,15 @@ package builder.portfolio.controller;
 
 import builder.portfolio.model.AuditTrail;
 import builder.portfolio.model.Document;
-import builder.portfolio.model.Project;
 import builder.portfolio.model.ProjectTimeline;
 import builder.portfolio.repository.CommonRepository;
 import builder.portfolio.service.implementations.BuilderService;
 import builder.portfolio.service.implementations.ClientService;
 import builder.portfolio.util.FileWriterUtil;
+import builder.portfolio.util.PagingUtil;
 import builder.portfolio.util.SessionManager;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,26 +28,25 @@ public class ClientController {
     private AuditTrail auditTrail = new AuditTrail();
 
     /**
-     * Displays all projects owned by the currently logged-in client.
+     * Displays all projects owned by the currently logged-in client, one page at a time.
      * If no projects are found, logs an appropriate message.
      * Records an audit trail for viewing projects.
      */
     public void viewOwnedProjects() {
-        List<Project> projectList = clientService.viewOwnedProjects(SessionManager.getCurrentUser());
-
-        if (projectList.isEmpty()) {
+        int pageSize = PagingUtil.pageSize();
+        int shown = PagingUtil.showPages(
+                cursor -> clientService.viewOwnedProjects(SessionManager.getCurrentUser(), cursor, pageSize),
+                projectList -> projectList.forEach(project ->
+                        System.out.println("Project ID: " + project.getProjectId()
+                                + ", Project Name: " + project.getProjectName()
+                                + ", Project Status: " + project.getStatus())
+                ));
+
+        if (shown == 0) {
             log.info("Unable to Load Projects");
         } else {
             auditTrail = new AuditTrail("View Projects", SessionManager.getCurrentUser());
             FileWriterUtil.writeAuditTrail(auditTrail);
-
-            projectList.forEach(project ->
-                    System.out.println("Project ID: " + project.getProjectId()
-                            + ", Project Name: " + project.getProjectName()
-                            + ", Project Status: " + project.getStatus())
-            );
-
-            DashboardController.showDashboard(SessionManager.getCurrentUser());
         }
     }
 
@@ -59,6 +57,9 @@ public class ClientController {
      */
     public void trackBudget() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         String budgetStatus = clientService.trackBudget(projectId);
 
         if (budgetStatus != null) {
@@ -66,7 +67,6 @@ public class ClientController {
             FileWriterUtil.writeAuditTrail(auditTrail);
 
             log.info("Budget Status of Project: {}", budgetStatus);
-            DashboardController.showDashboard(SessionManager.getCurrentUser());
         }
     }
 
@@ -78,6 +78,9 @@ public class ClientController {
      */
     public void getUploadedDocs() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         List<Document> documentList = clientService.getUploadedDocs(projectId);
 
         if (documentList == null || documentList.isEmpty()) {
@@ -92,8 +95,6 @@ public class ClientController {
                         + ", Document URL: " + document.getFilePath()
                         + ", Uploaded By: " + document.getUploadedBy());
             });
-
-            DashboardController.showDashboard(SessionManager.getCurrentUser());
         }
     }
 
@@ -105,6 +106,9 @@ public class ClientController {
      */
     public void viewTimeLine() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         ProjectTimeline timeline = builderService.getProjectTimeline(projectId);
 
         if (timeline == null) {
@@ -117,7 +121,5 @@ public class ClientController {
         System.out.println("Remaining Tasks: " + timeline.getRemainingTasks());
         System.out.println("Days Remaining: " + timeline.getDaysRemaining());
         System.out.println("Progress: " + timeline.getGanttChart());
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 }
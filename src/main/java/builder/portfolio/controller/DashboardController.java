@@ -5,35 +5,64 @@ import builder.portfolio.model.enums.UserRole;
 import builder.portfolio.userinterface.AdminMenu;
 import builder.portfolio.userinterface.BuilderMenu;
 import builder.portfolio.userinterface.ClientMenu;
+import builder.portfolio.userinterface.MainMenu;
 import builder.portfolio.userinterface.ProjectManagerMenu;
+import builder.portfolio.util.SessionManager;
 
 /**
  * Controller class responsible for displaying the appropriate dashboard
  * based on the role of the currently logged-in user.
  * Delegates control to the corresponding menu interface for each user type.
+ *
+ * {@link #run()} is the central dispatch loop of the console application: every menu handles
+ * one choice and returns here, so the call stack stays the same size however long a session
+ * lasts.
  */
 public class DashboardController {
 
     /**
-     * Displays the dashboard for the specified user.
+     * Runs the console application until the user exits from the main menu.
+     * Shows the {@link MainMenu} while nobody is logged in, and the dashboard of the
+     * logged-in user otherwise.
+     */
+    public static void run() {
+        while (true) {
+            User user = SessionManager.getCurrentUser();
+            if (user == null) {
+                if (!MainMenu.show()) {
+                    return;
+                }
+            } else {
+                showDashboard(user);
+            }
+        }
+    }
+
+    /**
+     * Displays the dashboard for the specified user and handles one choice.
      * Determines the user's role and invokes the corresponding menu:
      *  ADMIN -> AdminMenu
      *  BUILDER -> BuilderMenu
      *  PROJECT_MANAGER -> ProjectManagerMenu
      *  CLIENT -> ClientMenu
-     * If the role is unknown, prints an error message.
+     * If the role is unknown, prints an error message and logs the user out.
      *
      * @param user the currently logged-in user
      */
     public static void showDashboard(User user) {
         UserRole role = user.getRole();
 
+        if (role == null) {
+            System.out.println("Unknown role. Cannot load dashboard.");
+            SessionManager.clearSession();
+            return;
+        }
+
         switch (role) {
             case ADMIN -> AdminMenu.show();
             case BUILDER -> BuilderMenu.show();
             case PROJECT_MANAGER -> ProjectManagerMenu.show();
             case CLIENT -> ClientMenu.show();
-            default -> System.out.println("Unknown role. Cannot load dashboard.");
         }
     }
 }
@@ -4,17 +4,17 @@ import builder.portfolio.userinterface.MainMenu;
 
 /**
  * Controller class responsible for starting the application.
- * Displays the main welcome message and delegates control to the MainMenu.
+ * Displays the main welcome message and delegates control to the {@link DashboardController} loop.
  */
 public class MainController {
 
     /**
      * Starts the Builder Portfolio Management System.
-     * Prints the welcome banner and invokes the {@link MainMenu} to handle
-     * user interactions from the main menu.
+     * Prints the welcome banner and runs the {@link DashboardController} loop, starting at the
+     * {@link MainMenu}, until the user exits.
      */
     public void start() {
         System.out.println("=== Builder Portfolio Management System ===");
-        MainMenu.show();
+        DashboardController.run();
     }
 }
@@ -37,6 +37,9 @@ public class ProjectManagerController {
      */
     public void viewProjects() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         log.info("All Available tasks for selected project ID are: ");
 
         List<Task> taskList = CommonRepository.getAllTasks(projectId);
@@ -46,8 +49,6 @@ public class ProjectManagerController {
                     + " Created At: " + task.getCreatedAt()
                     + " Last Updated At: " + task.getUpdatedAt());
         });
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
@@ -57,6 +58,9 @@ public class ProjectManagerController {
      */
     public void updateProjectStatus() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         int numberOfTasksCompleted = InputUtil.readInt("Enter number of tasks completed: ");
         int totalTaskUpdate = projectManagerService.updateProjectStatus(projectId, numberOfTasksCompleted);
 
@@ -67,8 +71,6 @@ public class ProjectManagerController {
             FileWriterUtil.writeAuditTrail(auditTrail);
             log.info("{} tasks marked as COMPLETED.", totalTaskUpdate);
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
@@ -78,6 +80,9 @@ public class ProjectManagerController {
      */
     public void updateProjectActualSpend() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         double actualSpend = InputUtil.readDouble("Enter amount spent: ");
         double moneySpent = projectManagerService.updateActualSpend(projectId, actualSpend);
 
@@ -88,8 +93,6 @@ public class ProjectManagerController {
         } else {
             System.out.println("Error updating");
         }
-
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
@@ -99,6 +102,9 @@ public class ProjectManagerController {
      */
     public void uploadDocuments() {
         long projectId = commonRepository.availableProjects();
+        if (projectId == 0) {
+            return;
+        }
         String documentName = InputUtil.readString("Enter Document Name: ");
         String documentPath;
 
@@ -117,7 +123,6 @@ public class ProjectManagerController {
             log.info("Document saved successfully");
             auditTrail = new AuditTrail("Document Saved", SessionManager.getCurrentUser());
             FileWriterUtil.writeAuditTrail(auditTrail);
-            DashboardController.showDashboard(SessionManager.getCurrentUser());
         }
     }
 }
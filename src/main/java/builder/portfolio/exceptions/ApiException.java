@@ -0,0 +1,16 @@
+package builder.portfolio.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Failure of an HTTP API request, carrying the status code returned to the caller.
+ */
+@Getter
+public class ApiException extends RuntimeException {
+    private final int status;
+
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -10,23 +10,34 @@ import lombok.*;
     public class AuditTrail {
         private String action;
         private User performedBy;
+        /** Time of the action in epoch milliseconds; 0 when unknown, e.g. for entries read from text. */
+        private long timestamp;
 
+    public AuditTrail(String action, User performedBy) {
+        this(action, performedBy, System.currentTimeMillis());
+    }
 
     @Override
     public String toString() {
         return  action + "," + performedBy.getUserId() + "," + performedBy.getUserName()+ "," +performedBy.getRole();
     }
 
+    /**
+     * Parses a line written by {@link #toString()}. The fields are taken from the end of the
+     * line, so an action containing commas is read back whole.
+     */
     public static AuditTrail fromString(String line) {
-        String[] parts = line.split(",");
-        if (parts.length < 4) return null;
-        String action = parts[0];
+        int roleStart = line.lastIndexOf(',');
+        int nameStart = roleStart > 0 ? line.lastIndexOf(',', roleStart - 1) : -1;
+        int userIdStart = nameStart > 0 ? line.lastIndexOf(',', nameStart - 1) : -1;
+        if (userIdStart < 0) return null;
+        String action = line.substring(0, userIdStart);
 
         User user = new User();
-        user.setUserId(Long.parseLong(parts[1]));
-        user.setUserName(parts[2]);
-        user.setRole(UserRole.valueOf(parts[3]));
+        user.setUserId(Long.parseLong(line.substring(userIdStart + 1, nameStart)));
+        user.setUserName(line.substring(nameStart + 1, roleStart));
+        user.setRole(UserRole.valueOf(line.substring(roleStart + 1)));
 
-        return new AuditTrail(action, user);
+        return new AuditTrail(action, user, 0);
     }
     }
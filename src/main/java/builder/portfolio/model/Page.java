@@ -0,0 +1,24 @@
+package builder.portfolio.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * {@code nextCursor} is the ID of the last item on the page; pass it as the "after" cursor
+ * to fetch the following page. It is only meaningful when {@code hasNext} is {@code true}.
+ *
+ * @param <T> the item type
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class Page<T> {
+    private List<T> items;
+    private long nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,22 @@
+package builder.portfolio.model;
+
+import builder.portfolio.model.enums.Status;
+import lombok.*;
+
+/**
+ * Lightweight view of a project used by menus and project lists.
+ * Holds only the columns those screens display; load a full {@link Project} for detail views.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ProjectSummary {
+    private long projectId;
+    private String projectName;
+    private Status status;
+    private double plannedBudget;
+    private double actualSpend;
+    private long projectManagerId;
+}
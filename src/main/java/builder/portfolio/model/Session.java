@@ -0,0 +1,38 @@
+package builder.portfolio.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * State of one user session: the logged-in user and the project being worked on.
+ *
+ * A session is used by one request at a time, but successive requests of the same session
+ * may run on different threads, so the fields are volatile.
+ */
+@Getter
+@ToString
+public class Session {
+    private final String sessionId;
+    private final long createdAt;
+    @Setter
+    private volatile User currentUser;
+    @Setter
+    private volatile Project currentProject;
+    private volatile long lastAccessedAt;
+
+    public Session(String sessionId, long createdAt) {
+        this.sessionId = sessionId;
+        this.createdAt = createdAt;
+        this.lastAccessedAt = createdAt;
+    }
+
+    /**
+     * Records an access to the session.
+     *
+     * @param now the access time in epoch milliseconds
+     */
+    public void touch(long now) {
+        lastAccessedAt = now;
+    }
+}
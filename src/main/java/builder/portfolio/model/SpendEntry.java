@@ -0,0 +1,13 @@
+package builder.portfolio.model;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class SpendEntry {
+    private long projectId;
+    private double amount;
+}
@@ -1,125 +1,175 @@
 package builder.portfolio.repository;
 
-import builder.portfolio.exceptions.InvalidUserFormatException;
 import builder.portfolio.model.User;
-import builder.portfolio.model.enums.UserRole;
-import builder.portfolio.util.DBUtil;
+import builder.portfolio.util.ConfigUtil;
+import builder.portfolio.util.PasswordHasher;
+import builder.portfolio.util.TtlCache;
 import lombok.extern.slf4j.Slf4j;
 
-import java.sql.*;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Properties;
 
 /**
  * Repository class for authentication-related database operations.
- * Handles user login and registration by interacting with the 'users' table in the database.
+ * Handles user login and registration against the backend chosen by {@link RepositoryFactory}.
+ *
+ * Passwords are stored as salted hashes made by {@link PasswordHasher}; a login looks the
+ * account up by email and verifies the password in constant time. Accounts still stored in
+ * plain text or with a lower cost are rehashed on their next successful login. Recent
+ * successful logins are kept in a small cache so repeated logins with the same password skip
+ * the key derivation; the cache holds a keyed digest of the password, never the password.
+ * It is configured by login_cache_ttl_ms (default 60000) and login_cache_max_entries
+ * (default 1024); a value of 0 disables it.
  */
 @Slf4j
 public class AuthRepository {
 
+    private static final PasswordHasher HASHER = PasswordHasher.fromConfig();
+
+    /** Recent successful logins keyed by email. */
+    private static final TtlCache<String, VerifiedLogin> LOGIN_CACHE = createLoginCache();
+
+    /** Key of the password digests in {@link #LOGIN_CACHE}, new for every process. */
+    private static final byte[] DIGEST_KEY = newDigestKey();
+
+    /**
+     * A successful login: the account without credentials and a digest of the password used.
+     */
+    private static final class VerifiedLogin {
+        private final User user;
+        private final byte[] passwordDigest;
+
+        private VerifiedLogin(User user, byte[] passwordDigest) {
+            this.user = user;
+            this.passwordDigest = passwordDigest;
+        }
+
+        private boolean matches(String password) {
+            return MessageDigest.isEqual(passwordDigest, digest(password));
+        }
+
+        private User copyOfUser() {
+            return new User(user.getUserId(), user.getEmail(), null, user.getUserName(), user.getRole());
+        }
+    }
+
+    /** Hash checked for unknown emails, so they take as long to reject as a wrong password. */
+    private static final class UnknownAccount {
+        private static final String HASH = HASHER.hash("unknown-account");
+    }
+
     /**
      * Attempts to log in a user with the given email and password.
-     * Queries the database for a user matching the provided credentials.
      * Returns a {@link User} object if successful, otherwise returns {@code null}.
      *
      * @param email    the user's email address
      * @param password the user's password
-     * @return the authenticated {@link User} or {@code null} if login fails
+     * @return the authenticated {@link User}, without credentials, or {@code null} if login fails
      */
     public User login(String email, String password) {
-        String query = "SELECT * FROM users WHERE email = ? AND password = ?";
-        try (Connection connection = DBUtil.getConnection();
-             PreparedStatement ps = connection.prepareStatement(query)) {
-
-            ps.setString(1, email);
-            ps.setString(2, password);
-            ResultSet rs = ps.executeQuery();
-
-            if (rs.next()) {
-                return mapUserFromResultSet(rs);
-            }
-        } catch (SQLException | InvalidUserFormatException exception) {
-            log.error(exception.getMessage());
+        if (email == null || password == null) {
+            return null;
         }
-
-        return null;
+        VerifiedLogin login = LOGIN_CACHE.get(email, key -> verify(key, password));
+        if (login == null) {
+            return null;
+        }
+        if (!login.matches(password)) {
+            // the cached login used another password: check this one without the cache
+            login = verify(email, password);
+        }
+        return login == null ? null : login.copyOfUser();
     }
 
     /**
-     * Registers a new user in the database.
-     * First checks if the email is already registered. If not, inserts the user
-     * into the 'users' table and sets the generated user ID.
+     * Registers a new user.
+     * Fails if the email is already registered; otherwise the user receives its generated ID.
+     * The password is stored as a salted hash and removed from the returned user.
      *
      * @param user the {@link User} object containing registration details
      * @return the registered {@link User} with assigned ID, or {@code null} if registration fails
      */
     public User register(User user) {
-        String checkQuery = "SELECT user_id FROM users WHERE email = ?";
-        String insertQuery = "INSERT INTO users (userName, email, password, role) VALUES (?, ?, ?, ?)";
-
-        try (Connection connection = DBUtil.getConnection()) {
-
-            // Check if email already exists
-            try (PreparedStatement checkStmt = connection.prepareStatement(checkQuery)) {
-                checkStmt.setString(1, user.getEmail());
-                ResultSet rs = checkStmt.executeQuery();
-                if (rs.next()) {
-                    log.info("Email already registered.");
-                    return null;
-                }
-            }
-
-            // Insert new user
-            try (PreparedStatement insertStmt = connection.prepareStatement(insertQuery, Statement.RETURN_GENERATED_KEYS)) {
-                insertStmt.setString(1, user.getUserName());
-                insertStmt.setString(2, user.getEmail());
-                insertStmt.setString(3, user.getPassword());
-                insertStmt.setString(4, user.getRole().name());
-
-                int rowsAffected = insertStmt.executeUpdate();
-
-                if (rowsAffected > 0) {
-                    ResultSet generatedKeys = insertStmt.getGeneratedKeys();
-                    if (generatedKeys.next()) {
-                        user.setUserId(generatedKeys.getLong(1));
-                    }
-                    return user;
-                }
-            }
-
-        } catch (SQLException e) {
-            log.error(e.getMessage());
+        user.setPassword(HASHER.hash(user.getPassword()));
+        User registered = RepositoryFactory.users().register(user);
+        user.setPassword(null);
+        if (registered != null) {
+            registered.setPassword(null);
+            LOGIN_CACHE.invalidate(registered.getEmail());
+            CommonRepository.userRegistered(registered);
         }
+        return registered;
+    }
 
-        return null;
+    /**
+     * Returns the counters of the login cache.
+     *
+     * @return the cache {@link TtlCache.Stats}
+     */
+    public static TtlCache.Stats getLoginCacheStats() {
+        return LOGIN_CACHE.getStats();
     }
 
     /**
-     * Maps a {@link ResultSet} row to a {@link User} object.
-     * Extracts user ID, username, email, password, and role from the result set.
-     * Throws {@link InvalidUserFormatException} if any required field is null.
+     * Forgets the cached logins of a deleted user.
      *
-     * @param rs the {@link ResultSet} containing user data
-     * @return a {@link User} object populated with data from the result set
-     * @throws InvalidUserFormatException if required user fields are missing or invalid
-     * @throws SQLException               if a database access error occurs
+     * @param userId the ID of the deleted user
+     */
+    static void userDeleted(long userId) {
+        LOGIN_CACHE.invalidateIf((email, login) -> login.user.getUserId() == userId);
+    }
+
+    /**
+     * Forgets every cached login, e.g. after the backend was switched.
      */
-    private User mapUserFromResultSet(ResultSet rs) throws InvalidUserFormatException, SQLException {
-        long userId = rs.getLong("user_id");
-        String username = rs.getString("username");
-        String email = rs.getString("email");
-        String password = rs.getString("password");
-        String roleStr = rs.getString("role");
-
-        if (username == null || email == null || password == null || roleStr == null) {
-            throw new InvalidUserFormatException("Invalid User Format from Postgres");
+    static void clearCaches() {
+        LOGIN_CACHE.invalidateAll();
+    }
+
+    /**
+     * Checks the password against the stored hash and upgrades outdated hashes.
+     *
+     * @return the {@link VerifiedLogin}, or {@code null} if the account does not exist or the password is wrong
+     */
+    private static VerifiedLogin verify(String email, String password) {
+        User account = RepositoryFactory.users().findByEmail(email);
+        String stored = account == null ? UnknownAccount.HASH : account.getPassword();
+        if (!HASHER.verify(password, stored) || account == null) {
+            return null;
         }
 
-        User user = new User();
-        user.setUserId(userId);
-        user.setUserName(username);
-        user.setEmail(email);
-        user.setPassword(password);
-        user.setRole(UserRole.valueOf(roleStr));
+        if (HASHER.needsRehash(stored) && RepositoryFactory.users().updatePassword(account.getUserId(), HASHER.hash(password))) {
+            log.info("Upgraded the password hash of user {}", account.getUserId());
+        }
+        account.setPassword(null);
+        return new VerifiedLogin(account, digest(password));
+    }
+
+    private static byte[] digest(String password) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(DIGEST_KEY, "HmacSHA256"));
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException generalSecurityException) {
+            throw new IllegalStateException("HmacSHA256 is not available", generalSecurityException);
+        }
+    }
+
+    private static byte[] newDigestKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
 
-        return user;
+    private static TtlCache<String, VerifiedLogin> createLoginCache() {
+        Properties config = ConfigUtil.getProperties();
+        return new TtlCache<>(
+                ConfigUtil.longProperty(config, "login_cache_ttl_ms", 60_000),
+                ConfigUtil.intProperty(config, "login_cache_max_entries", 1024));
     }
 }
@@ -1,73 +1,133 @@
 package builder.portfolio.repository;
 
-import builder.portfolio.controller.DashboardController;
 import builder.portfolio.model.Document;
+import builder.portfolio.model.Page;
 import builder.portfolio.model.Project;
+import builder.portfolio.model.ProjectSummary;
 import builder.portfolio.model.Task;
 import builder.portfolio.model.User;
-import builder.portfolio.model.enums.Status;
 import builder.portfolio.model.enums.UserRole;
-import builder.portfolio.util.DBUtil;
+import builder.portfolio.util.ConfigUtil;
 import builder.portfolio.util.SessionManager;
+import builder.portfolio.util.TtlCache;
 import builder.portfolio.util.ValidatorUtil;
 import lombok.extern.slf4j.Slf4j;
 
-import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 /**
  * Repository class containing common database operations used across different roles.
  * Provides methods for fetching projects, tasks, documents, users, budget tracking,
  * and for selecting available clients, managers, and projects.
+ * Reads go to the backend chosen by {@link RepositoryFactory}; project lists and users are cached here.
  */
 @Slf4j
 public class CommonRepository {
 
+    /**
+     * Project lists keyed by "ROLE:userId". Configured by project_cache_ttl_ms (default 30000)
+     * and project_cache_max_entries (default 256); a value of 0 disables the cache.
+     */
+    private static final TtlCache<String, List<Project>> PROJECT_CACHE = createProjectCache();
+
+    /** Project summary lists, keyed and configured like {@link #PROJECT_CACHE}. */
+    private static final TtlCache<String, List<ProjectSummary>> PROJECT_SUMMARY_CACHE = createProjectCache();
+
+    /** Per-role user snapshots, kept current by registrations and deletions. */
+    private static final UserDirectory USER_DIRECTORY = new UserDirectory(role -> RepositoryFactory.users().findByRole(role));
+
     /**
      * Retrieves all projects for a given user based on their role.
+     * Lists are served from an in-process cache that repositories invalidate whenever
+     * they change a project.
      *
      * @param user the {@link User} requesting the projects
      * @return a {@link List} of {@link Project} associated with the user
      */
     public static List<Project> getAllProjects(User user) {
-        List<Project> projects = new ArrayList<>();
-        String sql;
-
-        switch (user.getRole()) {
-            case ADMIN:
-                sql = "SELECT * FROM project";
-                break;
-            case BUILDER:
-                sql = "SELECT * FROM project WHERE builder_id = ?";
-                break;
-            case PROJECT_MANAGER:
-                sql = "SELECT * FROM project WHERE manager_id = ?";
-                break;
-            case CLIENT:
-                sql = "SELECT * FROM project WHERE client_id = ?";
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported role: " + user.getRole());
-        }
+        List<Project> projects = PROJECT_CACHE.get(projectCacheKey(user.getRole(), user.getUserId()),
+                key -> RepositoryFactory.projects().findByUser(user));
+        return projects == null ? new ArrayList<>() : new ArrayList<>(projects);
+    }
 
-        try (Connection connection = DBUtil.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql)) {
+    /**
+     * Retrieves summaries of all projects for a given user based on their role.
+     * Only the columns shown in menus and project lists are read. Summaries are cached
+     * and invalidated like {@link #getAllProjects(User)}.
+     *
+     * @param user the {@link User} requesting the projects
+     * @return a {@link List} of {@link ProjectSummary} associated with the user
+     */
+    public static List<ProjectSummary> getProjectSummaries(User user) {
+        List<ProjectSummary> summaries = PROJECT_SUMMARY_CACHE.get(projectCacheKey(user.getRole(), user.getUserId()),
+                key -> RepositoryFactory.projects().findSummariesByUser(user));
+        return summaries == null ? new ArrayList<>() : new ArrayList<>(summaries);
+    }
 
-            if (!user.getRole().equals(UserRole.ADMIN)) {
-                ps.setLong(1, user.getUserId());
-            }
+    /**
+     * Drops the cached project lists a new or changed project belongs to: those of its
+     * builder, project manager, client and of administrators, plus any list already
+     * containing the project.
+     *
+     * @param project the created or changed {@link Project}
+     */
+    public static void invalidateProjects(Project project) {
+        List<String> keys = List.of(
+                projectCacheKey(UserRole.BUILDER, project.getBuilderId()),
+                projectCacheKey(UserRole.PROJECT_MANAGER, project.getProjectManagerId()),
+                projectCacheKey(UserRole.CLIENT, project.getClientId()),
+                projectCacheKey(UserRole.ADMIN, 0));
+        invalidate(PROJECT_CACHE, keys, project.getProjectId(), Project::getProjectId);
+        invalidate(PROJECT_SUMMARY_CACHE, keys, project.getProjectId(), ProjectSummary::getProjectId);
+    }
 
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                projects.add(mapProjectFromResultSet(rs));
-            }
+    /**
+     * Drops every cached project list containing the given project.
+     *
+     * @param projectId the ID of the changed project
+     */
+    public static void invalidateProjects(long projectId) {
+        invalidate(PROJECT_CACHE, List.of(), projectId, Project::getProjectId);
+        invalidate(PROJECT_SUMMARY_CACHE, List.of(), projectId, ProjectSummary::getProjectId);
+    }
 
-        } catch (SQLException sqlException) {
-            log.error(sqlException.getMessage());
-        }
+    /**
+     * Returns the hit, miss and eviction counters of the full project list cache.
+     *
+     * @return the cache {@link TtlCache.Stats}
+     */
+    public static TtlCache.Stats getProjectCacheStats() {
+        return PROJECT_CACHE.getStats();
+    }
 
-        return projects;
+    /**
+     * Returns the hit, miss and eviction counters of the project summary cache.
+     *
+     * @return the cache {@link TtlCache.Stats}
+     */
+    public static TtlCache.Stats getProjectSummaryCacheStats() {
+        return PROJECT_SUMMARY_CACHE.getStats();
+    }
+
+    private static String projectCacheKey(UserRole role, long userId) {
+        return role == UserRole.ADMIN ? role.name() : role.name() + ":" + userId;
+    }
+
+    private static <T> void invalidate(TtlCache<String, List<T>> cache, List<String> keys, long projectId,
+                                       ToLongFunction<T> idOf) {
+        cache.invalidateIf((key, projects) -> keys.contains(key)
+                || projects.stream().anyMatch(project -> idOf.applyAsLong(project) == projectId));
+    }
+
+    private static <T> TtlCache<String, List<T>> createProjectCache() {
+        Properties config = ConfigUtil.getProperties();
+        return new TtlCache<>(
+                ConfigUtil.longProperty(config, "project_cache_ttl_ms", 30_000),
+                ConfigUtil.intProperty(config, "project_cache_max_entries", 256));
     }
 
     /**
@@ -77,22 +137,7 @@ public class CommonRepository {
      * @return a {@link List} of {@link Task} objects
      */
     public static List<Task> getAllTasks(long projectId) {
-        List<Task> taskList = new ArrayList<>();
-        String sql = "SELECT * FROM task WHERE project_id = ?";
-        try (Connection connection = DBUtil.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql)) {
-
-            ps.setLong(1, projectId);
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                taskList.add(mapTaskFromResultSet(rs));
-            }
-
-        } catch (SQLException sqlException) {
-            log.error(sqlException.getMessage());
-        }
-        return taskList;
+        return RepositoryFactory.tasks().findByProject(projectId);
     }
 
     /**
@@ -102,48 +147,139 @@ public class CommonRepository {
      * @return a {@link List} of {@link Document} objects
      */
     public static List<Document> getAllDocuments(long projectId) {
-        List<Document> documentList = new ArrayList<>();
-        String sql = "SELECT * FROM document WHERE project_id = ?";
-        try (Connection connection = DBUtil.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql)) {
-
-            ps.setLong(1, projectId);
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                documentList.add(mapDocumentFromResultSet(rs));
-            }
-
-        } catch (SQLException sqlException) {
-            log.error(sqlException.getMessage());
-        }
-        return documentList;
+        return RepositoryFactory.documents().findByProject(projectId);
     }
 
     /**
      * Retrieves all users with a specific role.
+     * Users are served from an in-process directory; the users table is only read the first
+     * time a role is requested. Only the ID, name and role are loaded, never credentials.
      *
      * @param role the {@link UserRole} to filter users
-     * @return a {@link List} of {@link User} objects
+     * @return an unmodifiable {@link List} of {@link User} objects
      */
     public static List<User> getAllUsers(UserRole role) {
-        List<User> users = new ArrayList<>();
-        String sql = "SELECT * FROM users WHERE role = ?";
+        return USER_DIRECTORY.get(role);
+    }
 
-        try (Connection connection = DBUtil.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql)) {
+    /**
+     * Adds a newly registered user to the cached user directory.
+     *
+     * @param user the registered {@link User}
+     */
+    static void userRegistered(User user) {
+        USER_DIRECTORY.userAdded(user);
+    }
 
-            ps.setString(1, role.name());
-            ResultSet rs = ps.executeQuery();
+    /**
+     * Removes a deleted user from the cached user directory.
+     *
+     * @param userId the ID of the deleted user
+     */
+    static void userDeleted(long userId) {
+        USER_DIRECTORY.userRemoved(userId);
+    }
 
-            while (rs.next()) {
-                users.add(mapUserFromResultSet(rs));
-            }
+    /**
+     * Drops every cached project list and user snapshot, e.g. after the storage backend changed.
+     */
+    static void clearCaches() {
+        PROJECT_CACHE.invalidateAll();
+        PROJECT_SUMMARY_CACHE.invalidateAll();
+        USER_DIRECTORY.clear();
+    }
 
-        } catch (SQLException sqlException) {
-            log.error(sqlException.getMessage());
-        }
-        return users;
+    /**
+     * Retrieves one page of the projects visible to a user, ordered by project ID.
+     *
+     * @param user           the {@link User} requesting the projects
+     * @param afterProjectId cursor: only projects with a larger ID are returned; 0 for the first page
+     * @param pageSize       maximum number of projects on the page
+     * @return a {@link Page} of {@link Project}, empty if an error occurs
+     */
+    public static Page<Project> getProjectsPage(User user, long afterProjectId, int pageSize) {
+        return RepositoryFactory.projects().findPage(user, afterProjectId, pageSize);
+    }
+
+    /**
+     * Retrieves one page of the tasks of a project, ordered by task ID.
+     *
+     * @param projectId   the ID of the project
+     * @param afterTaskId cursor: only tasks with a larger ID are returned; 0 for the first page
+     * @param pageSize    maximum number of tasks on the page
+     * @return a {@link Page} of {@link Task}, empty if an error occurs
+     */
+    public static Page<Task> getTasksPage(long projectId, long afterTaskId, int pageSize) {
+        return RepositoryFactory.tasks().findPage(projectId, afterTaskId, pageSize);
+    }
+
+    /**
+     * Retrieves one page of the documents of a project, ordered by document ID.
+     *
+     * @param projectId       the ID of the project
+     * @param afterDocumentId cursor: only documents with a larger ID are returned; 0 for the first page
+     * @param pageSize        maximum number of documents on the page
+     * @return a {@link Page} of {@link Document}, empty if an error occurs
+     */
+    public static Page<Document> getDocumentsPage(long projectId, long afterDocumentId, int pageSize) {
+        return RepositoryFactory.documents().findPage(projectId, afterDocumentId, pageSize);
+    }
+
+    /**
+     * Retrieves one page of the users with a role, ordered by user ID.
+     *
+     * @param role        the {@link UserRole} to filter users
+     * @param afterUserId cursor: only users with a larger ID are returned; 0 for the first page
+     * @param pageSize    maximum number of users on the page
+     * @return a {@link Page} of {@link User}, empty if an error occurs
+     */
+    public static Page<User> getUsersPage(UserRole role, long afterUserId, int pageSize) {
+        return RepositoryFactory.users().findPage(role, afterUserId, pageSize);
+    }
+
+    /**
+     * Streams all projects visible to a user, ordered by project ID, without buffering them.
+     * With the JDBC backend rows are fetched from a database cursor in chunks of
+     * db_stream_fetch_size; the returned stream must be closed, e.g. with try-with-resources.
+     *
+     * @param user the {@link User} requesting the projects
+     * @return a {@link Stream} of {@link Project}, empty if the query cannot be started
+     */
+    public static Stream<Project> streamProjects(User user) {
+        return RepositoryFactory.projects().stream(user);
+    }
+
+    /**
+     * Streams all tasks of a project, ordered by task ID, without buffering them.
+     * The returned stream must be closed.
+     *
+     * @param projectId the ID of the project
+     * @return a {@link Stream} of {@link Task}, empty if the query cannot be started
+     */
+    public static Stream<Task> streamTasks(long projectId) {
+        return RepositoryFactory.tasks().stream(projectId);
+    }
+
+    /**
+     * Streams all documents of a project, ordered by document ID, without buffering them.
+     * The returned stream must be closed.
+     *
+     * @param projectId the ID of the project
+     * @return a {@link Stream} of {@link Document}, empty if the query cannot be started
+     */
+    public static Stream<Document> streamDocuments(long projectId) {
+        return RepositoryFactory.documents().stream(projectId);
+    }
+
+    /**
+     * Streams all users with a role, ordered by user ID, without buffering them.
+     * The returned stream must be closed.
+     *
+     * @param role the {@link UserRole} to filter users
+     * @return a {@link Stream} of {@link User}, empty if the query cannot be started
+     */
+    public static Stream<User> streamUsers(UserRole role) {
+        return RepositoryFactory.users().stream(role);
     }
 
     /**
@@ -154,26 +290,11 @@ public class CommonRepository {
      *         {@code "OUT OF BUDGET"} otherwise
      */
     public String trackBudget(long projectId) {
-        String budgetStatus = "";
-        String sql = "SELECT actual_spend, planned_budget FROM project WHERE project_id=?";
-        try (Connection connection = DBUtil.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql)) {
-            double actualSpend = 0;
-            double plannedBudget = 0;
-            ps.setLong(1, projectId);
-
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) {
-                actualSpend = rs.getDouble("actual_spend");
-                plannedBudget = rs.getDouble("planned_budget");
-            }
-
-            budgetStatus = (actualSpend < plannedBudget) ? "IN BUDGET" : "OUT OF BUDGET";
-
-        } catch (SQLException sqlException) {
-            log.error(sqlException.getMessage());
+        Project project = RepositoryFactory.projects().findById(projectId);
+        if (project == null) {
+            return "";
         }
-        return budgetStatus;
+        return (project.getActualSpend() < project.getPlannedBudget()) ? "IN BUDGET" : "OUT OF BUDGET";
     }
 
     /**
@@ -213,7 +334,7 @@ public class CommonRepository {
      */
     public long availableProjects() {
         System.out.println("Available Projects: ");
-        List<Project> projectList = CommonRepository.getAllProjects(SessionManager.getCurrentUser());
+        List<ProjectSummary> projectList = CommonRepository.getProjectSummaries(SessionManager.getCurrentUser());
         projectList.forEach(project ->
                 System.out.println("Project ID: " + project.getProjectId()
                         + ", Project Name: " + project.getProjectName()
@@ -224,56 +345,9 @@ public class CommonRepository {
 
         if (projectList.isEmpty()) {
             System.out.println("No projects to display for this user");
-            DashboardController.showDashboard(SessionManager.getCurrentUser());
             return 0;
         }
 
-        return ValidatorUtil.validateId("Select Project ID: ", projectList, Project::getProjectId);
-    }
-
-    // ------------------- Private Mapper Methods -------------------
-
-    private static Project mapProjectFromResultSet(ResultSet rs) throws SQLException {
-        Project project = new Project();
-        project.setProjectId(rs.getLong("project_id"));
-        project.setProjectName(rs.getString("project_name"));
-        project.setStatus(Status.valueOf(rs.getString("status")));
-        project.setPlannedBudget(rs.getDouble("planned_budget"));
-        project.setActualSpend(rs.getDouble("actual_spend"));
-        project.setBuilderId(rs.getLong("builder_id"));
-        project.setProjectManagerId(rs.getLong("manager_id"));
-        project.setClientId(rs.getLong("client_id"));
-        project.setDocument(null);
-        project.setTimeline(null);
-        return project;
-    }
-
-    private static Document mapDocumentFromResultSet(ResultSet rs) throws SQLException {
-        Document document = new Document();
-        document.setDocumentId(rs.getLong("document_id"));
-        document.setType(rs.getString("document_type"));
-        document.setDocumentName(rs.getString("document_name"));
-        document.setUploadedBy(rs.getString("uploaded_by"));
-        return document;
-    }
-
-    private static User mapUserFromResultSet(ResultSet rs) throws SQLException {
-        User user = new User();
-        user.setUserId(rs.getLong("user_id"));
-        user.setUserName(rs.getString("username"));
-        user.setEmail(rs.getString("email"));
-        user.setPassword(rs.getString("password"));
-        user.setRole(UserRole.valueOf(rs.getString("role")));
-        return user;
-    }
-
-    private static Task mapTaskFromResultSet(ResultSet rs) throws SQLException {
-        Task task = new Task();
-        task.setTaskId(rs.getLong("task_id"));
-        task.setTaskName(rs.getString("task_name"));
-        task.setStatus(rs.getString("status"));
-        task.setCreatedAt(rs.getDate("created_at"));
-        task.setUpdatedAt(rs.getDate("updated_at"));
-        return task;
+        return ValidatorUtil.validateId("Select Project ID: ", projectList, ProjectSummary::getProjectId);
     }
 }
@@ -0,0 +1,179 @@
+package builder.portfolio.repository;
+
+import builder.portfolio.repository.interfaces.IDocumentRepository;
+import builder.portfolio.repository.interfaces.INotificationRepository;
+import builder.portfolio.repository.interfaces.IProjectRepository;
+import builder.portfolio.repository.interfaces.ITaskRepository;
+import builder.portfolio.repository.interfaces.IUserRepository;
+import builder.portfolio.repository.jdbc.JdbcDocumentRepository;
+import builder.portfolio.repository.jdbc.JdbcNotificationRepository;
+import builder.portfolio.repository.jdbc.JdbcProjectRepository;
+import builder.portfolio.repository.jdbc.JdbcTaskRepository;
+import builder.portfolio.repository.jdbc.JdbcUserRepository;
+import builder.portfolio.repository.memory.InMemoryDocumentRepository;
+import builder.portfolio.repository.memory.InMemoryNotificationRepository;
+import builder.portfolio.repository.memory.InMemoryProjectRepository;
+import builder.portfolio.repository.memory.InMemoryStore;
+import builder.portfolio.repository.memory.InMemoryTaskRepository;
+import builder.portfolio.repository.memory.InMemoryUserRepository;
+import builder.portfolio.util.ConfigUtil;
+import builder.portfolio.util.DBUtil;
+import builder.portfolio.util.NotificationDispatcher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+/**
+ * Selects the storage backend behind the repositories.
+ *
+ * The backend is chosen by the optional {@code repository_backend} property in
+ * {@code application.properties}: {@code jdbc} (default) stores everything in PostgreSQL,
+ * {@code memory} keeps everything in an embedded, concurrent in-memory store that starts
+ * empty and is lost on exit, for load testing and single-node deployments.
+ *
+ * Example usage:
+ * Project project = RepositoryFactory.projects().findById(projectId);
+ */
+@Slf4j
+public final class RepositoryFactory {
+
+    /**
+     * The available storage backends.
+     */
+    public enum Backend {
+        /** PostgreSQL through {@link builder.portfolio.util.DBUtil}. */
+        JDBC,
+        /** Embedded in-memory store. */
+        MEMORY
+    }
+
+    /**
+     * The repositories of one backend.
+     */
+    private static final class Repositories {
+        private final Backend backend;
+        private final InMemoryStore store;
+        private final IProjectRepository projects;
+        private final ITaskRepository tasks;
+        private final IDocumentRepository documents;
+        private final IUserRepository users;
+        private final INotificationRepository notifications;
+
+        private Repositories(Backend backend) {
+            this.backend = backend;
+            if (backend == Backend.MEMORY) {
+                this.store = new InMemoryStore();
+                this.notifications = new InMemoryNotificationRepository(store,
+                        batch -> batch.forEach(NotificationDispatcher.getShared()::enqueue));
+                this.projects = new InMemoryProjectRepository(store, notifications);
+                this.tasks = new InMemoryTaskRepository(store);
+                this.documents = new InMemoryDocumentRepository(store);
+                this.users = new InMemoryUserRepository(store);
+            } else {
+                this.store = null;
+                this.notifications = new JdbcNotificationRepository();
+                this.projects = new JdbcProjectRepository();
+                this.tasks = new JdbcTaskRepository();
+                this.documents = new JdbcDocumentRepository();
+                this.users = new JdbcUserRepository();
+            }
+        }
+    }
+
+    private static volatile Repositories current = new Repositories(configuredBackend());
+
+    private RepositoryFactory() {
+    }
+
+    /**
+     * @return the project repository of the selected backend
+     */
+    public static IProjectRepository projects() {
+        return current.projects;
+    }
+
+    /**
+     * @return the task repository of the selected backend
+     */
+    public static ITaskRepository tasks() {
+        return current.tasks;
+    }
+
+    /**
+     * @return the document repository of the selected backend
+     */
+    public static IDocumentRepository documents() {
+        return current.documents;
+    }
+
+    /**
+     * @return the user repository of the selected backend
+     */
+    public static IUserRepository users() {
+        return current.users;
+    }
+
+    /**
+     * @return the notification repository of the selected backend
+     */
+    public static INotificationRepository notifications() {
+        return current.notifications;
+    }
+
+    /**
+     * @return the selected {@link Backend}
+     */
+    public static Backend getBackend() {
+        return current.backend;
+    }
+
+    /**
+     * Runs work as one unit: either all changes it makes through the repositories are kept,
+     * or, if it throws, none of them.
+     *
+     * On {@link Backend#JDBC} the work runs in one database transaction, see
+     * {@link DBUtil#inTransaction(Callable)}. On {@link Backend#MEMORY} the changes are undone
+     * if the work throws, see {@link InMemoryStore#inTransaction(Callable)}; other threads may
+     * see them before that. Cached project lists and users are dropped after a rollback.
+     *
+     * @param work the work to run
+     * @param <T>  the type of the result
+     * @return the result of the work
+     * @throws Exception whatever the work throws, or the reason its transaction failed
+     */
+    public static <T> T inTransaction(Callable<T> work) throws Exception {
+        Repositories repositories = current;
+        try {
+            return repositories.store != null ? repositories.store.inTransaction(work) : DBUtil.inTransaction(work);
+        } catch (Exception exception) {
+            CommonRepository.clearCaches();
+            AuthRepository.clearCaches();
+            throw exception;
+        }
+    }
+
+    /**
+     * Switches to a fresh instance of the given backend and drops all cached project lists,
+     * users and logins. Selecting {@link Backend#MEMORY} again starts with an empty store.
+     *
+     * @param backend the {@link Backend} to use
+     */
+    public static synchronized void setBackend(Backend backend) {
+        current = new Repositories(backend);
+        CommonRepository.clearCaches();
+        AuthRepository.clearCaches();
+    }
+
+    private static Backend configuredBackend() {
+        Properties config = ConfigUtil.getProperties();
+        String backend = config == null ? "jdbc" : config.getProperty("repository_backend", "jdbc").trim();
+        try {
+            return Backend.valueOf(backend.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException illegalArgumentException) {
+            log.warn("Unknown repository_backend '{}', using jdbc", backend);
+            return Backend.JDBC;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package builder.portfolio.repository;
+
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * In-process directory of users per role.
+ *
+ * Each role maps to an immutable snapshot loaded from the users table on first use.
+ * Registrations and deletions never modify a snapshot in place: they publish a new copy
+ * with the user added or removed, so readers iterating an older snapshot are unaffected
+ * and no reload from the database is needed. Snapshots keep only the user ID, name and role,
+ * the columns the directory is loaded from, never email addresses or password hashes.
+ */
+final class UserDirectory {
+
+    private final Function<UserRole, List<User>> loader;
+    private final ConcurrentMap<UserRole, List<User>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * @param loader loads all users of a role, returning {@code null} if the load fails
+     */
+    UserDirectory(Function<UserRole, List<User>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the snapshot of users with the given role, loading it if needed.
+     * A failed load is not cached.
+     *
+     * @param role the {@link UserRole} to look up
+     * @return an immutable {@link List} of users, empty if the load failed
+     */
+    List<User> get(UserRole role) {
+        List<User> users = snapshots.computeIfAbsent(role, key -> {
+            List<User> loaded = loader.apply(key);
+            return loaded == null ? null : copyOf(loaded);
+        });
+        return users == null ? List.of() : users;
+    }
+
+    /**
+     * Publishes a new snapshot containing a newly registered user.
+     * Does nothing if the snapshot already contains the user, e.g. when a load running
+     * concurrently with the registration already read it from the database.
+     *
+     * @param user the registered {@link User}
+     */
+    void userAdded(User user) {
+        if (user.getRole() == null) {
+            return;
+        }
+        snapshots.computeIfPresent(user.getRole(), (role, users) -> {
+            if (users.stream().anyMatch(existing -> existing.getUserId() == user.getUserId())) {
+                return users;
+            }
+            List<User> updated = new ArrayList<>(users);
+            updated.add(user);
+            return copyOf(updated);
+        });
+    }
+
+    /**
+     * Publishes new snapshots without the deleted user.
+     *
+     * @param userId the ID of the deleted user
+     */
+    void userRemoved(long userId) {
+        for (UserRole role : snapshots.keySet()) {
+            snapshots.computeIfPresent(role, (key, users) ->
+                    users.stream().anyMatch(user -> user.getUserId() == userId)
+                            ? List.copyOf(users.stream().filter(user -> user.getUserId() != userId).toList())
+                            : users);
+        }
+    }
+
+    /**
+     * Drops all snapshots; each role is reloaded on its next lookup.
+     */
+    void clear() {
+        snapshots.clear();
+    }
+
+    private static List<User> copyOf(List<User> users) {
+        return users.stream()
+                .map(user -> new User(user.getUserId(), null, null, user.getUserName(), user.getRole()))
+                .toList();
+    }
+}
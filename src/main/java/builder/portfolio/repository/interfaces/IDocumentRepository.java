@@ -0,0 +1,47 @@
+package builder.portfolio.repository.interfaces;
+
+import builder.portfolio.model.Document;
+import builder.portfolio.model.Page;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Storage of project documents.
+ */
+public interface IDocumentRepository {
+
+    /**
+     * Saves a document.
+     *
+     * @param document the {@link Document} to save; receives its generated ID
+     * @return the saved {@link Document}, or {@code null} if the save fails
+     */
+    Document save(Document document);
+
+    /**
+     * Finds all documents of a project.
+     *
+     * @param projectId the ID of the project
+     * @return the documents, empty if there are none or retrieval fails
+     */
+    List<Document> findByProject(long projectId);
+
+    /**
+     * Finds one page of the documents of a project, ordered by document ID.
+     *
+     * @param projectId       the ID of the project
+     * @param afterDocumentId cursor: only documents with a larger ID are returned; 0 for the first page
+     * @param pageSize        maximum number of documents on the page
+     * @return a {@link Page} of {@link Document}, empty if retrieval fails
+     */
+    Page<Document> findPage(long projectId, long afterDocumentId, int pageSize);
+
+    /**
+     * Streams all documents of a project, ordered by document ID. The stream must be closed.
+     *
+     * @param projectId the ID of the project
+     * @return a {@link Stream} of {@link Document}, empty if the read cannot be started
+     */
+    Stream<Document> stream(long projectId);
+}
@@ -0,0 +1,28 @@
+package builder.portfolio.repository.interfaces;
+
+import builder.portfolio.model.Notification;
+
+import java.util.List;
+
+/**
+ * Storage and delivery of user notifications.
+ */
+public interface INotificationRepository {
+
+    /**
+     * Stores notifications and queues them for delivery.
+     * Notifications for recipients without an ID are ignored.
+     *
+     * @param notifications the {@link Notification}s to send
+     * @return {@code true} if the notifications were stored
+     */
+    boolean send(List<Notification> notifications);
+
+    /**
+     * Finds the notifications delivered to a user, oldest first.
+     *
+     * @param userId the ID of the user
+     * @return the notifications, empty if there are none or retrieval fails
+     */
+    List<Notification> findByUser(long userId);
+}
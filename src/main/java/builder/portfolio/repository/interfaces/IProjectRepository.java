@@ -0,0 +1,150 @@
+package builder.portfolio.repository.interfaces;
+
+import builder.portfolio.model.Page;
+import builder.portfolio.model.Project;
+import builder.portfolio.model.ProjectSummary;
+import builder.portfolio.model.ProjectTimeline;
+import builder.portfolio.model.SpendEntry;
+import builder.portfolio.model.Task;
+import builder.portfolio.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Storage of projects, their progress counters and spend.
+ * Changes that notify users queue the notifications atomically with the change itself.
+ */
+public interface IProjectRepository {
+
+    /**
+     * Creates a project together with its tasks and notifies its client and project manager.
+     *
+     * @param project the {@link Project} to create; receives its generated ID
+     * @param tasks   the {@link Task}s of the project; receive their project and task IDs
+     * @return the created {@link Project}, or {@code null} if creation fails
+     */
+    Project create(Project project, List<Task> tasks);
+
+    /**
+     * Updates a project's name and planned budget and notifies its client and project manager.
+     *
+     * @param project the {@link Project} containing the updated details
+     * @return the updated {@link Project}, or {@code null} if the update fails
+     */
+    Project update(Project project);
+
+    /**
+     * Deletes a project with its tasks and documents and notifies its client and project manager.
+     *
+     * @param project the {@link Project} to delete
+     * @return {@code true} if the project was deleted
+     */
+    boolean delete(Project project);
+
+    /**
+     * Assigns a new project manager to a project and notifies them.
+     *
+     * @param project the {@link Project} containing the new manager ID
+     * @return {@code true} if the project was updated
+     */
+    boolean updateManager(Project project);
+
+    /**
+     * Finds a project by its ID.
+     *
+     * @param projectId the ID of the project
+     * @return the {@link Project}, or {@code null} if it does not exist or retrieval fails
+     */
+    Project findById(long projectId);
+
+    /**
+     * Finds all projects visible to a user: every project for an admin, otherwise those the
+     * user builds, manages or owns as client.
+     *
+     * @param user the {@link User} requesting the projects
+     * @return the projects, or {@code null} if retrieval fails
+     */
+    List<Project> findByUser(User user);
+
+    /**
+     * Finds the summaries of all projects visible to a user.
+     *
+     * @param user the {@link User} requesting the projects
+     * @return the {@link ProjectSummary}s, or {@code null} if retrieval fails
+     */
+    List<ProjectSummary> findSummariesByUser(User user);
+
+    /**
+     * Finds one page of the projects visible to a user, ordered by project ID.
+     *
+     * @param user           the {@link User} requesting the projects
+     * @param afterProjectId cursor: only projects with a larger ID are returned; 0 for the first page
+     * @param pageSize       maximum number of projects on the page
+     * @return a {@link Page} of {@link Project}, empty if retrieval fails
+     */
+    Page<Project> findPage(User user, long afterProjectId, int pageSize);
+
+    /**
+     * Streams all projects visible to a user, ordered by project ID. The stream must be closed.
+     *
+     * @param user the {@link User} requesting the projects
+     * @return a {@link Stream} of {@link Project}, empty if the read cannot be started
+     */
+    Stream<Project> stream(User user);
+
+    /**
+     * Reads the progress counters and end date of a project.
+     *
+     * @param projectId the ID of the project
+     * @return the {@link ProjectTimeline}, with an empty name if the project does not exist,
+     *         or {@code null} if retrieval fails
+     */
+    ProjectTimeline findTimeline(long projectId);
+
+    /**
+     * Reads the timelines of many projects at once; unknown projects are left out.
+     *
+     * @param projectIds the IDs of the projects
+     * @return the {@link ProjectTimeline}s keyed by project ID, in the order of {@code projectIds}
+     */
+    Map<Long, ProjectTimeline> findTimelines(Collection<Long> projectIds);
+
+    /**
+     * Reads the actual spend of a project.
+     *
+     * @param projectId the ID of the project
+     * @return the actual spend, or 0 if the project does not exist or retrieval fails
+     */
+    double getActualSpend(long projectId);
+
+    /**
+     * Atomically adds an amount to the actual spend of a project.
+     *
+     * @param projectId the ID of the project
+     * @param amount    the amount to add
+     * @return the new actual spend, or 0 if the project does not exist or the update fails
+     */
+    double addActualSpend(long projectId, double amount);
+
+    /**
+     * Applies many spend entries atomically; nothing is applied if any project does not exist.
+     *
+     * @param entries the {@link SpendEntry}s to apply
+     * @return the new actual spend per project ID, or an empty map if the ledger was not applied
+     */
+    Map<Long, Double> applySpendLedger(List<SpendEntry> entries);
+
+    /**
+     * Marks up to {@code numberOfTasks} pending tasks of a project as completed, oldest first,
+     * derives the project status from its progress counters and notifies the builder and client
+     * if the status changed.
+     *
+     * @param projectId     the ID of the project
+     * @param numberOfTasks the number of tasks to complete
+     * @return the number of tasks completed, or 0 if the update fails
+     */
+    int completeTasks(long projectId, int numberOfTasks);
+}
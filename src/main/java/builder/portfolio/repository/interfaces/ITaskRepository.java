@@ -0,0 +1,55 @@
+package builder.portfolio.repository.interfaces;
+
+import builder.portfolio.model.Page;
+import builder.portfolio.model.Task;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Storage of project tasks. Saving tasks keeps the owning project's progress counters current.
+ */
+public interface ITaskRepository {
+
+    /**
+     * Saves a task.
+     *
+     * @param task the {@link Task} to save; receives its generated ID
+     * @return the saved {@link Task}, or {@code null} if the save fails
+     */
+    Task save(Task task);
+
+    /**
+     * Saves several tasks atomically.
+     *
+     * @param tasks the {@link Task}s to save; each receives its generated ID
+     * @return the saved tasks, or {@code null} if the save fails
+     */
+    List<Task> saveAll(List<Task> tasks);
+
+    /**
+     * Finds all tasks of a project.
+     *
+     * @param projectId the ID of the project
+     * @return the tasks, empty if there are none or retrieval fails
+     */
+    List<Task> findByProject(long projectId);
+
+    /**
+     * Finds one page of the tasks of a project, ordered by task ID.
+     *
+     * @param projectId   the ID of the project
+     * @param afterTaskId cursor: only tasks with a larger ID are returned; 0 for the first page
+     * @param pageSize    maximum number of tasks on the page
+     * @return a {@link Page} of {@link Task}, empty if retrieval fails
+     */
+    Page<Task> findPage(long projectId, long afterTaskId, int pageSize);
+
+    /**
+     * Streams all tasks of a project, ordered by task ID. The stream must be closed.
+     *
+     * @param projectId the ID of the project
+     * @return a {@link Stream} of {@link Task}, empty if the read cannot be started
+     */
+    Stream<Task> stream(long projectId);
+}
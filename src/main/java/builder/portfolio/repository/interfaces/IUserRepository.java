@@ -0,0 +1,73 @@
+package builder.portfolio.repository.interfaces;
+
+import builder.portfolio.model.Page;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Storage of user accounts. Listings never include credentials.
+ */
+public interface IUserRepository {
+
+    /**
+     * Finds the account with the given email, including its stored password hash, for login.
+     *
+     * @param email the user's email address
+     * @return the matching {@link User}, or {@code null} if there is none or retrieval fails
+     */
+    User findByEmail(String email);
+
+    /**
+     * Replaces the stored password hash of a user.
+     *
+     * @param userId       the ID of the user
+     * @param passwordHash the new password hash
+     * @return {@code true} if the user was updated
+     */
+    boolean updatePassword(long userId, String passwordHash);
+
+    /**
+     * Registers a new user unless the email is already taken.
+     *
+     * @param user the {@link User} to register; receives its generated ID
+     * @return the registered {@link User}, or {@code null} if the email is taken or registration fails
+     */
+    User register(User user);
+
+    /**
+     * Deletes a user.
+     *
+     * @param userId the ID of the user
+     * @return {@code true} if the user was deleted
+     */
+    boolean delete(long userId);
+
+    /**
+     * Finds all users with a role, without credentials.
+     *
+     * @param role the {@link UserRole} to filter users
+     * @return the users, or {@code null} if retrieval fails
+     */
+    List<User> findByRole(UserRole role);
+
+    /**
+     * Finds one page of the users with a role, ordered by user ID.
+     *
+     * @param role        the {@link UserRole} to filter users
+     * @param afterUserId cursor: only users with a larger ID are returned; 0 for the first page
+     * @param pageSize    maximum number of users on the page
+     * @return a {@link Page} of {@link User}, empty if retrieval fails
+     */
+    Page<User> findPage(UserRole role, long afterUserId, int pageSize);
+
+    /**
+     * Streams all users with a role, ordered by user ID. The stream must be closed.
+     *
+     * @param role the {@link UserRole} to filter users
+     * @return a {@link Stream} of {@link User}, empty if the read cannot be started
+     */
+    Stream<User> stream(UserRole role);
+}
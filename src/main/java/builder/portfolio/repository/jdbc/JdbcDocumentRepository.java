@@ -0,0 +1,70 @@
+package builder.portfolio.repository.jdbc;
+
+import builder.portfolio.model.Document;
+import builder.portfolio.model.Page;
+import builder.portfolio.repository.interfaces.IDocumentRepository;
+import builder.portfolio.util.DBUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * PostgreSQL implementation of {@link IDocumentRepository}.
+ */
+@Slf4j
+public class JdbcDocumentRepository implements IDocumentRepository {
+
+    @Override
+    public Document save(Document document) {
+        String sql = "INSERT INTO DOCUMENT (project_id,document_name, document_url, created_at, document_type, uploaded_by) VALUES (?, ?, ?, ?, ?, ?) RETURNING document_id";
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setLong(1, document.getProjectId());
+            ps.setString(2, document.getDocumentName());
+            ps.setString(3, document.getFilePath());
+            ps.setDate(4, Date.valueOf(LocalDate.now()));
+            ps.setString(5, document.getType());
+            ps.setString(6, document.getUploadedBy());
+
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                document.setDocumentId(rs.getLong("document_id"));
+            }
+            return document;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public List<Document> findByProject(long projectId) {
+        String sql = "SELECT " + JdbcSupport.DOCUMENT_COLUMNS + " FROM document WHERE project_id = ?";
+        List<Document> documents = JdbcSupport.loadList(sql, projectId, JdbcSupport::mapDocument);
+        return documents == null ? new ArrayList<>() : documents;
+    }
+
+    @Override
+    public Page<Document> findPage(long projectId, long afterDocumentId, int pageSize) {
+        String sql = "SELECT " + JdbcSupport.DOCUMENT_COLUMNS + " FROM document "
+                + "WHERE project_id = ? AND document_id > ? ORDER BY document_id LIMIT ?";
+        return JdbcSupport.loadPage(sql, projectId, afterDocumentId, pageSize,
+                JdbcSupport::mapDocument, Document::getDocumentId);
+    }
+
+    @Override
+    public Stream<Document> stream(long projectId) {
+        String sql = "SELECT " + JdbcSupport.DOCUMENT_COLUMNS + " FROM document WHERE project_id = ? ORDER BY document_id";
+        return JdbcSupport.streamQuery(sql, projectId, JdbcSupport::mapDocument);
+    }
+}
@@ -0,0 +1,53 @@
+package builder.portfolio.repository.jdbc;
+
+import builder.portfolio.model.Notification;
+import builder.portfolio.model.User;
+import builder.portfolio.repository.interfaces.INotificationRepository;
+import builder.portfolio.util.DBUtil;
+import builder.portfolio.util.NotificationOutbox;
+import builder.portfolio.util.OutboxRelay;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL implementation of {@link INotificationRepository}.
+ * Notifications are written to the outbox and moved to the notification table by the {@link OutboxRelay}.
+ */
+@Slf4j
+public class JdbcNotificationRepository implements INotificationRepository {
+
+    @Override
+    public boolean send(List<Notification> notifications) {
+        try (Connection connection = DBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                NotificationOutbox.write(connection, notifications);
+                connection.commit();
+            } catch (SQLException sqlException) {
+                connection.rollback();
+                throw sqlException;
+            }
+            OutboxRelay.signal();
+            return true;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<Notification> findByUser(long userId) {
+        String sql = "SELECT notification_id, user_id, message FROM notification WHERE user_id = ? ORDER BY notification_id";
+        List<Notification> notifications = JdbcSupport.loadList(sql, userId, rs -> {
+            User recipient = new User();
+            recipient.setUserId(rs.getLong("user_id"));
+            return new Notification(rs.getLong("notification_id"), rs.getString("message"), recipient);
+        });
+        return notifications == null ? new ArrayList<>() : notifications;
+    }
+}
@@ -0,0 +1,525 @@
+package builder.portfolio.repository.jdbc;
+
+import builder.portfolio.model.Page;
+import builder.portfolio.model.Project;
+import builder.portfolio.model.ProjectSummary;
+import builder.portfolio.model.ProjectTimeline;
+import builder.portfolio.model.SpendEntry;
+import builder.portfolio.model.Task;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.Status;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.interfaces.IProjectRepository;
+import builder.portfolio.util.DBUtil;
+import builder.portfolio.util.NotificationOutbox;
+import builder.portfolio.util.OutboxRelay;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * PostgreSQL implementation of {@link IProjectRepository}.
+ * Every change runs in one transaction together with the outbox rows of its notifications;
+ * the {@link OutboxRelay} is woken after commit to deliver them.
+ */
+@Slf4j
+public class JdbcProjectRepository implements IProjectRepository {
+
+    /** Project details and progress counters; callers append the WHERE clause. */
+    private static final String TIMELINE_SQL =
+            "SELECT project_id, project_name, end_date, completed_tasks, total_tasks FROM project ";
+
+    @Override
+    public Project create(Project project, List<Task> tasks) {
+        String sql = """
+            INSERT INTO project (project_name, status, planned_budget, actual_spend, builder_id, manager_id, client_id, end_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?) RETURNING project_id
+            """;
+
+        try (Connection connection = DBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, project.getProjectName());
+                ps.setString(2, String.valueOf(Status.UPCOMING));
+                ps.setDouble(3, project.getPlannedBudget());
+                ps.setDouble(4, project.getActualSpend());
+                ps.setLong(5, project.getBuilderId());
+                ps.setLong(6, project.getProjectManagerId());
+                ps.setLong(7, project.getClientId());
+                ps.setDate(8, Date.valueOf(project.getEndDate()));
+
+                ResultSet rs = ps.executeQuery();
+                if (rs.next()) {
+                    project.setProjectId(rs.getLong("project_id"));
+                }
+
+                tasks.forEach(task -> task.setProjectId(project.getProjectId()));
+                JdbcSupport.insertTasks(connection, tasks);
+
+                String message = "A new project '" + project.getProjectName() + "' has been created and you have been added.";
+                writeNotifications(connection, project, message);
+
+                connection.commit();
+            } catch (SQLException sqlException) {
+                connection.rollback();
+                throw sqlException;
+            }
+
+            OutboxRelay.signal();
+            return project;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Project update(Project project) {
+        String sql = """
+            UPDATE project SET project_name = ?, planned_budget = ?
+            WHERE project_id = ? RETURNING project_id
+            """;
+
+        try (Connection connection = DBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, project.getProjectName());
+                ps.setDouble(2, project.getPlannedBudget());
+                ps.setLong(3, project.getProjectId());
+
+                ResultSet rs = ps.executeQuery();
+                if (rs.next()) {
+                    project.setProjectId(rs.getLong("project_id"));
+                }
+
+                String message = "Project '" + project.getProjectName() + "' has been updated.";
+                writeNotifications(connection, project, message);
+
+                connection.commit();
+            } catch (SQLException sqlException) {
+                connection.rollback();
+                throw sqlException;
+            }
+
+            OutboxRelay.signal();
+            return project;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public boolean delete(Project project) {
+        try (Connection connection = DBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement ps1 = connection.prepareStatement("DELETE FROM document WHERE project_id = ?");
+                 PreparedStatement ps2 = connection.prepareStatement("DELETE FROM task WHERE project_id = ?");
+                 PreparedStatement ps3 = connection.prepareStatement("DELETE FROM project WHERE project_id = ?")) {
+
+                ps1.setLong(1, project.getProjectId());
+                ps1.executeUpdate();
+
+                ps2.setLong(1, project.getProjectId());
+                ps2.executeUpdate();
+
+                ps3.setLong(1, project.getProjectId());
+                int rows = ps3.executeUpdate();
+
+                if (rows > 0) {
+                    String message = "🗑️ Project '" + project.getProjectName() + "' has been deleted.";
+                    writeNotifications(connection, project, message);
+                }
+
+                connection.commit();
+
+                if (rows > 0) {
+                    OutboxRelay.signal();
+                    return true;
+                }
+
+                return false;
+            } catch (SQLException sqlException) {
+                connection.rollback();
+                throw sqlException;
+            }
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateManager(Project project) {
+        String sql = "UPDATE project SET manager_id = ? WHERE project_id = ?";
+
+        try (Connection connection = DBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+
+            int updatedRows;
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setLong(1, project.getProjectManagerId());
+                ps.setLong(2, project.getProjectId());
+
+                updatedRows = ps.executeUpdate();
+
+                if (updatedRows > 0) {
+                    String message = "Project manager has been assigned/updated for project ID " + project.getProjectId();
+                    NotificationOutbox.write(connection, List.of(
+                            NotificationOutbox.notification(project.getProjectManagerId(), UserRole.PROJECT_MANAGER, message)));
+                }
+
+                connection.commit();
+            } catch (SQLException sqlException) {
+                connection.rollback();
+                throw sqlException;
+            }
+
+            if (updatedRows > 0) {
+                OutboxRelay.signal();
+                return true;
+            }
+
+            return false;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public Project findById(long projectId) {
+        String sql = "SELECT " + JdbcSupport.PROJECT_COLUMNS + " FROM project WHERE project_id = ?";
+        List<Project> projects = JdbcSupport.loadList(sql, projectId, JdbcSupport::mapProject);
+        return projects == null || projects.isEmpty() ? null : projects.get(0);
+    }
+
+    @Override
+    public List<Project> findByUser(User user) {
+        return loadProjects(user, JdbcSupport.PROJECT_COLUMNS, JdbcSupport::mapProject);
+    }
+
+    @Override
+    public List<ProjectSummary> findSummariesByUser(User user) {
+        return loadProjects(user, JdbcSupport.PROJECT_SUMMARY_COLUMNS, JdbcSupport::mapProjectSummary);
+    }
+
+    @Override
+    public Page<Project> findPage(User user, long afterProjectId, int pageSize) {
+        String ownerColumn = JdbcSupport.projectOwnerColumn(user.getRole());
+        String sql = "SELECT " + JdbcSupport.PROJECT_COLUMNS + " FROM project WHERE "
+                + (ownerColumn == null ? "" : ownerColumn + " = ? AND ")
+                + "project_id > ? ORDER BY project_id LIMIT ?";
+
+        Object ownerId = ownerColumn == null ? null : user.getUserId();
+        return JdbcSupport.loadPage(sql, ownerId, afterProjectId, pageSize,
+                JdbcSupport::mapProject, Project::getProjectId);
+    }
+
+    @Override
+    public Stream<Project> stream(User user) {
+        String ownerColumn = JdbcSupport.projectOwnerColumn(user.getRole());
+        String sql = "SELECT " + JdbcSupport.PROJECT_COLUMNS + " FROM project"
+                + (ownerColumn == null ? "" : " WHERE " + ownerColumn + " = ?")
+                + " ORDER BY project_id";
+        return JdbcSupport.streamQuery(sql, ownerColumn == null ? null : user.getUserId(), JdbcSupport::mapProject);
+    }
+
+    /**
+     * Reads the project and its progress counters with one query, so no tasks are counted.
+     */
+    @Override
+    public ProjectTimeline findTimeline(long projectId) {
+        String sql = TIMELINE_SQL + "WHERE project_id = ?";
+
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setLong(1, projectId);
+            ResultSet rs = ps.executeQuery();
+
+            if (rs.next()) {
+                return mapTimelineFromResultSet(projectId, rs);
+            }
+            return new ProjectTimeline(projectId, "", 0, 0, null);
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads all requested timelines with one {@code = ANY(?)} query.
+     */
+    @Override
+    public Map<Long, ProjectTimeline> findTimelines(Collection<Long> projectIds) {
+        Map<Long, ProjectTimeline> timelines = new LinkedHashMap<>();
+        if (projectIds.isEmpty()) {
+            return timelines;
+        }
+
+        String sql = TIMELINE_SQL + "WHERE project_id = ANY(?)";
+
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setArray(1, connection.createArrayOf("bigint", projectIds.toArray()));
+            ResultSet rs = ps.executeQuery();
+
+            Map<Long, ProjectTimeline> found = new HashMap<>();
+            while (rs.next()) {
+                long projectId = rs.getLong("project_id");
+                found.put(projectId, mapTimelineFromResultSet(projectId, rs));
+            }
+            for (Long projectId : projectIds) {
+                ProjectTimeline timeline = found.get(projectId);
+                if (timeline != null) {
+                    timelines.put(projectId, timeline);
+                }
+            }
+            return timelines;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return new LinkedHashMap<>();
+        }
+    }
+
+    @Override
+    public double getActualSpend(long projectId) {
+        String sql = "SELECT actual_spend FROM project WHERE project_id = ?";
+        double actualSpend = 0;
+
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setLong(1, projectId);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                actualSpend = rs.getDouble("actual_spend");
+            }
+            return actualSpend;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * The increment is applied by the database in a single statement, so concurrent
+     * updates of the same project cannot overwrite each other.
+     */
+    @Override
+    public double addActualSpend(long projectId, double amount) {
+        String sql = "UPDATE project SET actual_spend = actual_spend + ? WHERE project_id = ? RETURNING actual_spend";
+
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setDouble(1, amount);
+            ps.setLong(2, projectId);
+
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) {
+                return rs.getDouble("actual_spend");
+            }
+            return 0;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Entries for the same project are summed first, and the projects are updated in
+     * ascending ID order with one JDBC batch of atomic increments. The fixed order keeps
+     * concurrent ledgers from deadlocking on each other's row locks.
+     */
+    @Override
+    public Map<Long, Double> applySpendLedger(List<SpendEntry> entries) {
+        Map<Long, Double> totals = new TreeMap<>();
+        for (SpendEntry entry : entries) {
+            totals.merge(entry.getProjectId(), entry.getAmount(), Double::sum);
+        }
+        if (totals.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        String sql = "UPDATE project SET actual_spend = actual_spend + ? WHERE project_id = ?";
+
+        try (Connection connection = DBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"project_id", "actual_spend"})) {
+                for (Map.Entry<Long, Double> total : totals.entrySet()) {
+                    ps.setDouble(1, total.getValue());
+                    ps.setLong(2, total.getKey());
+                    ps.addBatch();
+                }
+
+                int[] updatedRows = ps.executeBatch();
+                for (int rows : updatedRows) {
+                    if (rows == 0) {
+                        connection.rollback();
+                        log.error("Spend ledger references an unknown project, nothing was applied");
+                        return Collections.emptyMap();
+                    }
+                }
+
+                Map<Long, Double> updatedSpend = new LinkedHashMap<>();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        updatedSpend.put(keys.getLong("project_id"), keys.getDouble("actual_spend"));
+                    }
+                }
+
+                connection.commit();
+                return updatedSpend;
+            } catch (SQLException sqlException) {
+                connection.rollback();
+                throw sqlException;
+            }
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Locks the project row, completes the oldest pending tasks and derives the new status
+     * from the completed_tasks/total_tasks counters instead of counting the pending tasks.
+     */
+    @Override
+    public int completeTasks(long projectId, int numberOfTasks) {
+        String updateTasksSql = """
+                UPDATE task t
+                SET status = 'COMPLETED',
+                    updated_at = NOW()
+                WHERE t.task_id IN (
+                    SELECT task_id
+                    FROM task
+                    WHERE project_id = ? AND status = 'PENDING'
+                    ORDER BY task_id
+                    LIMIT ?
+                )
+                """;
+
+        String getProjectSql = "SELECT status, builder_id, client_id FROM project WHERE project_id = ? FOR UPDATE";
+        String updateProgressSql = """
+                UPDATE project
+                SET completed_tasks = completed_tasks + ?,
+                    status = CASE WHEN completed_tasks + ? >= total_tasks THEN 'COMPLETED' ELSE 'IN_PROGRESS' END
+                WHERE project_id = ?
+                RETURNING status
+                """;
+
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement psGetProject = connection.prepareStatement(getProjectSql);
+             PreparedStatement psUpdateTasks = connection.prepareStatement(updateTasksSql);
+             PreparedStatement psUpdateProgress = connection.prepareStatement(updateProgressSql)) {
+
+            connection.setAutoCommit(false);
+
+            String currentStatus = null;
+            long builderId = 0;
+            long clientId = 0;
+
+            // Lock the project row and get its current status and user IDs
+            psGetProject.setLong(1, projectId);
+            try (ResultSet rs = psGetProject.executeQuery()) {
+                if (rs.next()) {
+                    currentStatus = rs.getString("status");
+                    builderId = rs.getLong("builder_id");
+                    clientId = rs.getLong("client_id");
+                }
+            }
+
+            // Update task statuses
+            psUpdateTasks.setLong(1, projectId);
+            psUpdateTasks.setInt(2, numberOfTasks);
+            int updatedTasks = psUpdateTasks.executeUpdate();
+
+            // Advance the progress counter and derive the new status from it
+            psUpdateProgress.setInt(1, updatedTasks);
+            psUpdateProgress.setInt(2, updatedTasks);
+            psUpdateProgress.setLong(3, projectId);
+            String newStatus = currentStatus;
+            try (ResultSet rs = psUpdateProgress.executeQuery()) {
+                if (rs.next()) {
+                    newStatus = rs.getString("status");
+                }
+            }
+
+            boolean statusChanged = newStatus != null && !newStatus.equals(currentStatus);
+            if (statusChanged) {
+                String message = (newStatus.equals("COMPLETED"))
+                        ? "Project (ID: " + projectId + ") has been completed!"
+                        : "Project (ID: " + projectId + ") is now in progress.";
+                NotificationOutbox.write(connection, List.of(
+                        NotificationOutbox.notification(builderId, UserRole.BUILDER, message),
+                        NotificationOutbox.notification(clientId, UserRole.CLIENT, message)));
+            }
+
+            connection.commit();
+
+            if (statusChanged) {
+                OutboxRelay.signal();
+            }
+            return updatedTasks;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return 0;
+        }
+    }
+
+    private <T> List<T> loadProjects(User user, String columns, JdbcSupport.RowMapper<T> mapper) {
+        String ownerColumn = JdbcSupport.projectOwnerColumn(user.getRole());
+        String sql = "SELECT " + columns + " FROM project" + (ownerColumn == null ? "" : " WHERE " + ownerColumn + " = ?");
+        List<T> projects = JdbcSupport.loadList(sql, ownerColumn == null ? null : user.getUserId(), mapper);
+        return projects == null ? null : List.copyOf(projects);
+    }
+
+    /**
+     * Writes a notification for the project's client and project manager to the outbox,
+     * as part of the transaction open on the given connection.
+     *
+     * @param connection the connection whose transaction the notifications join
+     * @param project    the {@link Project} whose client and manager are notified
+     * @param message    the notification message
+     * @throws SQLException if the outbox insert fails
+     */
+    private void writeNotifications(Connection connection, Project project, String message) throws SQLException {
+        NotificationOutbox.write(connection, List.of(
+                NotificationOutbox.notification(project.getClientId(), UserRole.CLIENT, message),
+                NotificationOutbox.notification(project.getProjectManagerId(), UserRole.PROJECT_MANAGER, message)));
+    }
+
+    private ProjectTimeline mapTimelineFromResultSet(long projectId, ResultSet rs) throws SQLException {
+        Date endDate = rs.getDate("end_date");
+        return new ProjectTimeline(projectId, rs.getString("project_name"),
+                rs.getInt("completed_tasks"), rs.getInt("total_tasks"),
+                endDate == null ? null : endDate.toLocalDate());
+    }
+}
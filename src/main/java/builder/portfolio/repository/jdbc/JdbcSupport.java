@@ -0,0 +1,335 @@
+package builder.portfolio.repository.jdbc;
+
+import builder.portfolio.model.Document;
+import builder.portfolio.model.Page;
+import builder.portfolio.model.Project;
+import builder.portfolio.model.ProjectSummary;
+import builder.portfolio.model.Task;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.Status;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.util.ConfigUtil;
+import builder.portfolio.util.DBUtil;
+import builder.portfolio.util.PagingUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Column lists, row mappers and query helpers shared by the JDBC repositories.
+ */
+@Slf4j
+final class JdbcSupport {
+
+    /** Columns read for a full {@link Project}. */
+    static final String PROJECT_COLUMNS =
+            "project_id, project_name, status, planned_budget, actual_spend, builder_id, manager_id, client_id, end_date";
+
+    /** Columns read for a {@link ProjectSummary}. */
+    static final String PROJECT_SUMMARY_COLUMNS =
+            "project_id, project_name, status, planned_budget, actual_spend, manager_id";
+
+    /** Columns read for a {@link Task}. */
+    static final String TASK_COLUMNS = "task_id, task_name, status, created_at, updated_at";
+
+    /** Columns read for a {@link Document}. */
+    static final String DOCUMENT_COLUMNS = "document_id, document_type, document_name, uploaded_by";
+
+    /** Columns read for a listed {@link User}; credentials are never listed. */
+    static final String USER_COLUMNS = "user_id, username, role";
+
+    /** Columns read for a login, the only query that reads credentials. */
+    static final String ACCOUNT_COLUMNS = "user_id, username, email, password, role";
+
+    private JdbcSupport() {
+    }
+
+    /**
+     * Maps the current row of a {@link ResultSet} to an object.
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Returns the project column holding the ID of a user with the given role,
+     * or {@code null} for administrators, who see every project.
+     */
+    static String projectOwnerColumn(UserRole role) {
+        switch (role) {
+            case ADMIN:
+                return null;
+            case BUILDER:
+                return "builder_id";
+            case PROJECT_MANAGER:
+                return "manager_id";
+            case CLIENT:
+                return "client_id";
+            default:
+                throw new IllegalArgumentException("Unsupported role: " + role);
+        }
+    }
+
+    /**
+     * Runs a query whose only parameter is an optional filter value and maps every row.
+     *
+     * @return the mapped rows, or {@code null} if the query fails
+     */
+    static <T> List<T> loadList(String sql, Object filter, RowMapper<T> mapper) {
+        List<T> items = new ArrayList<>();
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            if (filter != null) {
+                ps.setObject(1, filter);
+            }
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                items.add(mapper.map(rs));
+            }
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return null;
+        }
+        return items;
+    }
+
+    /**
+     * Runs a keyset page query whose parameters are an optional filter value, the cursor and
+     * the limit. One extra row is fetched to tell whether another page follows.
+     */
+    static <T> Page<T> loadPage(String sql, Object filter, long afterId, int pageSize,
+                                RowMapper<T> mapper, ToLongFunction<T> idOf) {
+        List<T> items = new ArrayList<>();
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            int index = 1;
+            if (filter != null) {
+                ps.setObject(index++, filter);
+            }
+            ps.setLong(index++, afterId);
+            ps.setInt(index, pageSize + 1);
+
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                items.add(mapper.map(rs));
+            }
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return new Page<>(List.of(), afterId, false);
+        }
+        return PagingUtil.toPage(items, afterId, pageSize, idOf);
+    }
+
+    /**
+     * Runs a query on a server-side cursor and exposes its rows as a lazy {@link Stream}.
+     *
+     * The connection stays borrowed with autocommit off, so the driver fetches rows in chunks
+     * of {@code db_stream_fetch_size} (default 500) instead of loading the whole result. Closing
+     * the stream closes the result set and statement, ends the read-only transaction and
+     * returns the connection to the pool. A database error while iterating is rethrown as an
+     * {@link IllegalStateException}.
+     */
+    static <T> Stream<T> streamQuery(String sql, Object filter, RowMapper<T> mapper) {
+        int fetchSize = ConfigUtil.intProperty(ConfigUtil.getProperties(), "db_stream_fetch_size", 500);
+
+        Connection connection = DBUtil.getConnection();
+        if (connection == null) {
+            log.error("No database connection available");
+            return Stream.empty();
+        }
+
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            connection.setAutoCommit(false);
+            ps = connection.prepareStatement(sql);
+            ps.setFetchSize(fetchSize);
+            if (filter != null) {
+                ps.setObject(1, filter);
+            }
+            rs = ps.executeQuery();
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            closeCursor(connection, ps, rs);
+            return Stream.empty();
+        }
+
+        ResultSet cursor = rs;
+        PreparedStatement statement = ps;
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!cursor.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(cursor));
+                    return true;
+                } catch (SQLException sqlException) {
+                    throw new IllegalStateException(sqlException.getMessage(), sqlException);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false).onClose(() -> closeCursor(connection, statement, cursor));
+    }
+
+    private static void closeCursor(Connection connection, PreparedStatement ps, ResultSet rs) {
+        try (connection) {
+            if (rs != null) {
+                rs.close();
+            }
+            if (ps != null) {
+                ps.close();
+            }
+            connection.commit();
+            connection.setAutoCommit(true);
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+        }
+    }
+
+    /**
+     * Inserts the tasks on the given connection with one batch, assigns the generated IDs and
+     * advances the projects' progress counters. The driver returns the generated keys in batch order.
+     *
+     * @param connection the connection whose transaction the tasks join
+     * @param tasks      the {@link Task}s to insert
+     * @throws SQLException if the insert fails
+     */
+    static void insertTasks(Connection connection, List<Task> tasks) throws SQLException {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO TASK (project_id,task_name,status,created_at,updated_at) VALUES (?, ?, ?, ?, ?)";
+        Date today = Date.valueOf(LocalDate.now());
+
+        try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"task_id"})) {
+            for (Task task : tasks) {
+                ps.setLong(1, task.getProjectId());
+                ps.setString(2, task.getTaskName());
+                ps.setString(3, task.getStatus());
+                ps.setDate(4, today);
+                ps.setDate(5, today);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                int index = 0;
+                while (keys.next() && index < tasks.size()) {
+                    tasks.get(index++).setTaskId(keys.getLong(1));
+                }
+            }
+        }
+
+        updateTaskCounters(connection, tasks);
+    }
+
+    /**
+     * Adds newly inserted tasks to their projects' total_tasks counters, and to
+     * completed_tasks for tasks inserted as completed, on the given connection.
+     *
+     * @param connection the connection whose transaction the update joins
+     * @param tasks      the inserted {@link Task}s
+     * @throws SQLException if the update fails
+     */
+    static void updateTaskCounters(Connection connection, List<Task> tasks) throws SQLException {
+        Map<Long, int[]> counts = new TreeMap<>();
+        for (Task task : tasks) {
+            int[] projectCounts = counts.computeIfAbsent(task.getProjectId(), id -> new int[2]);
+            projectCounts[0]++;
+            if ("COMPLETED".equals(task.getStatus())) {
+                projectCounts[1]++;
+            }
+        }
+
+        String sql = "UPDATE project SET total_tasks = total_tasks + ?, completed_tasks = completed_tasks + ? WHERE project_id = ?";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (Map.Entry<Long, int[]> entry : counts.entrySet()) {
+                ps.setInt(1, entry.getValue()[0]);
+                ps.setInt(2, entry.getValue()[1]);
+                ps.setLong(3, entry.getKey());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    // ------------------- Row Mappers -------------------
+
+    static Project mapProject(ResultSet rs) throws SQLException {
+        Project project = new Project();
+        project.setProjectId(rs.getLong("project_id"));
+        project.setProjectName(rs.getString("project_name"));
+        project.setStatus(Status.valueOf(rs.getString("status")));
+        project.setPlannedBudget(rs.getDouble("planned_budget"));
+        project.setActualSpend(rs.getDouble("actual_spend"));
+        project.setBuilderId(rs.getLong("builder_id"));
+        project.setProjectManagerId(rs.getLong("manager_id"));
+        project.setClientId(rs.getLong("client_id"));
+        Date endDate = rs.getDate("end_date");
+        project.setEndDate(endDate == null ? null : endDate.toLocalDate());
+        project.setDocument(null);
+        project.setTimeline(null);
+        return project;
+    }
+
+    static ProjectSummary mapProjectSummary(ResultSet rs) throws SQLException {
+        ProjectSummary summary = new ProjectSummary();
+        summary.setProjectId(rs.getLong("project_id"));
+        summary.setProjectName(rs.getString("project_name"));
+        summary.setStatus(Status.valueOf(rs.getString("status")));
+        summary.setPlannedBudget(rs.getDouble("planned_budget"));
+        summary.setActualSpend(rs.getDouble("actual_spend"));
+        summary.setProjectManagerId(rs.getLong("manager_id"));
+        return summary;
+    }
+
+    static Document mapDocument(ResultSet rs) throws SQLException {
+        Document document = new Document();
+        document.setDocumentId(rs.getLong("document_id"));
+        document.setType(rs.getString("document_type"));
+        document.setDocumentName(rs.getString("document_name"));
+        document.setUploadedBy(rs.getString("uploaded_by"));
+        return document;
+    }
+
+    static User mapUser(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setUserId(rs.getLong("user_id"));
+        user.setUserName(rs.getString("username"));
+        user.setRole(UserRole.valueOf(rs.getString("role")));
+        return user;
+    }
+
+    static Task mapTask(ResultSet rs) throws SQLException {
+        Task task = new Task();
+        task.setTaskId(rs.getLong("task_id"));
+        task.setTaskName(rs.getString("task_name"));
+        task.setStatus(rs.getString("status"));
+        task.setCreatedAt(rs.getDate("created_at"));
+        task.setUpdatedAt(rs.getDate("updated_at"));
+        return task;
+    }
+}
@@ -0,0 +1,98 @@
+package builder.portfolio.repository.jdbc;
+
+import builder.portfolio.model.Page;
+import builder.portfolio.model.Task;
+import builder.portfolio.repository.interfaces.ITaskRepository;
+import builder.portfolio.util.DBUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * PostgreSQL implementation of {@link ITaskRepository}.
+ * Tasks are inserted in the same transaction as the update of their project's progress counters.
+ */
+@Slf4j
+public class JdbcTaskRepository implements ITaskRepository {
+
+    @Override
+    public Task save(Task task) {
+        String sql = "INSERT INTO TASK (project_id,task_name,status,created_at,updated_at) VALUES (?, ?, ?, ?, ?) RETURNING task_id";
+        try (Connection connection = DBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setLong(1, task.getProjectId());
+                ps.setString(2, task.getTaskName());
+                ps.setString(3, task.getStatus());
+                ps.setDate(4, Date.valueOf(LocalDate.now()));
+                ps.setDate(5, Date.valueOf(LocalDate.now()));
+
+                ResultSet rs = ps.executeQuery();
+                if (rs.next()) {
+                    task.setTaskId(rs.getLong("task_id"));
+                }
+                JdbcSupport.updateTaskCounters(connection, List.of(task));
+
+                connection.commit();
+            } catch (SQLException sqlException) {
+                connection.rollback();
+                throw sqlException;
+            }
+            return task;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Inserts all tasks with a single JDBC batch in one transaction.
+     */
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        try (Connection connection = DBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                JdbcSupport.insertTasks(connection, tasks);
+                connection.commit();
+                return tasks;
+            } catch (SQLException sqlException) {
+                connection.rollback();
+                throw sqlException;
+            }
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public List<Task> findByProject(long projectId) {
+        String sql = "SELECT " + JdbcSupport.TASK_COLUMNS + " FROM task WHERE project_id = ?";
+        List<Task> tasks = JdbcSupport.loadList(sql, projectId, JdbcSupport::mapTask);
+        return tasks == null ? new ArrayList<>() : tasks;
+    }
+
+    @Override
+    public Page<Task> findPage(long projectId, long afterTaskId, int pageSize) {
+        String sql = "SELECT " + JdbcSupport.TASK_COLUMNS + " FROM task "
+                + "WHERE project_id = ? AND task_id > ? ORDER BY task_id LIMIT ?";
+        return JdbcSupport.loadPage(sql, projectId, afterTaskId, pageSize, JdbcSupport::mapTask, Task::getTaskId);
+    }
+
+    @Override
+    public Stream<Task> stream(long projectId) {
+        String sql = "SELECT " + JdbcSupport.TASK_COLUMNS + " FROM task WHERE project_id = ? ORDER BY task_id";
+        return JdbcSupport.streamQuery(sql, projectId, JdbcSupport::mapTask);
+    }
+}
@@ -0,0 +1,169 @@
+package builder.portfolio.repository.jdbc;
+
+import builder.portfolio.exceptions.InvalidUserFormatException;
+import builder.portfolio.model.Page;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.interfaces.IUserRepository;
+import builder.portfolio.util.DBUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * PostgreSQL implementation of {@link IUserRepository}.
+ */
+@Slf4j
+public class JdbcUserRepository implements IUserRepository {
+
+    @Override
+    public User findByEmail(String email) {
+        String query = "SELECT " + JdbcSupport.ACCOUNT_COLUMNS + " FROM users WHERE email = ?";
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(query)) {
+
+            ps.setString(1, email);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return mapAccountFromResultSet(rs);
+                }
+            }
+        } catch (SQLException | InvalidUserFormatException exception) {
+            log.error(exception.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether the email is already registered before inserting the user.
+     */
+    @Override
+    public User register(User user) {
+        String checkQuery = "SELECT user_id FROM users WHERE email = ?";
+        String insertQuery = "INSERT INTO users (userName, email, password, role) VALUES (?, ?, ?, ?)";
+
+        try (Connection connection = DBUtil.getConnection()) {
+
+            // Check if email already exists
+            try (PreparedStatement checkStmt = connection.prepareStatement(checkQuery)) {
+                checkStmt.setString(1, user.getEmail());
+                ResultSet rs = checkStmt.executeQuery();
+                if (rs.next()) {
+                    log.info("Email already registered.");
+                    return null;
+                }
+            }
+
+            // Insert new user
+            try (PreparedStatement insertStmt = connection.prepareStatement(insertQuery, Statement.RETURN_GENERATED_KEYS)) {
+                insertStmt.setString(1, user.getUserName());
+                insertStmt.setString(2, user.getEmail());
+                insertStmt.setString(3, user.getPassword());
+                insertStmt.setString(4, user.getRole().name());
+
+                int rowsAffected = insertStmt.executeUpdate();
+
+                if (rowsAffected > 0) {
+                    ResultSet generatedKeys = insertStmt.getGeneratedKeys();
+                    if (generatedKeys.next()) {
+                        user.setUserId(generatedKeys.getLong(1));
+                    }
+                    return user;
+                }
+            }
+
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean updatePassword(long userId, String passwordHash) {
+        String sql = "UPDATE users SET password = ? WHERE user_id = ?";
+
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setString(1, passwordHash);
+            ps.setLong(2, userId);
+            return ps.executeUpdate() > 0;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean delete(long userId) {
+        String sql = "DELETE FROM users WHERE user_id=? ";
+
+        try (Connection connection = DBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setLong(1, userId);
+            return ps.executeUpdate() > 0;
+
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<User> findByRole(UserRole role) {
+        String sql = "SELECT " + JdbcSupport.USER_COLUMNS + " FROM users WHERE role = ?";
+        return JdbcSupport.loadList(sql, role.name(), JdbcSupport::mapUser);
+    }
+
+    @Override
+    public Page<User> findPage(UserRole role, long afterUserId, int pageSize) {
+        String sql = "SELECT " + JdbcSupport.USER_COLUMNS + " FROM users WHERE role = ? AND user_id > ? ORDER BY user_id LIMIT ?";
+        return JdbcSupport.loadPage(sql, role.name(), afterUserId, pageSize, JdbcSupport::mapUser, User::getUserId);
+    }
+
+    @Override
+    public Stream<User> stream(UserRole role) {
+        String sql = "SELECT " + JdbcSupport.USER_COLUMNS + " FROM users WHERE role = ? ORDER BY user_id";
+        return JdbcSupport.streamQuery(sql, role.name(), JdbcSupport::mapUser);
+    }
+
+    /**
+     * Maps a {@link ResultSet} row to a {@link User} including its credentials.
+     * Throws {@link InvalidUserFormatException} if any required field is null.
+     *
+     * @param rs the {@link ResultSet} containing user data
+     * @return a {@link User} object populated with data from the result set
+     * @throws InvalidUserFormatException if required user fields are missing or invalid
+     * @throws SQLException               if a database access error occurs
+     */
+    private User mapAccountFromResultSet(ResultSet rs) throws InvalidUserFormatException, SQLException {
+        long userId = rs.getLong("user_id");
+        String username = rs.getString("username");
+        String email = rs.getString("email");
+        String password = rs.getString("password");
+        String roleStr = rs.getString("role");
+
+        if (username == null || email == null || password == null || roleStr == null) {
+            throw new InvalidUserFormatException("Invalid User Format from Postgres");
+        }
+
+        User user = new User();
+        user.setUserId(userId);
+        user.setUserName(username);
+        user.setEmail(email);
+        user.setPassword(password);
+        user.setRole(UserRole.valueOf(roleStr));
+
+        return user;
+    }
+}
@@ -0,0 +1,76 @@
+package builder.portfolio.repository.memory;
+
+import builder.portfolio.model.Document;
+import builder.portfolio.model.Page;
+import builder.portfolio.repository.interfaces.IDocumentRepository;
+import builder.portfolio.util.PagingUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of {@link IDocumentRepository}.
+ * Documents are added under their project's lock so they cannot outlive a concurrently deleted project.
+ */
+@Slf4j
+public class InMemoryDocumentRepository implements IDocumentRepository {
+
+    private final InMemoryStore store;
+
+    /**
+     * @param store the shared store
+     */
+    public InMemoryDocumentRepository(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Document save(Document document) {
+        InMemoryStore.ProjectRecord record = store.lockProject(document.getProjectId());
+        if (record == null) {
+            log.error("Project {} does not exist, document was not saved", document.getProjectId());
+            return null;
+        }
+        try {
+            long projectId = document.getProjectId();
+            long documentId = store.documentIds.incrementAndGet();
+            document.setDocumentId(documentId);
+            store.documents.put(documentId, InMemoryStore.copy(document));
+            store.documentsByProject.add(projectId, documentId);
+            store.onRollback(() -> store.withProject(projectId, locked -> {
+                store.documentsByProject.remove(projectId, documentId);
+                store.documents.remove(documentId);
+            }));
+            return document;
+        } finally {
+            record.lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Document> findByProject(long projectId) {
+        return new ArrayList<>(stream(projectId).toList());
+    }
+
+    @Override
+    public Page<Document> findPage(long projectId, long afterDocumentId, int pageSize) {
+        List<Document> items = new ArrayList<>();
+        InMemoryStore.collect(store.documentsByProject.get(projectId), afterDocumentId, pageSize + 1, this::findById, items);
+        return PagingUtil.toPage(items, afterDocumentId, pageSize, Document::getDocumentId);
+    }
+
+    @Override
+    public Stream<Document> stream(long projectId) {
+        return store.documentsByProject.get(projectId).stream()
+                .map(this::findById)
+                .filter(Objects::nonNull);
+    }
+
+    private Document findById(long documentId) {
+        Document document = store.documents.get(documentId);
+        return document == null ? null : InMemoryStore.copy(document);
+    }
+}
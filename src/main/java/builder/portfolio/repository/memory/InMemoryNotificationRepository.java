@@ -0,0 +1,77 @@
+package builder.portfolio.repository.memory;
+
+import builder.portfolio.model.Notification;
+import builder.portfolio.model.User;
+import builder.portfolio.repository.interfaces.INotificationRepository;
+import builder.portfolio.util.NotificationDispatcher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory implementation of {@link INotificationRepository}.
+ * Notifications are kept per user and handed straight to a {@link NotificationDispatcher.Sink};
+ * there is no outbox. Inside a unit of work of the store they are stored and delivered once
+ * the unit has succeeded.
+ */
+@Slf4j
+public class InMemoryNotificationRepository implements INotificationRepository {
+
+    private final InMemoryStore store;
+    private final NotificationDispatcher.Sink sink;
+    private final ConcurrentMap<Long, List<Notification>> notificationsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * @param store the shared store, used for notification IDs
+     * @param sink  receives every stored batch for delivery
+     */
+    public InMemoryNotificationRepository(InMemoryStore store, NotificationDispatcher.Sink sink) {
+        this.store = store;
+        this.sink = sink;
+    }
+
+    @Override
+    public boolean send(List<Notification> notifications) {
+        store.afterCommit(() -> deliver(notifications));
+        return true;
+    }
+
+    private void deliver(List<Notification> notifications) {
+        List<Notification> stored = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            User recipient = notification.getRecipient();
+            if (recipient == null || recipient.getUserId() <= 0) {
+                continue;
+            }
+            Notification copy = new Notification(store.notificationIds.incrementAndGet(), notification.getMessage(),
+                    new User(recipient.getUserId(), null, null, null, recipient.getRole()));
+            List<Notification> received = notificationsByUser.computeIfAbsent(recipient.getUserId(), id -> new ArrayList<>());
+            synchronized (received) {
+                received.add(copy);
+            }
+            stored.add(copy);
+        }
+
+        if (!stored.isEmpty()) {
+            try {
+                sink.deliver(stored);
+            } catch (Exception exception) {
+                log.error("Failed to deliver {} notifications: {}", stored.size(), exception.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public List<Notification> findByUser(long userId) {
+        List<Notification> received = notificationsByUser.get(userId);
+        if (received == null) {
+            return new ArrayList<>();
+        }
+        synchronized (received) {
+            return new ArrayList<>(received);
+        }
+    }
+}
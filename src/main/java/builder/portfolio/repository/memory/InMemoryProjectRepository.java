@@ -0,0 +1,385 @@
+package builder.portfolio.repository.memory;
+
+import builder.portfolio.model.Document;
+import builder.portfolio.model.Notification;
+import builder.portfolio.model.Page;
+import builder.portfolio.model.Project;
+import builder.portfolio.model.ProjectSummary;
+import builder.portfolio.model.ProjectTimeline;
+import builder.portfolio.model.SpendEntry;
+import builder.portfolio.model.Task;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.Status;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.interfaces.INotificationRepository;
+import builder.portfolio.repository.interfaces.IProjectRepository;
+import builder.portfolio.util.NotificationOutbox;
+import builder.portfolio.util.PagingUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of {@link IProjectRepository}.
+ * Each change holds the project's lock while it updates the project, its tasks and indexes;
+ * notifications are sent once the lock is released. Inside a unit of work every change
+ * records its inverse with {@link InMemoryStore#onRollback}.
+ */
+@Slf4j
+public class InMemoryProjectRepository implements IProjectRepository {
+
+    private final InMemoryStore store;
+    private final INotificationRepository notifications;
+
+    /**
+     * @param store         the shared store
+     * @param notifications receives the notifications of project changes
+     */
+    public InMemoryProjectRepository(InMemoryStore store, INotificationRepository notifications) {
+        this.store = store;
+        this.notifications = notifications;
+    }
+
+    @Override
+    public Project create(Project project, List<Task> tasks) {
+        long projectId = store.projectIds.incrementAndGet();
+        project.setProjectId(projectId);
+        Project stored = InMemoryStore.copy(project);
+        stored.setStatus(Status.UPCOMING);
+
+        InMemoryStore.ProjectRecord record = new InMemoryStore.ProjectRecord(stored);
+        record.lock.lock();
+        try {
+            store.projects.put(projectId, record);
+            tasks.forEach(task -> task.setProjectId(projectId));
+            store.addTasks(record, tasks);
+
+            store.allProjectIds.add(projectId);
+            store.projectsByBuilder.add(stored.getBuilderId(), projectId);
+            store.projectsByManager.add(stored.getProjectManagerId(), projectId);
+            store.projectsByClient.add(stored.getClientId(), projectId);
+        } finally {
+            record.lock.unlock();
+        }
+        store.onRollback(() -> store.withProject(projectId, store::removeProject));
+
+        notifyClientAndManager(stored, "A new project '" + stored.getProjectName() + "' has been created and you have been added.");
+        return project;
+    }
+
+    @Override
+    public Project update(Project project) {
+        InMemoryStore.ProjectRecord record = store.lockProject(project.getProjectId());
+        if (record == null) {
+            log.error("Project {} does not exist", project.getProjectId());
+            return null;
+        }
+
+        Project updated;
+        Project previous = record.project;
+        try {
+            updated = InMemoryStore.copy(previous);
+            updated.setProjectName(project.getProjectName());
+            updated.setPlannedBudget(project.getPlannedBudget());
+            record.project = updated;
+        } finally {
+            record.lock.unlock();
+        }
+        store.onRollback(() -> store.withProject(previous.getProjectId(), locked -> {
+            Project restored = InMemoryStore.copy(locked.project);
+            restored.setProjectName(previous.getProjectName());
+            restored.setPlannedBudget(previous.getPlannedBudget());
+            locked.project = restored;
+        }));
+
+        notifyClientAndManager(updated, "Project '" + updated.getProjectName() + "' has been updated.");
+        return project;
+    }
+
+    @Override
+    public boolean delete(Project project) {
+        long projectId = project.getProjectId();
+        InMemoryStore.ProjectRecord record = store.lockProject(projectId);
+        if (record == null) {
+            return false;
+        }
+
+        Project deleted = record.project;
+        try {
+            List<Task> removedTasks = store.tasksByProject.get(projectId).stream()
+                    .map(store.tasks::get).filter(Objects::nonNull).toList();
+            List<Document> removedDocuments = store.documentsByProject.get(projectId).stream()
+                    .map(store.documents::get).filter(Objects::nonNull).toList();
+            store.removeProject(record);
+            store.onRollback(() -> store.restoreProject(record, removedTasks, removedDocuments));
+        } finally {
+            record.lock.unlock();
+        }
+
+        notifyClientAndManager(deleted, "🗑️ Project '" + deleted.getProjectName() + "' has been deleted.");
+        return true;
+    }
+
+    @Override
+    public boolean updateManager(Project project) {
+        long projectId = project.getProjectId();
+        InMemoryStore.ProjectRecord record = store.lockProject(projectId);
+        if (record == null) {
+            return false;
+        }
+
+        try {
+            Project updated = InMemoryStore.copy(record.project);
+            long previousManagerId = updated.getProjectManagerId();
+            updated.setProjectManagerId(project.getProjectManagerId());
+            record.project = updated;
+            store.projectsByManager.add(updated.getProjectManagerId(), projectId);
+            if (previousManagerId != updated.getProjectManagerId()) {
+                store.projectsByManager.remove(previousManagerId, projectId);
+                store.onRollback(() -> store.withProject(projectId, locked -> {
+                    Project restored = InMemoryStore.copy(locked.project);
+                    restored.setProjectManagerId(previousManagerId);
+                    locked.project = restored;
+                    store.projectsByManager.add(previousManagerId, projectId);
+                    store.projectsByManager.remove(updated.getProjectManagerId(), projectId);
+                }));
+            }
+        } finally {
+            record.lock.unlock();
+        }
+
+        String message = "Project manager has been assigned/updated for project ID " + projectId;
+        notifications.send(List.of(
+                NotificationOutbox.notification(project.getProjectManagerId(), UserRole.PROJECT_MANAGER, message)));
+        return true;
+    }
+
+    @Override
+    public Project findById(long projectId) {
+        InMemoryStore.ProjectRecord record = store.projects.get(projectId);
+        return record == null ? null : InMemoryStore.copy(record.project);
+    }
+
+    @Override
+    public List<Project> findByUser(User user) {
+        return store.projectIdsFor(user.getRole(), user.getUserId()).stream()
+                .map(this::findById)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<ProjectSummary> findSummariesByUser(User user) {
+        return store.projectIdsFor(user.getRole(), user.getUserId()).stream()
+                .map(store.projects::get)
+                .filter(Objects::nonNull)
+                .map(record -> toSummary(record.project))
+                .toList();
+    }
+
+    @Override
+    public Page<Project> findPage(User user, long afterProjectId, int pageSize) {
+        List<Project> items = new ArrayList<>();
+        InMemoryStore.collect(store.projectIdsFor(user.getRole(), user.getUserId()),
+                afterProjectId, pageSize + 1, this::findById, items);
+        return PagingUtil.toPage(items, afterProjectId, pageSize, Project::getProjectId);
+    }
+
+    @Override
+    public Stream<Project> stream(User user) {
+        return store.projectIdsFor(user.getRole(), user.getUserId()).stream()
+                .map(this::findById)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public ProjectTimeline findTimeline(long projectId) {
+        InMemoryStore.ProjectRecord record = store.lockProject(projectId);
+        if (record == null) {
+            return new ProjectTimeline(projectId, "", 0, 0, null);
+        }
+        try {
+            return toTimeline(record);
+        } finally {
+            record.lock.unlock();
+        }
+    }
+
+    @Override
+    public Map<Long, ProjectTimeline> findTimelines(Collection<Long> projectIds) {
+        Map<Long, ProjectTimeline> timelines = new LinkedHashMap<>();
+        for (Long projectId : projectIds) {
+            InMemoryStore.ProjectRecord record = store.lockProject(projectId);
+            if (record == null) {
+                continue;
+            }
+            try {
+                timelines.put(projectId, toTimeline(record));
+            } finally {
+                record.lock.unlock();
+            }
+        }
+        return timelines;
+    }
+
+    @Override
+    public double getActualSpend(long projectId) {
+        InMemoryStore.ProjectRecord record = store.projects.get(projectId);
+        return record == null ? 0 : record.project.getActualSpend();
+    }
+
+    @Override
+    public double addActualSpend(long projectId, double amount) {
+        InMemoryStore.ProjectRecord record = store.lockProject(projectId);
+        if (record == null) {
+            return 0;
+        }
+        try {
+            Project updated = InMemoryStore.copy(record.project);
+            updated.setActualSpend(updated.getActualSpend() + amount);
+            record.project = updated;
+            store.onRollback(() -> addSpend(projectId, -amount));
+            return updated.getActualSpend();
+        } finally {
+            record.lock.unlock();
+        }
+    }
+
+    /**
+     * Entries for the same project are summed first and the projects are locked in ascending
+     * ID order, so concurrent ledgers cannot deadlock.
+     */
+    @Override
+    public Map<Long, Double> applySpendLedger(List<SpendEntry> entries) {
+        Map<Long, Double> totals = new TreeMap<>();
+        for (SpendEntry entry : entries) {
+            totals.merge(entry.getProjectId(), entry.getAmount(), Double::sum);
+        }
+        if (totals.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<InMemoryStore.ProjectRecord> locked = new ArrayList<>(totals.size());
+        try {
+            for (Long projectId : totals.keySet()) {
+                InMemoryStore.ProjectRecord record = store.lockProject(projectId);
+                if (record == null) {
+                    log.error("Spend ledger references an unknown project, nothing was applied");
+                    return Collections.emptyMap();
+                }
+                locked.add(record);
+            }
+
+            Map<Long, Double> updatedSpend = new LinkedHashMap<>();
+            for (InMemoryStore.ProjectRecord record : locked) {
+                Project updated = InMemoryStore.copy(record.project);
+                updated.setActualSpend(updated.getActualSpend() + totals.get(updated.getProjectId()));
+                record.project = updated;
+                updatedSpend.put(updated.getProjectId(), updated.getActualSpend());
+            }
+            store.onRollback(() -> totals.forEach((projectId, amount) -> addSpend(projectId, -amount)));
+            return updatedSpend;
+        } finally {
+            for (int i = locked.size() - 1; i >= 0; i--) {
+                locked.get(i).lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Completes the oldest pending tasks under the project's lock and derives the new status
+     * from the progress counters, like the JDBC implementation.
+     */
+    @Override
+    public int completeTasks(long projectId, int numberOfTasks) {
+        InMemoryStore.ProjectRecord record = store.lockProject(projectId);
+        if (record == null) {
+            return 0;
+        }
+
+        int completed = 0;
+        Project project;
+        boolean statusChanged;
+        List<Task> previousTasks = new ArrayList<>();
+        Status previousStatus = record.project.getStatus();
+        try {
+            Date today = Date.valueOf(LocalDate.now());
+            for (Long taskId : store.tasksByProject.get(projectId)) {
+                if (completed >= numberOfTasks) {
+                    break;
+                }
+                Task task = store.tasks.get(taskId);
+                if (task != null && "PENDING".equals(task.getStatus())) {
+                    Task updated = InMemoryStore.copy(task);
+                    updated.setStatus("COMPLETED");
+                    updated.setUpdatedAt(today);
+                    store.tasks.put(taskId, updated);
+                    previousTasks.add(task);
+                    completed++;
+                }
+            }
+
+            record.completedTasks += completed;
+            Status newStatus = record.completedTasks >= record.totalTasks ? Status.COMPLETED : Status.IN_PROGRESS;
+            statusChanged = newStatus != record.project.getStatus();
+            project = InMemoryStore.copy(record.project);
+            project.setStatus(newStatus);
+            record.project = project;
+        } finally {
+            record.lock.unlock();
+        }
+        store.onRollback(() -> store.withProject(projectId, locked -> {
+            previousTasks.forEach(task -> store.tasks.replace(task.getTaskId(), task));
+            locked.completedTasks -= previousTasks.size();
+            Project restored = InMemoryStore.copy(locked.project);
+            restored.setStatus(previousStatus);
+            locked.project = restored;
+        }));
+
+        if (statusChanged) {
+            String message = project.getStatus() == Status.COMPLETED
+                    ? "Project (ID: " + projectId + ") has been completed!"
+                    : "Project (ID: " + projectId + ") is now in progress.";
+            notifications.send(List.of(
+                    NotificationOutbox.notification(project.getBuilderId(), UserRole.BUILDER, message),
+                    NotificationOutbox.notification(project.getClientId(), UserRole.CLIENT, message)));
+        }
+        return completed;
+    }
+
+    private void addSpend(long projectId, double amount) {
+        store.withProject(projectId, record -> {
+            Project updated = InMemoryStore.copy(record.project);
+            updated.setActualSpend(updated.getActualSpend() + amount);
+            record.project = updated;
+        });
+    }
+
+    private void notifyClientAndManager(Project project, String message) {
+        List<Notification> batch = List.of(
+                NotificationOutbox.notification(project.getClientId(), UserRole.CLIENT, message),
+                NotificationOutbox.notification(project.getProjectManagerId(), UserRole.PROJECT_MANAGER, message));
+        notifications.send(batch);
+    }
+
+    private static ProjectSummary toSummary(Project project) {
+        return new ProjectSummary(project.getProjectId(), project.getProjectName(), project.getStatus(),
+                project.getPlannedBudget(), project.getActualSpend(), project.getProjectManagerId());
+    }
+
+    private static ProjectTimeline toTimeline(InMemoryStore.ProjectRecord record) {
+        Project project = record.project;
+        return new ProjectTimeline(project.getProjectId(), project.getProjectName(),
+                record.completedTasks, record.totalTasks, project.getEndDate());
+    }
+}
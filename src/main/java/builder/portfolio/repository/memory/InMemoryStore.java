@@ -0,0 +1,343 @@
+package builder.portfolio.repository.memory;
+
+import builder.portfolio.model.Document;
+import builder.portfolio.model.Project;
+import builder.portfolio.model.Task;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Shared state of the in-memory repositories.
+ *
+ * Entities are kept in {@link ConcurrentHashMap}s by ID, with sorted secondary indexes of IDs
+ * per builder, manager, client, project and role, so listings and keyset pages never scan
+ * the whole store. Stored objects are private copies that are replaced, never modified, so
+ * readers always see a consistent object; callers only ever receive copies.
+ *
+ * Changes to a project, its progress counters and its tasks are serialized by the project's
+ * lock. Indexes are updated while that lock is held; readers are weakly consistent and may
+ * briefly miss an entity that is being moved between indexes.
+ *
+ * Inside {@link #inTransaction(Callable)} every change records how to undo it and
+ * notifications wait for the end of the unit. Other threads see the changes as they are made.
+ */
+public final class InMemoryStore {
+
+    /**
+     * A stored project with its progress counters and lock.
+     */
+    static final class ProjectRecord {
+        final ReentrantLock lock = new ReentrantLock();
+        volatile Project project;
+        volatile int completedTasks;
+        volatile int totalTasks;
+
+        ProjectRecord(Project project) {
+            this.project = project;
+        }
+    }
+
+    final ConcurrentMap<Long, ProjectRecord> projects = new ConcurrentHashMap<>();
+    final NavigableSet<Long> allProjectIds = new ConcurrentSkipListSet<>();
+    final Index projectsByBuilder = new Index();
+    final Index projectsByManager = new Index();
+    final Index projectsByClient = new Index();
+
+    final ConcurrentMap<Long, Task> tasks = new ConcurrentHashMap<>();
+    final Index tasksByProject = new Index();
+
+    final ConcurrentMap<Long, Document> documents = new ConcurrentHashMap<>();
+    final Index documentsByProject = new Index();
+
+    final ConcurrentMap<Long, User> users = new ConcurrentHashMap<>();
+    final ConcurrentMap<String, Long> userIdsByEmail = new ConcurrentHashMap<>();
+    final ConcurrentMap<UserRole, NavigableSet<Long>> usersByRole = new ConcurrentHashMap<>();
+
+    final AtomicLong projectIds = new AtomicLong();
+    final AtomicLong taskIds = new AtomicLong();
+    final AtomicLong documentIds = new AtomicLong();
+    final AtomicLong userIds = new AtomicLong();
+    final AtomicLong notificationIds = new AtomicLong();
+
+    /** The unit of work of {@link #inTransaction(Callable)} running on each thread, if any. */
+    private final ThreadLocal<UnitOfWork> unitOfWork = new ThreadLocal<>();
+
+    /**
+     * Undo actions, newest first, and actions waiting for the unit to succeed.
+     */
+    private static final class UnitOfWork {
+        private final Deque<Runnable> undo = new ArrayDeque<>();
+        private final List<Runnable> afterCommit = new ArrayList<>();
+    }
+
+    /**
+     * Sorted sets of entity IDs keyed by the ID of their owner.
+     */
+    static final class Index {
+        private final ConcurrentMap<Long, NavigableSet<Long>> ids = new ConcurrentHashMap<>();
+
+        void add(long ownerId, long id) {
+            ids.computeIfAbsent(ownerId, key -> new ConcurrentSkipListSet<>()).add(id);
+        }
+
+        void remove(long ownerId, long id) {
+            NavigableSet<Long> owned = ids.get(ownerId);
+            if (owned != null) {
+                owned.remove(id);
+            }
+        }
+
+        NavigableSet<Long> get(long ownerId) {
+            NavigableSet<Long> owned = ids.get(ownerId);
+            return owned == null ? new ConcurrentSkipListSet<>() : owned;
+        }
+
+        NavigableSet<Long> removeAll(long ownerId) {
+            NavigableSet<Long> owned = ids.remove(ownerId);
+            return owned == null ? new ConcurrentSkipListSet<>() : owned;
+        }
+    }
+
+    /**
+     * Runs work as one unit: if it throws, the changes it made through the repositories of
+     * this store are undone, newest first, and its notifications are dropped. A nested call
+     * joins the running unit.
+     *
+     * @param work the work to run
+     * @param <T>  the type of the result
+     * @return the result of the work
+     * @throws Exception whatever the work throws, after its changes are undone
+     */
+    public <T> T inTransaction(Callable<T> work) throws Exception {
+        if (unitOfWork.get() != null) {
+            return work.call();
+        }
+        UnitOfWork unit = new UnitOfWork();
+        unitOfWork.set(unit);
+        boolean succeeded = false;
+        try {
+            T result = work.call();
+            succeeded = true;
+            return result;
+        } finally {
+            unitOfWork.remove();
+            (succeeded ? unit.afterCommit : unit.undo).forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Records how to undo a change if the unit of work running on this thread fails. The
+     * action runs without any lock held. Outside a unit nothing is recorded.
+     */
+    void onRollback(Runnable undo) {
+        UnitOfWork unit = unitOfWork.get();
+        if (unit != null) {
+            unit.undo.push(undo);
+        }
+    }
+
+    /**
+     * Runs an action now, or once the unit of work running on this thread has succeeded.
+     */
+    void afterCommit(Runnable action) {
+        UnitOfWork unit = unitOfWork.get();
+        if (unit == null) {
+            action.run();
+        } else {
+            unit.afterCommit.add(action);
+        }
+    }
+
+    /**
+     * Runs an action under a project's lock, unless the project no longer exists.
+     */
+    void withProject(long projectId, Consumer<ProjectRecord> action) {
+        ProjectRecord record = lockProject(projectId);
+        if (record == null) {
+            return;
+        }
+        try {
+            action.accept(record);
+        } finally {
+            record.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the sorted IDs of the projects a user with the given role can see.
+     */
+    NavigableSet<Long> projectIdsFor(UserRole role, long userId) {
+        switch (role) {
+            case ADMIN:
+                return allProjectIds;
+            case BUILDER:
+                return projectsByBuilder.get(userId);
+            case PROJECT_MANAGER:
+                return projectsByManager.get(userId);
+            case CLIENT:
+                return projectsByClient.get(userId);
+            default:
+                throw new IllegalArgumentException("Unsupported role: " + role);
+        }
+    }
+
+    /**
+     * Locks a project and returns its record, or returns {@code null} if the project does not
+     * exist or was deleted while waiting for the lock. The caller must unlock the record.
+     */
+    ProjectRecord lockProject(long projectId) {
+        ProjectRecord record = projects.get(projectId);
+        if (record == null) {
+            return null;
+        }
+        record.lock.lock();
+        if (projects.get(projectId) != record) {
+            record.lock.unlock();
+            return null;
+        }
+        return record;
+    }
+
+    /**
+     * Stores new tasks of a project whose lock is held, assigning their IDs and advancing the
+     * project's progress counters.
+     */
+    void addTasks(ProjectRecord record, List<Task> newTasks) {
+        long projectId = record.project.getProjectId();
+        java.sql.Date today = java.sql.Date.valueOf(LocalDate.now());
+        List<Long> added = new ArrayList<>(newTasks.size());
+        onRollback(() -> withProject(projectId, locked -> added.forEach(taskId -> {
+            Task removed = tasks.remove(taskId);
+            tasksByProject.remove(projectId, taskId);
+            locked.totalTasks--;
+            if (removed != null && "COMPLETED".equals(removed.getStatus())) {
+                locked.completedTasks--;
+            }
+        })));
+        for (Task task : newTasks) {
+            task.setTaskId(taskIds.incrementAndGet());
+            Task stored = copy(task);
+            stored.setProjectId(projectId);
+            stored.setCreatedAt(today);
+            stored.setUpdatedAt(today);
+            tasks.put(stored.getTaskId(), stored);
+            tasksByProject.add(projectId, stored.getTaskId());
+            added.add(stored.getTaskId());
+
+            record.totalTasks++;
+            if ("COMPLETED".equals(stored.getStatus())) {
+                record.completedTasks++;
+            }
+        }
+    }
+
+    /**
+     * Removes a project whose lock is held, with its tasks, documents and index entries.
+     */
+    void removeProject(ProjectRecord record) {
+        Project project = record.project;
+        long projectId = project.getProjectId();
+        allProjectIds.remove(projectId);
+        projectsByBuilder.remove(project.getBuilderId(), projectId);
+        projectsByManager.remove(project.getProjectManagerId(), projectId);
+        projectsByClient.remove(project.getClientId(), projectId);
+        documentsByProject.removeAll(projectId).forEach(documents::remove);
+        tasksByProject.removeAll(projectId).forEach(tasks::remove);
+        projects.remove(projectId);
+    }
+
+    /**
+     * Puts back a project removed by {@link #removeProject}, with the given tasks and documents.
+     */
+    void restoreProject(ProjectRecord record, List<Task> removedTasks, List<Document> removedDocuments) {
+        Project project = record.project;
+        long projectId = project.getProjectId();
+        record.lock.lock();
+        try {
+            if (projects.putIfAbsent(projectId, record) != null) {
+                return;
+            }
+            removedTasks.forEach(task -> {
+                tasks.put(task.getTaskId(), task);
+                tasksByProject.add(projectId, task.getTaskId());
+            });
+            removedDocuments.forEach(document -> {
+                documents.put(document.getDocumentId(), document);
+                documentsByProject.add(projectId, document.getDocumentId());
+            });
+            allProjectIds.add(projectId);
+            projectsByBuilder.add(project.getBuilderId(), projectId);
+            projectsByManager.add(project.getProjectManagerId(), projectId);
+            projectsByClient.add(project.getClientId(), projectId);
+        } finally {
+            record.lock.unlock();
+        }
+    }
+
+    NavigableSet<Long> userIdsFor(UserRole role) {
+        return usersByRole.computeIfAbsent(role, key -> new ConcurrentSkipListSet<>());
+    }
+
+    /**
+     * Collects up to {@code limit} entities whose IDs follow {@code afterId}, skipping IDs
+     * whose entity was removed concurrently.
+     */
+    static <T> void collect(NavigableSet<Long> ids, long afterId, int limit, LongFunction<T> lookup, List<T> into) {
+        Iterator<Long> iterator = ids.tailSet(afterId, false).iterator();
+        while (into.size() < limit && iterator.hasNext()) {
+            T item = lookup.apply(iterator.next());
+            if (item != null) {
+                into.add(item);
+            }
+        }
+    }
+
+    // ------------------- Copies -------------------
+
+    static Project copy(Project project) {
+        return new Project(project.getProjectId(), project.getProjectName(), project.getStatus(),
+                project.getPlannedBudget(), project.getActualSpend(), project.getBuilderId(),
+                project.getProjectManagerId(), project.getClientId(), project.getEndDate(), null, null);
+    }
+
+    static Task copy(Task task) {
+        return new Task(task.getTaskId(), task.getProjectId(), task.getTaskName(), task.getStatus(),
+                copy(task.getCreatedAt()), copy(task.getUpdatedAt()));
+    }
+
+    static Document copy(Document document) {
+        return new Document(document.getDocumentId(), document.getProjectId(), document.getDocumentName(),
+                document.getType(), document.getFilePath(), document.getUploadedBy());
+    }
+
+    /** Copies a user including credentials; only used for stored accounts and logins. */
+    static User copy(User user) {
+        return new User(user.getUserId(), user.getEmail(), user.getPassword(), user.getUserName(), user.getRole());
+    }
+
+    /** Copies the listed fields of a user: ID, name and role. */
+    static User listed(User user) {
+        return new User(user.getUserId(), null, null, user.getUserName(), user.getRole());
+    }
+
+    private static Date copy(Date date) {
+        return date == null ? null : (Date) date.clone();
+    }
+}
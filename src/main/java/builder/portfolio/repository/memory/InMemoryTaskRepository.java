@@ -0,0 +1,92 @@
+package builder.portfolio.repository.memory;
+
+import builder.portfolio.model.Page;
+import builder.portfolio.model.Task;
+import builder.portfolio.repository.interfaces.ITaskRepository;
+import builder.portfolio.util.PagingUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of {@link ITaskRepository}.
+ * Tasks are added under their project's lock together with its progress counters.
+ */
+@Slf4j
+public class InMemoryTaskRepository implements ITaskRepository {
+
+    private final InMemoryStore store;
+
+    /**
+     * @param store the shared store
+     */
+    public InMemoryTaskRepository(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Task save(Task task) {
+        List<Task> saved = saveAll(List.of(task));
+        return saved == null ? null : task;
+    }
+
+    /**
+     * The projects are locked in ascending ID order; nothing is saved if any project does not exist.
+     */
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        Map<Long, List<Task>> tasksByProject = new TreeMap<>();
+        for (Task task : tasks) {
+            tasksByProject.computeIfAbsent(task.getProjectId(), id -> new ArrayList<>()).add(task);
+        }
+
+        List<InMemoryStore.ProjectRecord> locked = new ArrayList<>(tasksByProject.size());
+        try {
+            for (Long projectId : tasksByProject.keySet()) {
+                InMemoryStore.ProjectRecord record = store.lockProject(projectId);
+                if (record == null) {
+                    log.error("Project {} does not exist, no tasks were saved", projectId);
+                    return null;
+                }
+                locked.add(record);
+            }
+            for (InMemoryStore.ProjectRecord record : locked) {
+                store.addTasks(record, tasksByProject.get(record.project.getProjectId()));
+            }
+            return tasks;
+        } finally {
+            for (int i = locked.size() - 1; i >= 0; i--) {
+                locked.get(i).lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public List<Task> findByProject(long projectId) {
+        return new ArrayList<>(stream(projectId).toList());
+    }
+
+    @Override
+    public Page<Task> findPage(long projectId, long afterTaskId, int pageSize) {
+        List<Task> items = new ArrayList<>();
+        InMemoryStore.collect(store.tasksByProject.get(projectId), afterTaskId, pageSize + 1, this::findById, items);
+        return PagingUtil.toPage(items, afterTaskId, pageSize, Task::getTaskId);
+    }
+
+    @Override
+    public Stream<Task> stream(long projectId) {
+        return store.tasksByProject.get(projectId).stream()
+                .map(this::findById)
+                .filter(Objects::nonNull);
+    }
+
+    private Task findById(long taskId) {
+        Task task = store.tasks.get(taskId);
+        return task == null ? null : InMemoryStore.copy(task);
+    }
+}
@@ -0,0 +1,113 @@
+package builder.portfolio.repository.memory;
+
+import builder.portfolio.model.Page;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.interfaces.IUserRepository;
+import builder.portfolio.util.PagingUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of {@link IUserRepository}.
+ * Emails are reserved atomically, so concurrent registrations of the same email cannot both succeed.
+ */
+@Slf4j
+public class InMemoryUserRepository implements IUserRepository {
+
+    private final InMemoryStore store;
+
+    /**
+     * @param store the shared store
+     */
+    public InMemoryUserRepository(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public User findByEmail(String email) {
+        Long userId = email == null ? null : store.userIdsByEmail.get(email);
+        User user = userId == null ? null : store.users.get(userId);
+        return user == null ? null : InMemoryStore.copy(user);
+    }
+
+    @Override
+    public boolean updatePassword(long userId, String passwordHash) {
+        User[] previous = new User[1];
+        boolean updated = store.users.computeIfPresent(userId, (id, user) -> {
+            previous[0] = user;
+            User changed = InMemoryStore.copy(user);
+            changed.setPassword(passwordHash);
+            return changed;
+        }) != null;
+        if (updated) {
+            String previousHash = previous[0].getPassword();
+            store.onRollback(() -> store.users.computeIfPresent(userId, (id, user) -> {
+                User restored = InMemoryStore.copy(user);
+                restored.setPassword(previousHash);
+                return restored;
+            }));
+        }
+        return updated;
+    }
+
+    @Override
+    public User register(User user) {
+        long userId = store.userIds.incrementAndGet();
+        if (store.userIdsByEmail.putIfAbsent(user.getEmail(), userId) != null) {
+            log.info("Email already registered.");
+            return null;
+        }
+
+        user.setUserId(userId);
+        store.users.put(userId, InMemoryStore.copy(user));
+        store.userIdsFor(user.getRole()).add(userId);
+        store.onRollback(() -> delete(userId));
+        return user;
+    }
+
+    @Override
+    public boolean delete(long userId) {
+        User user = store.users.remove(userId);
+        if (user == null) {
+            return false;
+        }
+        store.userIdsFor(user.getRole()).remove(userId);
+        store.userIdsByEmail.remove(user.getEmail(), userId);
+        store.onRollback(() -> {
+            if (store.userIdsByEmail.putIfAbsent(user.getEmail(), userId) == null) {
+                store.users.put(userId, user);
+                store.userIdsFor(user.getRole()).add(userId);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public List<User> findByRole(UserRole role) {
+        return new ArrayList<>(stream(role).toList());
+    }
+
+    @Override
+    public Page<User> findPage(UserRole role, long afterUserId, int pageSize) {
+        List<User> items = new ArrayList<>();
+        InMemoryStore.collect(store.userIdsFor(role), afterUserId, pageSize + 1, this::findListed, items);
+        return PagingUtil.toPage(items, afterUserId, pageSize, User::getUserId);
+    }
+
+    @Override
+    public Stream<User> stream(UserRole role) {
+        return store.userIdsFor(role).stream()
+                .map(this::findListed)
+                .filter(Objects::nonNull);
+    }
+
+    private User findListed(long userId) {
+        User user = store.users.get(userId);
+        return user == null ? null : InMemoryStore.listed(user);
+    }
+}
@@ -1,5 +1,6 @@
 package builder.portfolio.service.implementations;
 
+import builder.portfolio.model.Page;
 import builder.portfolio.model.Project;
 import builder.portfolio.model.User;
 import builder.portfolio.repository.AdminRepository;
@@ -33,6 +34,20 @@ public class AdminService implements IAdminService {
         return projectList;
     }
 
+    /**
+     * Retrieves one page of the projects visible to the given user.
+     * Currently uses the user from {@link SessionManager}.
+     *
+     * @param user           the user requesting the project list
+     * @param afterProjectId cursor returned with the previous page; 0 for the first page
+     * @param pageSize       maximum number of projects on the page
+     * @return a page of projects
+     */
+    @Override
+    public Page<Project> viewAllProjects(User user, long afterProjectId, int pageSize) {
+        return CommonRepository.getProjectsPage(SessionManager.getCurrentUser(), afterProjectId, pageSize);
+    }
+
     /**
      * Deletes a project manager user by their user ID.
      *
@@ -1,6 +1,5 @@
 package builder.portfolio.service.implementations;
 
-import builder.portfolio.controller.DashboardController;
 import builder.portfolio.model.*;
 import builder.portfolio.model.enums.Status;
 import builder.portfolio.repository.BuilderRepository;
@@ -10,7 +9,9 @@ import builder.portfolio.util.SessionManager;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -25,6 +26,7 @@ public class BuilderService implements IBuilderService {
 
     /**
      * Creates a new project with the given details and initializes tasks for the project.
+     * The project and all of its tasks are stored in a single transaction.
      *
      * @param projectName   the name of the project
      * @param plannedBudget the planned budget for the project
@@ -33,7 +35,7 @@ public class BuilderService implements IBuilderService {
      * @param client        the ID of the client
      * @param endDate       the planned end date of the project
      * @param numberOfTasks the number of tasks to initialize for the project
-     * @return the saved Project object with generated project ID
+     * @return the saved Project object with generated project ID, or null if creation fails
      */
     @Override
     public Project createProjectService(String projectName,
@@ -53,22 +55,15 @@ public class BuilderService implements IBuilderService {
         project.setEndDate(endDate);
         project.setStatus(Status.UPCOMING);
 
-        Project savedProject = repository.createProjectRepository(project);
-
         List<Task> tasks = new ArrayList<>();
         for (int i = 1; i <= numberOfTasks; i++) {
             Task task = new Task();
-            task.setProjectId(savedProject.getProjectId());
             task.setTaskName("Phase " + i);
             task.setStatus("PENDING");
             tasks.add(task);
         }
 
-        for (Task task : tasks) {
-            repository.saveTask(task);
-        }
-
-        return savedProject;
+        return repository.createProjectRepository(project, tasks);
     }
 
     /**
@@ -115,7 +110,6 @@ public class BuilderService implements IBuilderService {
         String budgetStatus = commonRepository.trackBudget(projectId);
         if (budgetStatus != null) {
             System.out.println("Budget Status of Project: " + budgetStatus);
-            DashboardController.showDashboard(SessionManager.getCurrentUser());
         }
     }
 
@@ -134,7 +128,6 @@ public class BuilderService implements IBuilderService {
             System.out.println(task.getTaskName() + " | " + task.getStatus() + " | "
                     + "Created At: " + task.getCreatedAt() + " | " + updatedInfo);
         });
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
@@ -155,7 +148,6 @@ public class BuilderService implements IBuilderService {
                         + ", Uploaded By: " + document.getUploadedBy());
             });
         }
-        DashboardController.showDashboard(SessionManager.getCurrentUser());
     }
 
     /**
@@ -198,4 +190,15 @@ public class BuilderService implements IBuilderService {
     public ProjectTimeline getProjectTimeline(long projectId) {
         return repository.getProjectTimeline(projectId);
     }
+
+    /**
+     * Retrieves the project timelines for many projects with a single query.
+     *
+     * @param projectIds the IDs of the projects
+     * @return the ProjectTimeline objects keyed by project ID
+     */
+    @Override
+    public Map<Long, ProjectTimeline> getProjectTimelines(Collection<Long> projectIds) {
+        return repository.getProjectTimelines(projectIds);
+    }
 }
@@ -1,6 +1,7 @@
 package builder.portfolio.service.implementations;
 
 import builder.portfolio.model.Document;
+import builder.portfolio.model.Page;
 import builder.portfolio.model.Project;
 import builder.portfolio.model.User;
 import builder.portfolio.repository.CommonRepository;
@@ -31,6 +32,19 @@ public class ClientService implements IClientService {
         return projectList;
     }
 
+    /**
+     * Retrieves one page of the projects owned by the currently logged-in client.
+     *
+     * @param user           the User object representing the client
+     * @param afterProjectId cursor returned with the previous page; 0 for the first page
+     * @param pageSize       maximum number of projects on the page
+     * @return a page of Project objects owned by the client
+     */
+    @Override
+    public Page<Project> viewOwnedProjects(User user, long afterProjectId, int pageSize) {
+        return CommonRepository.getProjectsPage(SessionManager.getCurrentUser(), afterProjectId, pageSize);
+    }
+
     /**
      * Tracks the budget status of a specific project.
      *
@@ -1,8 +1,12 @@
 package builder.portfolio.service.implementations;
 
+import builder.portfolio.model.SpendEntry;
 import builder.portfolio.repository.ProjectManagerRepository;
 import builder.portfolio.service.intefaces.IProjectManagerService;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Service class for Project Manager operations in the Builder Portfolio Management System.
  * Provides methods to update project status and track actual project spend.
@@ -36,4 +40,16 @@ public class ProjectManagerService implements IProjectManagerService {
     public double updateActualSpend(long projectId, double actualSpend) {
         return projectManagerRepository.updateProjectActualSpend(projectId, actualSpend);
     }
+
+    /**
+     * Applies a batch of spend entries across one or more projects in a single transaction.
+     * Delegates the operation to the ProjectManagerRepository.
+     *
+     * @param entries the spend entries to apply
+     * @return the updated actual spend per project ID; empty if the batch was rejected
+     */
+    @Override
+    public Map<Long, Double> applySpendLedger(List<SpendEntry> entries) {
+        return projectManagerRepository.applySpendLedger(entries);
+    }
 }
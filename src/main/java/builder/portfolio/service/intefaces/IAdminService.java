@@ -1,5 +1,6 @@
 package builder.portfolio.service.intefaces;
 
+import builder.portfolio.model.Page;
 import builder.portfolio.model.Project;
 import builder.portfolio.model.User;
 import java.util.List;
@@ -18,6 +19,16 @@ public interface IAdminService {
     */
    List<Project> viewAllProjects(User user);
 
+   /**
+    * Retrieves one page of the projects visible to the given user, ordered by project ID.
+    *
+    * @param user           the user requesting to view projects
+    * @param afterProjectId cursor returned with the previous page; 0 for the first page
+    * @param pageSize       maximum number of projects on the page
+    * @return a {@link Page} of {@link Project} objects
+    */
+   Page<Project> viewAllProjects(User user, long afterProjectId, int pageSize);
+
    /**
     * Deletes a Project Manager from the system based on their user ID.
     *
@@ -5,6 +5,8 @@ import builder.portfolio.model.Project;
 import builder.portfolio.model.ProjectTimeline;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Interface defining operations available to a Builder in the Builder Portfolio Management System.
@@ -72,6 +74,14 @@ public interface IBuilderService {
      */
     ProjectTimeline getProjectTimeline(long projectId);
 
+    /**
+     * Retrieves the timeline details of many projects at once.
+     *
+     * @param projectIds the IDs of the projects
+     * @return the {@link ProjectTimeline}s keyed by project ID
+     */
+    Map<Long, ProjectTimeline> getProjectTimelines(Collection<Long> projectIds);
+
     /**
      * Updates the details of a project, such as its name and planned budget.
      *
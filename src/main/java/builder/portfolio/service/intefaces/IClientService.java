@@ -1,6 +1,7 @@
 package builder.portfolio.service.intefaces;
 
 import builder.portfolio.model.Document;
+import builder.portfolio.model.Page;
 import builder.portfolio.model.Project;
 import builder.portfolio.model.User;
 
@@ -20,6 +21,16 @@ public interface IClientService {
     */
    List<Project> viewOwnedProjects(User user);
 
+   /**
+    * Retrieves one page of the projects owned by the specified user (client), ordered by project ID.
+    *
+    * @param user           the client whose projects are to be retrieved
+    * @param afterProjectId cursor returned with the previous page; 0 for the first page
+    * @param pageSize       maximum number of projects on the page
+    * @return a {@link Page} of {@link Project} objects associated with the client
+    */
+   Page<Project> viewOwnedProjects(User user, long afterProjectId, int pageSize);
+
    /**
     * Tracks the budget status of a specific project.
     *
@@ -1,5 +1,10 @@
 package builder.portfolio.service.intefaces;
 
+import builder.portfolio.model.SpendEntry;
+
+import java.util.List;
+import java.util.Map;
+
 /**
  * Interface defining operations for a Project Manager in the Builder Portfolio Management System.
  * Provides methods for updating project status and tracking project actual spend.
@@ -23,4 +28,12 @@ public interface IProjectManagerService {
      * @return the updated actual spend for the project
      */
     double updateActualSpend(long projectId, double actualSpend);
+
+    /**
+     * Applies a batch of spend entries across one or more projects in a single transaction.
+     *
+     * @param entries the spend entries to apply
+     * @return the updated actual spend per project ID; empty if the batch was rejected
+     */
+    Map<Long, Double> applySpendLedger(List<SpendEntry> entries);
 }
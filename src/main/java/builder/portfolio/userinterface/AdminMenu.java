@@ -1,8 +1,6 @@
 package builder.portfolio.userinterface;
 
 import builder.portfolio.controller.AdminController;
-import builder.portfolio.controller.BuilderController;
-import builder.portfolio.controller.DashboardController;
 import builder.portfolio.util.InputUtil;
 import builder.portfolio.util.SessionManager;
 
@@ -10,8 +8,6 @@ import builder.portfolio.util.SessionManager;
  * Provides the user interface menu for Admin users in the Builder Portfolio Management System.
  * This class displays the available admin operations such as viewing projects, viewing audit trails,
  * and deleting users (Project Managers, Clients, Builders). User input is read via {@link InputUtil}.
- * Note: The {@code switch} statements in the {@link #show()} method do not include {@code break} statements
- * because the control flow for each choice is managed within the respective controller methods.
  */
 public class AdminMenu {
 
@@ -24,8 +20,8 @@ public class AdminMenu {
      *  Delete Client
      *  Delete Builder
      *  Log out
-     * The menu will loop indefinitely until the user logs out, at which point the session is cleared
-     * and the {@link MainMenu} is shown.
+     * Handles a single choice and returns to the dashboard loop; logging out clears the session,
+     * so the loop shows the {@link MainMenu} next.
      */
     public static void show() {
         AdminController adminController = new AdminController();
@@ -39,25 +35,14 @@ public class AdminMenu {
 
         String choice = InputUtil.readString("Enter choice: ");
 
-        while (true) {
-            switch (choice) {
-                case "1":
-                    adminController.viewAllProjects();
-                case "2":
-                    adminController.viewAuditTrail();
-                case "3":
-                    adminController.deleteProjectManager();
-                case "4":
-                    adminController.deleteClient();
-                case "5":
-                    adminController.deleteBuilder();
-                case "0":
-                    SessionManager.setCurrentUser(null);
-                    MainMenu.show();
-                default:
-                    System.out.println("Invalid choice");
-                    DashboardController.showDashboard(SessionManager.getCurrentUser());
-            }
+        switch (choice) {
+            case "1" -> adminController.viewAllProjects();
+            case "2" -> adminController.viewAuditTrail();
+            case "3" -> adminController.deleteProjectManager();
+            case "4" -> adminController.deleteClient();
+            case "5" -> adminController.deleteBuilder();
+            case "0" -> SessionManager.clearSession();
+            default -> System.out.println("Invalid choice");
         }
     }
 }
@@ -1,7 +1,6 @@
 package builder.portfolio.userinterface;
 
 import builder.portfolio.controller.BuilderController;
-import builder.portfolio.controller.DashboardController;
 import builder.portfolio.util.InputUtil;
 import builder.portfolio.util.SessionManager;
 
@@ -10,9 +9,6 @@ import builder.portfolio.util.SessionManager;
  *
  * This class displays the available builder operations such as creating, updating, and deleting projects,
  * assigning project managers, uploading documents, and viewing project timelines. User input is read via {@link InputUtil}.
- *
- * Note: The {@code switch} statements in the {@link #show()} method do not include {@code break} statements
- * because the control flow for each choice is managed within the respective controller methods.
  */
 public class BuilderMenu {
 
@@ -22,8 +18,8 @@ public class BuilderMenu {
      * Options include: Add new project, Update project, Delete project, Update project manager,
      * Upload project documents, View portfolio, View Gantt chart / project timeline, Log out.
      *
-     * The menu will loop indefinitely until the user logs out, at which point the session is cleared
-     * and the {@link MainMenu} is shown.
+     * Handles a single choice and returns to the dashboard loop; logging out clears the session,
+     * so the loop shows the {@link MainMenu} next.
      */
     public static void show() {
         BuilderController builderController = new BuilderController();
@@ -39,29 +35,16 @@ public class BuilderMenu {
 
         String choice = InputUtil.readString("Enter choice: ");
 
-        while (true) {
-            switch (choice) {
-                case "1":
-                    builderController.createProject();
-                case "2":
-                    builderController.updateProject();
-                case "3":
-                    builderController.deleteProject();
-                case "4":
-                    builderController.updateProjectManager();
-                case "5":
-                    builderController.uploadDocuments();
-                case "6":
-                    builderController.viewPortfolio();
-                case "7":
-                    builderController.viewTimeLine();
-                case "0":
-                    SessionManager.setCurrentUser(null);
-                    MainMenu.show();
-                default:
-                    System.out.println("Invalid choice");
-                    DashboardController.showDashboard(SessionManager.getCurrentUser());
-            }
+        switch (choice) {
+            case "1" -> builderController.createProject();
+            case "2" -> builderController.updateProject();
+            case "3" -> builderController.deleteProject();
+            case "4" -> builderController.updateProjectManager();
+            case "5" -> builderController.uploadDocuments();
+            case "6" -> builderController.viewPortfolio();
+            case "7" -> builderController.viewTimeLine();
+            case "0" -> SessionManager.clearSession();
+            default -> System.out.println("Invalid choice");
         }
     }
 }
@@ -1,8 +1,6 @@
 package builder.portfolio.userinterface;
 
-import builder.portfolio.controller.BuilderController;
 import builder.portfolio.controller.ClientController;
-import builder.portfolio.controller.DashboardController;
 import builder.portfolio.util.InputUtil;
 import builder.portfolio.util.SessionManager;
 
@@ -12,9 +10,6 @@ import builder.portfolio.util.SessionManager;
  * This class displays the available client operations such as viewing owned projects,
  * checking budget status, viewing uploaded documents, and viewing project timelines.
  * User input is read using {@link InputUtil}.
- *
- * Note: The {@code switch} statements in the {@link #show()} method do not include {@code break} statements
- * because the control flow for each choice is managed within the respective controller methods.
  */
 public class ClientMenu {
 
@@ -24,8 +19,8 @@ public class ClientMenu {
      * Options include: View owned projects, View budget status, View uploaded documents,
      * View project timeline, Log out.
      *
-     * The menu will loop indefinitely until the user logs out, at which point the session is cleared
-     * and the {@link MainMenu} is shown.
+     * Handles a single choice and returns to the dashboard loop; logging out clears the session,
+     * so the loop shows the {@link MainMenu} next.
      */
     public static void show() {
         ClientController clientController = new ClientController();
@@ -38,23 +33,13 @@ public class ClientMenu {
 
         String choice = InputUtil.readString("Enter choice: ");
 
-        while (true) {
-            switch (choice) {
-                case "1":
-                    clientController.viewOwnedProjects();
-                case "2":
-                    clientController.trackBudget();
-                case "3":
-                    clientController.getUploadedDocs();
-                case "4":
-                    clientController.viewTimeLine();
-                case "0":
-                    SessionManager.setCurrentUser(null);
-                    MainMenu.show();
-                default:
-                    System.out.println("Invalid choice");
-                    DashboardController.showDashboard(SessionManager.getCurrentUser());
-            }
+        switch (choice) {
+            case "1" -> clientController.viewOwnedProjects();
+            case "2" -> clientController.trackBudget();
+            case "3" -> clientController.getUploadedDocs();
+            case "4" -> clientController.viewTimeLine();
+            case "0" -> SessionManager.clearSession();
+            default -> System.out.println("Invalid choice");
         }
     }
 }
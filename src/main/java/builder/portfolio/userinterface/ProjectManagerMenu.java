@@ -1,6 +1,5 @@
 package builder.portfolio.userinterface;
 
-import builder.portfolio.controller.BuilderController;
 import builder.portfolio.controller.DashboardController;
 import builder.portfolio.controller.ProjectManagerController;
 import builder.portfolio.util.InputUtil;
@@ -15,22 +14,18 @@ import builder.portfolio.util.SessionManager;
  *
  * User input is captured using {@link InputUtil}, and the respective controller
  * methods from {@link ProjectManagerController} are invoked to handle the actions.
- *
- * Note: The {@code switch} statements in the {@link #show()} method do not include
- * {@code break} statements because the flow of control is handled within the controller methods.
  */
 public class ProjectManagerMenu {
 
     /**
      * Displays the Project Manager menu and handles user input.
      *
-     * This method loops indefinitely until the user chooses to log out.
+     * This method handles a single choice and returns to the {@link DashboardController} loop.
      * Based on the user's choice, it calls {@link ProjectManagerController#viewProjects()},
      * {@link ProjectManagerController#updateProjectStatus()},
      * {@link ProjectManagerController#updateProjectActualSpend()},
-     * {@link ProjectManagerController#uploadDocuments()}, or {@link MainMenu#show()} to logout.
-     * If an invalid option is selected, a message is displayed and the
-     * {@link DashboardController} may be shown depending on the session state.
+     * {@link ProjectManagerController#uploadDocuments()}, or clears the session to logout.
+     * If an invalid option is selected, a message is displayed.
      */
     public static void show() {
         ProjectManagerController projectManagerController = new ProjectManagerController();
@@ -43,23 +38,13 @@ public class ProjectManagerMenu {
 
         String choice = InputUtil.readString("Enter choice: ");
 
-        while (true) {
-            switch (choice) {
-                case "1":
-                    projectManagerController.viewProjects();
-                case "2":
-                    projectManagerController.updateProjectStatus();
-                case "3":
-                    projectManagerController.updateProjectActualSpend();
-                case "4":
-                    projectManagerController.uploadDocuments();
-                case "0":
-                    SessionManager.setCurrentUser(null);
-                    MainMenu.show();
-                default:
-                    System.out.println("Invalid choice");
-                    DashboardController.showDashboard(SessionManager.getCurrentUser());
-            }
+        switch (choice) {
+            case "1" -> projectManagerController.viewProjects();
+            case "2" -> projectManagerController.updateProjectStatus();
+            case "3" -> projectManagerController.updateProjectActualSpend();
+            case "4" -> projectManagerController.uploadDocuments();
+            case "0" -> SessionManager.clearSession();
+            default -> System.out.println("Invalid choice");
         }
     }
 }
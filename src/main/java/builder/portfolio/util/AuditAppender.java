@@ -0,0 +1,458 @@
+package builder.portfolio.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Long-lived, asynchronous appender for the audit trail file.
+ *
+ * Callers hand lines to {@link #append(String)}, which only puts them on a lock-free queue.
+ * A single writer thread keeps the file open, drains the queue in batches and writes each
+ * batch with one system call, so auditing never opens, writes or closes the file on the
+ * caller's thread and lines are written in the order they were appended.
+ *
+ * The queue is bounded; when it is full the configured {@link OverflowPolicy} decides what
+ * happens. The {@link SyncPolicy} decides how often written batches are forced to disk.
+ * {@link #shutdown(long)} writes everything still queued and closes the file; it is also
+ * registered as a JVM shutdown hook for the shared instance.
+ *
+ * Batches go to a {@link Target}: a single file, or a {@link SegmentedAuditLog}.
+ * The shared instance writes to the shared {@link SegmentedAuditLog} when
+ * {@code audit_segment_dir} is set, and to {@link FileWriterUtil}'s audit trail file otherwise.
+ * It is configured by these optional properties in {@code application.properties}:
+ * audit_queue_capacity (default 10000), audit_batch_size (default 256),
+ * audit_overflow_policy (default BLOCK), audit_enqueue_timeout_ms (default 100),
+ * audit_sync_policy (default INTERVAL), audit_sync_interval_ms (default 1000).
+ *
+ * Example usage:
+ * AuditAppender.getShared().append(auditTrail.toString());
+ */
+@Slf4j
+public class AuditAppender {
+
+    /**
+     * What {@link #append(String)} does when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait up to the enqueue timeout for space, then drop the line. */
+        BLOCK,
+        /** Drop the new line immediately. */
+        DROP
+    }
+
+    /**
+     * When written batches are forced to disk.
+     */
+    public enum SyncPolicy {
+        /** Never; the operating system decides when the file reaches the disk. */
+        NONE,
+        /** After every batch, so all lines of a batch share one sync. */
+        BATCH,
+        /** At most once per sync interval, and when flushed or shut down. */
+        INTERVAL
+    }
+
+    /**
+     * Destination of the written batches. Only the writer thread calls it.
+     */
+    public interface Target {
+        /**
+         * Writes a batch of complete lines.
+         *
+         * @param lines the encoded lines, each ending with a line separator
+         * @param count the number of lines in the batch
+         */
+        void write(ByteBuffer lines, int count) throws IOException;
+
+        /** Forces the written lines to disk. */
+        void sync() throws IOException;
+
+        /** Releases the open files; a later write opens them again. */
+        void close() throws IOException;
+    }
+
+    /**
+     * Appends to a single file, which is created if it does not exist.
+     */
+    private static final class FileTarget implements Target {
+        private final Path file;
+        private FileChannel channel;
+
+        private FileTarget(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void write(ByteBuffer lines, int count) throws IOException {
+            if (channel == null) {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            while (lines.hasRemaining()) {
+                channel.write(lines);
+            }
+        }
+
+        @Override
+        public void sync() throws IOException {
+            if (channel != null) {
+                channel.force(false);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (channel != null) {
+                FileChannel open = channel;
+                channel = null;
+                open.close();
+            }
+        }
+    }
+
+    /**
+     * Point-in-time snapshot of the appender counters.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Stats {
+        private final int queued;
+        private final long appended;
+        private final long written;
+        private final long dropped;
+        private final long failed;
+        private final long batches;
+        private final long syncs;
+    }
+
+    private static volatile AuditAppender shared;
+
+    private final Target target;
+    private final int capacity;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long enqueueTimeoutMillis;
+    private final SyncPolicy syncPolicy;
+    private final long syncIntervalMillis;
+
+    private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Thread writer;
+    private final Object progress = new Object();
+    private volatile boolean writerParked;
+    private volatile boolean running = true;
+    private volatile boolean syncRequested;
+    private long lastSyncNanos = System.nanoTime();
+    private boolean unsynced;
+
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong syncs = new AtomicLong();
+
+    /**
+     * Creates an appender for a single file and starts its writer thread.
+     * The file is created if it does not exist.
+     *
+     * @see #AuditAppender(Target, int, int, OverflowPolicy, long, SyncPolicy, long)
+     */
+    public AuditAppender(Path file, int capacity, int batchSize, OverflowPolicy overflowPolicy,
+                         long enqueueTimeoutMillis, SyncPolicy syncPolicy, long syncIntervalMillis) {
+        this(new FileTarget(file), capacity, batchSize, overflowPolicy, enqueueTimeoutMillis, syncPolicy,
+                syncIntervalMillis);
+    }
+
+    /**
+     * Creates an appender and starts its writer thread.
+     *
+     * @param target               where the batches are written
+     * @param capacity             maximum number of queued lines
+     * @param batchSize            maximum lines written with one system call
+     * @param overflowPolicy       behaviour when the queue is full
+     * @param enqueueTimeoutMillis maximum wait for queue space under {@link OverflowPolicy#BLOCK}
+     * @param syncPolicy           when written batches are forced to disk
+     * @param syncIntervalMillis   minimum time between syncs under {@link SyncPolicy#INTERVAL}
+     */
+    public AuditAppender(Target target, int capacity, int batchSize, OverflowPolicy overflowPolicy,
+                         long enqueueTimeoutMillis, SyncPolicy syncPolicy, long syncIntervalMillis) {
+        this.target = target;
+        this.capacity = Math.max(1, capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.syncPolicy = syncPolicy;
+        this.syncIntervalMillis = Math.max(1, syncIntervalMillis);
+
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Returns the shared appender, creating it from the application properties on first use.
+     *
+     * @return the shared {@link AuditAppender}
+     */
+    public static AuditAppender getShared() {
+        AuditAppender appender = shared;
+        if (appender == null) {
+            synchronized (AuditAppender.class) {
+                appender = shared;
+                if (appender == null) {
+                    appender = createShared();
+                    shared = appender;
+                    AuditAppender created = appender;
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> created.shutdown(5_000), "audit-shutdown"));
+                }
+            }
+        }
+        return appender;
+    }
+
+    /**
+     * Writes the lines queued on the shared appender, if it has been created.
+     *
+     * @param timeoutMillis maximum time to wait
+     * @return {@code true} if everything appended so far has been written
+     */
+    public static boolean flushShared(long timeoutMillis) {
+        AuditAppender appender = shared;
+        return appender == null || appender.flush(timeoutMillis);
+    }
+
+    /**
+     * Queues a line for the file, applying the overflow policy when the queue is full.
+     *
+     * @param line the line to append, without a line separator
+     * @return {@code true} if the line was queued; {@code false} if it was dropped
+     */
+    public boolean append(String line) {
+        if (!running) {
+            dropped.incrementAndGet();
+            log.warn("Audit appender is shut down, dropping audit line");
+            return false;
+        }
+        if (!reserve()) {
+            dropped.incrementAndGet();
+            log.warn("Audit queue full, dropping audit line: {}", line);
+            return false;
+        }
+        queue.offer(line);
+        appended.incrementAndGet();
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    /**
+     * Waits until every line appended before this call has been written and, unless the
+     * sync policy is {@link SyncPolicy#NONE}, forced to disk.
+     *
+     * @param timeoutMillis maximum time to wait
+     * @return {@code true} if everything was written within the timeout
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = appended.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        syncRequested = true;
+        synchronized (progress) {
+            while (written.get() + failed.get() < target || syncRequested) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0 || !writer.isAlive()) {
+                    return false;
+                }
+                LockSupport.unpark(writer);
+                try {
+                    progress.wait(Math.min(remainingMillis, 10));
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting lines, writes the queued ones and closes the file.
+     *
+     * @param timeoutMillis maximum time to wait for the queue to drain
+     * @return {@code true} if the writer finished within the timeout
+     */
+    public boolean shutdown(long timeoutMillis) {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(timeoutMillis);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        return !writer.isAlive();
+    }
+
+    /**
+     * Returns a snapshot of the appender counters.
+     *
+     * @return the current {@link Stats}
+     */
+    public Stats getStats() {
+        return new Stats(queued.get(), appended.get(), written.get(), dropped.get(), failed.get(),
+                batches.get(), syncs.get());
+    }
+
+    private boolean reserve() {
+        if (queued.incrementAndGet() <= capacity) {
+            return true;
+        }
+        queued.decrementAndGet();
+        if (overflowPolicy != OverflowPolicy.BLOCK) {
+            return false;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(enqueueTimeoutMillis);
+        while (System.nanoTime() < deadline && running) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            if (queued.incrementAndGet() <= capacity) {
+                return true;
+            }
+            queued.decrementAndGet();
+        }
+        return false;
+    }
+
+    private void writeLoop() {
+        StringBuilder batch = new StringBuilder();
+        try {
+            while (running || !queue.isEmpty()) {
+                int lines = 0;
+                String line;
+                while (lines < batchSize && (line = queue.poll()) != null) {
+                    batch.append(line).append(System.lineSeparator());
+                    lines++;
+                }
+                queued.addAndGet(-lines);
+
+                if (lines > 0) {
+                    write(batch, lines);
+                    batch.setLength(0);
+                } else {
+                    if (syncRequested) {
+                        syncRequested = false;
+                        sync(true);
+                    } else if (syncPolicy == SyncPolicy.INTERVAL && unsynced) {
+                        sync(false);
+                    }
+                    synchronized (progress) {
+                        progress.notifyAll();
+                    }
+                    park();
+                }
+            }
+            sync(true);
+        } finally {
+            close();
+            synchronized (progress) {
+                progress.notifyAll();
+            }
+        }
+    }
+
+    private void park() {
+        writerParked = true;
+        if (queue.isEmpty() && running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis));
+        }
+        writerParked = false;
+    }
+
+    private void write(StringBuilder batch, int lines) {
+        try {
+            target.write(ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8)), lines);
+            unsynced = true;
+            written.addAndGet(lines);
+            batches.incrementAndGet();
+            if (syncPolicy == SyncPolicy.BATCH) {
+                sync(true);
+            } else if (syncPolicy == SyncPolicy.INTERVAL) {
+                sync(false);
+            }
+        } catch (IOException ioException) {
+            failed.addAndGet(lines);
+            log.error("Failed to write {} audit lines: {}", lines, ioException.getMessage());
+            close();
+        }
+    }
+
+    private void sync(boolean force) {
+        if (!unsynced || syncPolicy == SyncPolicy.NONE) {
+            return;
+        }
+        if (!force && System.nanoTime() - lastSyncNanos < TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis)) {
+            return;
+        }
+        try {
+            target.sync();
+            unsynced = false;
+            lastSyncNanos = System.nanoTime();
+            syncs.incrementAndGet();
+        } catch (IOException ioException) {
+            log.error("Failed to sync audit file: {}", ioException.getMessage());
+        }
+    }
+
+    private void close() {
+        try {
+            target.close();
+        } catch (IOException ioException) {
+            log.error("Failed to close audit file: {}", ioException.getMessage());
+        }
+    }
+
+    private static AuditAppender createShared() {
+        Properties config = ConfigUtil.getProperties();
+        OverflowPolicy overflowPolicy;
+        SyncPolicy syncPolicy;
+        try {
+            overflowPolicy = OverflowPolicy.valueOf(
+                    config == null ? "BLOCK" : config.getProperty("audit_overflow_policy", "BLOCK").trim());
+        } catch (IllegalArgumentException illegalArgumentException) {
+            overflowPolicy = OverflowPolicy.BLOCK;
+        }
+        try {
+            syncPolicy = SyncPolicy.valueOf(
+                    config == null ? "INTERVAL" : config.getProperty("audit_sync_policy", "INTERVAL").trim());
+        } catch (IllegalArgumentException illegalArgumentException) {
+            syncPolicy = SyncPolicy.INTERVAL;
+        }
+        SegmentedAuditLog segmentedLog = SegmentedAuditLog.getShared();
+        return new AuditAppender(
+                segmentedLog != null ? segmentedLog : new FileTarget(Paths.get(FileWriterUtil.FILE_PATH)),
+                ConfigUtil.intProperty(config, "audit_queue_capacity", 10_000),
+                ConfigUtil.intProperty(config, "audit_batch_size", 256),
+                overflowPolicy,
+                ConfigUtil.longProperty(config, "audit_enqueue_timeout_ms", 100),
+                syncPolicy,
+                ConfigUtil.longProperty(config, "audit_sync_interval_ms", 1000));
+    }
+}
@@ -0,0 +1,252 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.AuditTrail;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned, length-prefixed binary format for audit trail entries.
+ *
+ * A stream is a sequence of frames; every frame starts with its length (int, excluding the
+ * length itself), the format version and the frame type:
+ * <pre>
+ * action definition: int length | byte version | byte 1 | int code | short size | UTF-8 action
+ * entry:             int length | byte version | byte 2 | long timestamp | long userId
+ *                    | byte role ordinal (-1 if none) | int action code | short size | UTF-8 user name
+ * </pre>
+ * Actions are interned: the first entry with a new action is preceded by a definition frame,
+ * later entries carry only its code. Readers skip frames of unknown types and bytes after the
+ * fields they know, so later versions can add frames and fields.
+ *
+ * Encoding writes straight into the caller's buffer, and decoding fills a reusable
+ * {@link Record}, so neither allocates once every action of the stream has been seen.
+ * A codec holds the action dictionary of one stream: use one instance per stream and
+ * direction, and decode streams from their start.
+ *
+ * Example usage:
+ * AuditRecordCodec codec = new AuditRecordCodec();
+ * codec.encode(auditTrail, buffer);
+ */
+public class AuditRecordCodec {
+
+    /** Current format version. */
+    public static final byte VERSION = 1;
+    static final byte TYPE_ACTION = 1;
+    static final byte TYPE_ENTRY = 2;
+    private static final int FRAME_HEADER = 4 + 1 + 1;
+    private static final int ENTRY_FIXED = 8 + 8 + 1 + 4 + 2;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final UserRole[] ROLES = UserRole.values();
+
+    /**
+     * Reusable holder of one decoded entry.
+     */
+    @Getter
+    public static final class Record {
+        private long timestamp;
+        private long userId;
+        private UserRole role;
+        private String action;
+        private final StringBuilder userName = new StringBuilder();
+
+        /**
+         * @return the user name; only valid until the record is reused
+         */
+        public CharSequence getUserName() {
+            return userName;
+        }
+
+        /**
+         * Copies the record into a new {@link AuditTrail}.
+         *
+         * @return the {@link AuditTrail}
+         */
+        public AuditTrail toAuditTrail() {
+            User user = new User();
+            user.setUserId(userId);
+            user.setUserName(userName.toString());
+            user.setRole(role);
+            return new AuditTrail(action, user, timestamp);
+        }
+    }
+
+    private final Map<String, Integer> actionCodes = new HashMap<>();
+    private final List<String> actions = new ArrayList<>();
+
+    /**
+     * Encodes an {@link AuditTrail}, preceded by the definition of its action if the action is new.
+     *
+     * @see #encode(long, long, UserRole, String, CharSequence, ByteBuffer)
+     */
+    public boolean encode(AuditTrail auditTrail, ByteBuffer out) {
+        User user = auditTrail.getPerformedBy();
+        return encode(auditTrail.getTimestamp(), user.getUserId(), user.getRole(), auditTrail.getAction(),
+                user.getUserName(), out);
+    }
+
+    /**
+     * Encodes one entry, preceded by the definition of its action if the action is new.
+     *
+     * @param timestamp time of the action, epoch milliseconds
+     * @param userId    ID of the user who performed the action
+     * @param role      role of that user, or {@code null}
+     * @param action    the action
+     * @param userName  name of that user, or {@code null}
+     * @param out       buffer receiving the frames
+     * @return {@code true} if the frames were written; {@code false} if {@code out} has too
+     *         little space, in which case nothing was written
+     * @throws IllegalArgumentException if the action or user name exceeds 65535 UTF-8 bytes
+     */
+    public boolean encode(long timestamp, long userId, UserRole role, String action, CharSequence userName,
+                          ByteBuffer out) {
+        Integer code = actionCodes.get(action);
+        int nameBytes = utf8Length(userName);
+        int actionBytes = code == null ? utf8Length(action) : 0;
+        if (nameBytes > MAX_STRING_BYTES || actionBytes > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Audit action or user name too long");
+        }
+        int definitionSize = code == null ? FRAME_HEADER + 4 + 2 + actionBytes : 0;
+        if (out.remaining() < definitionSize + FRAME_HEADER + ENTRY_FIXED + nameBytes) {
+            return false;
+        }
+
+        if (code == null) {
+            code = actions.size();
+            actionCodes.put(action, code);
+            actions.add(action);
+            out.putInt(definitionSize - 4).put(VERSION).put(TYPE_ACTION).putInt(code).putShort((short) actionBytes);
+            putUtf8(action, out);
+        }
+        out.putInt(FRAME_HEADER - 4 + ENTRY_FIXED + nameBytes).put(VERSION).put(TYPE_ENTRY)
+                .putLong(timestamp)
+                .putLong(userId)
+                .put(role == null ? -1 : (byte) role.ordinal())
+                .putInt(code)
+                .putShort((short) nameBytes);
+        putUtf8(userName, out);
+        return true;
+    }
+
+    /**
+     * Decodes the next entry, reading any action definitions before it.
+     *
+     * @param in     buffer positioned at the start of a frame
+     * @param record receives the entry
+     * @return {@code true} if an entry was decoded; {@code false} if {@code in} holds no complete
+     *         entry frame, in which case it is positioned at the start of the incomplete frame
+     * @throws IllegalArgumentException if a frame has an unsupported version or an unknown action code
+     */
+    public boolean decode(ByteBuffer in, Record record) {
+        while (in.remaining() >= 4) {
+            int start = in.position();
+            int length = in.getInt(start);
+            if (length < FRAME_HEADER - 4 || in.remaining() < 4 + length) {
+                return false;
+            }
+            int end = start + 4 + length;
+            in.position(start + 4);
+            byte version = in.get();
+            byte type = in.get();
+            if (version < 1 || version > VERSION) {
+                throw new IllegalArgumentException("Unsupported audit record version " + version);
+            }
+
+            if (type == TYPE_ACTION) {
+                int code = in.getInt();
+                String action = getUtf8String(in, in.getShort() & MAX_STRING_BYTES);
+                while (actions.size() <= code) {
+                    actions.add(null);
+                }
+                actions.set(code, action);
+            } else if (type == TYPE_ENTRY) {
+                record.timestamp = in.getLong();
+                record.userId = in.getLong();
+                byte role = in.get();
+                record.role = role >= 0 && role < ROLES.length ? ROLES[role] : null;
+                int code = in.getInt();
+                if (code < 0 || code >= actions.size() || actions.get(code) == null) {
+                    throw new IllegalArgumentException("Unknown audit action code " + code);
+                }
+                record.action = actions.get(code);
+                record.userName.setLength(0);
+                getUtf8(in, in.getShort() & MAX_STRING_BYTES, record.userName);
+                in.position(end);
+                return true;
+            }
+            in.position(end);
+        }
+        return false;
+    }
+
+    private static int utf8Length(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private static void putUtf8(CharSequence text, ByteBuffer out) {
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18))
+                        .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                        .put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                out.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private static void getUtf8(ByteBuffer in, int bytes, StringBuilder into) {
+        int end = in.position() + bytes;
+        while (in.position() < end) {
+            int b = in.get() & 0xFF;
+            if (b < 0x80) {
+                into.append((char) b);
+            } else if (b < 0xE0) {
+                into.append((char) ((b & 0x1F) << 6 | in.get() & 0x3F));
+            } else if (b < 0xF0) {
+                into.append((char) ((b & 0x0F) << 12 | (in.get() & 0x3F) << 6 | in.get() & 0x3F));
+            } else {
+                into.appendCodePoint((b & 0x07) << 18 | (in.get() & 0x3F) << 12 | (in.get() & 0x3F) << 6 | in.get() & 0x3F);
+            }
+        }
+    }
+
+    private static String getUtf8String(ByteBuffer in, int bytes) {
+        StringBuilder text = new StringBuilder(bytes);
+        getUtf8(in, bytes, text);
+        return text.toString();
+    }
+}
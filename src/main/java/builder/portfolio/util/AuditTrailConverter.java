@@ -0,0 +1,127 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.AuditTrail;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts the text audit trail to the binary {@link AuditRecordCodec} format and reads
+ * binary audit files.
+ *
+ * Text entries carry no time, so converted entries have timestamp 0. Lines that cannot be
+ * parsed are skipped.
+ *
+ * The converter can be run on its own; the paths default to the audit trail file and the
+ * same file with a {@code .bin} extension:
+ * mvn exec:java -Dexec.mainClass="builder.portfolio.util.AuditTrailConverter" -Dexec.args="auditTrail.txt auditTrail.bin"
+ */
+@Slf4j
+public class AuditTrailConverter {
+
+    /** Large enough for an action definition and an entry of maximum size. */
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * Converts the text file named by the first argument into the binary file named by the second.
+     *
+     * @param args optional source and target paths
+     */
+    public static void main(String[] args) throws IOException {
+        Path source = Paths.get(args.length > 0 ? args[0] : FileWriterUtil.FILE_PATH);
+        Path target = Paths.get(args.length > 1 ? args[1] : source.toString().replaceFirst("\\.txt$", "") + ".bin");
+        long converted = convert(source, target);
+        log.info("Converted {} audit entries from {} to {}", converted, source, target);
+    }
+
+    /**
+     * Writes every entry of a text audit file to a new binary audit file.
+     *
+     * @param textFile   the text audit file
+     * @param binaryFile the binary file to create; an existing file is replaced
+     * @return the number of converted entries
+     */
+    public static long convert(Path textFile, Path binaryFile) throws IOException {
+        AuditRecordCodec codec = new AuditRecordCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long converted = 0;
+        try (BufferedReader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8);
+             FileChannel out = FileChannel.open(binaryFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                AuditTrail auditTrail = parse(line);
+                if (auditTrail == null) {
+                    continue;
+                }
+                if (!codec.encode(auditTrail, buffer)) {
+                    drain(buffer, out);
+                    codec.encode(auditTrail, buffer);
+                }
+                converted++;
+            }
+            drain(buffer, out);
+        }
+        return converted;
+    }
+
+    /**
+     * Reads every entry of a binary audit file.
+     *
+     * @param binaryFile the binary audit file
+     * @return the entries in file order
+     */
+    public static List<AuditTrail> read(Path binaryFile) throws IOException {
+        AuditRecordCodec codec = new AuditRecordCodec();
+        AuditRecordCodec.Record record = new AuditRecordCodec.Record();
+        List<AuditTrail> auditTrails = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel in = FileChannel.open(binaryFile, StandardOpenOption.READ)) {
+            while (true) {
+                int read = in.read(buffer);
+                buffer.flip();
+                while (codec.decode(buffer, record)) {
+                    auditTrails.add(record.toAuditTrail());
+                }
+                buffer.compact();
+                if (read < 0) {
+                    if (buffer.position() > 0) {
+                        throw new IOException("Truncated audit record at the end of " + binaryFile);
+                    }
+                    break;
+                }
+                if (!buffer.hasRemaining()) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                }
+            }
+        }
+        return auditTrails;
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static AuditTrail parse(String line) {
+        try {
+            return AuditTrail.fromString(line);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            log.warn("Skipping malformed audit line: {}", line);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.AuditTrail;
+import builder.portfolio.model.Page;
+import builder.portfolio.model.enums.UserRole;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Memory-mapped reader for the audit trail file, backed by a sidecar offset index.
+ *
+ * The index ({@code <file>.idx}) holds one fixed-size entry per audit line: the line's
+ * offset and length in the audit file plus the user ID, role and action hash of the entry.
+ * Reads map the audit file and the index instead of reading them into memory, so tail and
+ * paged reads only touch the lines they return, and filters compare index entries and
+ * only decode the lines that match.
+ *
+ * The index is brought up to date before every read: only lines appended since the last
+ * read are parsed. If the audit file has shrunk, e.g. because it was replaced, the index
+ * is rebuilt. Entries are numbered from 1 in file order; the number is the paging cursor.
+ *
+ * New entries are written before the header that commits them, which records the indexed
+ * length and the entry count. Entries past that count, left behind by a crash between the
+ * two writes, are ignored and overwritten by the next update.
+ *
+ * Example usage:
+ * AuditTrailReader reader = new AuditTrailReader(Paths.get("auditTrail.txt"));
+ * List<AuditTrail> latest = reader.tail(20);
+ */
+@Slf4j
+public class AuditTrailReader {
+
+    /** Bytes per index entry: offset, length, user ID, action hash, role ordinal and padding. */
+    static final int ENTRY_SIZE = 32;
+    /** Bytes of the index header: magic, version, the indexed length of the audit file and the entry count. */
+    private static final int HEADER_SIZE = 32;
+    private static final int MAGIC = 0x41544958;
+    private static final int VERSION = 2;
+    private static final byte NO_ROLE = -1;
+
+    private final Path file;
+    private final Path indexFile;
+    private final long startOffset;
+    private long indexedLength = -1;
+    private long entries;
+    private Mapping data;
+    private Mapping index;
+
+    /**
+     * Creates a reader for the given audit file, with the index next to it.
+     *
+     * @param file the audit trail file
+     */
+    public AuditTrailReader(Path file) {
+        this(file, 0);
+    }
+
+    /**
+     * Creates a reader for an audit file whose audit lines start after a fixed-size header,
+     * e.g. a segment of a {@link SegmentedAuditLog}.
+     *
+     * @param file        the audit file
+     * @param startOffset the offset of the first audit line; the bytes before it are not indexed
+     */
+    public AuditTrailReader(Path file, long startOffset) {
+        this.file = file;
+        this.indexFile = file.resolveSibling(file.getFileName() + ".idx");
+        this.startOffset = startOffset;
+    }
+
+    /**
+     * Returns the number of entries in the audit file.
+     *
+     * @return the number of entries, or 0 if the file cannot be read
+     */
+    public synchronized long count() {
+        return refresh() ? entries : 0;
+    }
+
+    /**
+     * Returns the last entries of the audit file.
+     *
+     * @param limit maximum number of entries
+     * @return up to {@code limit} entries in file order, or an empty list if the file cannot be read
+     */
+    public synchronized List<AuditTrail> tail(int limit) {
+        List<AuditTrail> auditTrails = new ArrayList<>();
+        if (!refresh()) {
+            return auditTrails;
+        }
+        for (long entry = Math.max(0, entries - limit); entry < entries; entry++) {
+            auditTrails.add(read(entry));
+        }
+        return auditTrails;
+    }
+
+    /**
+     * Returns one page of entries, in file order.
+     *
+     * @param afterEntry the number of the last entry of the previous page, 0 for the first page
+     * @param pageSize   maximum number of entries on the page
+     * @return the {@link Page}; its cursor is the number of its last entry
+     */
+    public synchronized Page<AuditTrail> readPage(long afterEntry, int pageSize) {
+        List<AuditTrail> auditTrails = new ArrayList<>();
+        if (!refresh()) {
+            return new Page<>(auditTrails, afterEntry, false);
+        }
+        long end = Math.min(entries, Math.max(0, afterEntry) + pageSize);
+        for (long entry = Math.max(0, afterEntry); entry < end; entry++) {
+            auditTrails.add(read(entry));
+        }
+        return new Page<>(auditTrails, end, end < entries);
+    }
+
+    /**
+     * Finds entries by user, role and action. Criteria left {@code null} match every entry.
+     * Only the lines whose index entries match are decoded.
+     *
+     * @param userId the ID of the user who performed the action, or {@code null}
+     * @param role   the role of that user, or {@code null}
+     * @param action the exact action, or {@code null}
+     * @param limit  maximum number of entries returned
+     * @return the first matching entries in file order, or an empty list if the file cannot be read
+     */
+    public synchronized List<AuditTrail> find(Long userId, UserRole role, String action, int limit) {
+        List<AuditTrail> auditTrails = new ArrayList<>();
+        if (!refresh()) {
+            return auditTrails;
+        }
+        for (long entry = 0; entry < entries && auditTrails.size() < limit; entry++) {
+            long position = HEADER_SIZE + entry * ENTRY_SIZE;
+            if ((userId != null && index.getLong(position + 12) != userId)
+                    || (role != null && index.get(position + 24) != role.ordinal())
+                    || (action != null && index.getInt(position + 20) != action.hashCode())) {
+                continue;
+            }
+            AuditTrail auditTrail = read(entry);
+            if (auditTrail != null && (action == null || action.equals(auditTrail.getAction()))) {
+                auditTrails.add(auditTrail);
+            }
+        }
+        return auditTrails;
+    }
+
+    private AuditTrail read(long entry) {
+        long position = HEADER_SIZE + entry * ENTRY_SIZE;
+        byte[] line = new byte[index.getInt(position + 8)];
+        data.read(index.getLong(position), line);
+        return AuditTrail.fromString(new String(line, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Indexes the lines appended since the last call and maps the current file contents.
+     */
+    private boolean refresh() {
+        try {
+            if (!Files.exists(file)) {
+                entries = 0;
+                data = null;
+                return false;
+            }
+            long size = Files.size(file);
+            if (indexedLength < 0 && !loadIndex(size)) {
+                createIndex();
+            }
+            if (size < indexedLength) {
+                log.warn("Audit file {} shrank, rebuilding its index", file);
+                createIndex();
+            }
+            if (data == null || data.size != size) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    data = Mapping.of(channel, size);
+                }
+            }
+            if (size > indexedLength) {
+                appendToIndex(size);
+            }
+            return true;
+        } catch (IOException ioException) {
+            log.error(ioException.getMessage());
+            return false;
+        }
+    }
+
+    private boolean loadIndex(long fileSize) throws IOException {
+        if (!Files.exists(indexFile)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            long indexSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (indexSize < HEADER_SIZE || channel.read(header, 0) != HEADER_SIZE) {
+                return false;
+            }
+            header.flip();
+            long length = header.getLong(8);
+            long committed = header.getLong(16);
+            long committedSize = HEADER_SIZE + committed * ENTRY_SIZE;
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || length > fileSize
+                    || length < startOffset || committed < 0 || committedSize > indexSize) {
+                return false;
+            }
+            Mapping mapping = Mapping.of(channel, committedSize);
+            if (committed > 0) {
+                long last = committedSize - ENTRY_SIZE;
+                if (mapping.getLong(last) + mapping.getInt(last + 8) > length) {
+                    return false;
+                }
+            }
+            indexedLength = length;
+            entries = committed;
+            index = mapping;
+            return true;
+        }
+    }
+
+    private void createIndex() throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.READ, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(header(startOffset, 0), 0);
+            index = Mapping.of(channel, HEADER_SIZE);
+        }
+        indexedLength = startOffset;
+        entries = 0;
+    }
+
+    private void appendToIndex(long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * ENTRY_SIZE);
+        long lineStart = indexedLength;
+        long added = 0;
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            long position = HEADER_SIZE + entries * ENTRY_SIZE;
+            for (long offset = indexedLength; offset < size; offset++) {
+                if (data.get(offset) != '\n') {
+                    continue;
+                }
+                long lineEnd = offset > lineStart && data.get(offset - 1) == '\r' ? offset - 1 : offset;
+                byte[] line = new byte[(int) (lineEnd - lineStart)];
+                data.read(lineStart, line);
+                AuditTrail auditTrail = parse(line);
+                if (auditTrail != null) {
+                    if (!buffer.hasRemaining()) {
+                        buffer.flip();
+                        position += writeFully(channel, buffer, position);
+                        buffer.clear();
+                    }
+                    buffer.putLong(lineStart)
+                            .putInt(line.length)
+                            .putLong(auditTrail.getPerformedBy().getUserId())
+                            .putInt(auditTrail.getAction().hashCode())
+                            .put(auditTrail.getPerformedBy().getRole() == null
+                                    ? NO_ROLE : (byte) auditTrail.getPerformedBy().getRole().ordinal())
+                            .put(new byte[7]);
+                    added++;
+                }
+                lineStart = offset + 1;
+            }
+            buffer.flip();
+            position += writeFully(channel, buffer, position);
+            channel.write(header(lineStart, entries + added), 0);
+            channel.truncate(position);
+            indexedLength = lineStart;
+            entries += added;
+            index = Mapping.of(channel, position);
+        } catch (RuntimeException runtimeException) {
+            throw new IOException("Unable to index " + file + ": " + runtimeException.getMessage(), runtimeException);
+        }
+    }
+
+    /**
+     * Parses a line while indexing; malformed lines are left out of the index.
+     */
+    private static AuditTrail parse(byte[] line) {
+        try {
+            return AuditTrail.fromString(new String(line, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException illegalArgumentException) {
+            log.warn("Skipping malformed audit line: {}", illegalArgumentException.getMessage());
+            return null;
+        }
+    }
+
+    private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    private static ByteBuffer header(long indexedLength, long entries) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(indexedLength).putLong(entries);
+        header.clear();
+        return header;
+    }
+
+    /**
+     * Read-only mapping of a file of any size, split into chunks because a single
+     * {@link MappedByteBuffer} cannot exceed 2 GB.
+     */
+    private static final class Mapping {
+        private static final int CHUNK_BITS = 30;
+        private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+
+        private final MappedByteBuffer[] chunks;
+        private final long size;
+
+        private Mapping(MappedByteBuffer[] chunks, long size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        static Mapping of(FileChannel channel, long size) throws IOException {
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS)];
+            for (int i = 0; i < chunks.length; i++) {
+                long start = (long) i << CHUNK_BITS;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE, size - start));
+            }
+            return new Mapping(chunks, size);
+        }
+
+        byte get(long position) {
+            return chunks[(int) (position >>> CHUNK_BITS)].get((int) (position & (CHUNK_SIZE - 1)));
+        }
+
+        /** Index entries are aligned, so they never cross a chunk boundary. */
+        int getInt(long position) {
+            return chunks[(int) (position >>> CHUNK_BITS)].getInt((int) (position & (CHUNK_SIZE - 1)));
+        }
+
+        long getLong(long position) {
+            return chunks[(int) (position >>> CHUNK_BITS)].getLong((int) (position & (CHUNK_SIZE - 1)));
+        }
+
+        void read(long position, byte[] destination) {
+            int copied = 0;
+            while (copied < destination.length) {
+                long current = position + copied;
+                MappedByteBuffer chunk = chunks[(int) (current >>> CHUNK_BITS)];
+                int offset = (int) (current & (CHUNK_SIZE - 1));
+                int length = Math.min(destination.length - copied, chunk.capacity() - offset);
+                chunk.get(offset, destination, copied, length);
+                copied += length;
+            }
+        }
+    }
+}
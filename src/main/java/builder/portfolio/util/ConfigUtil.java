@@ -0,0 +1,95 @@
+package builder.portfolio.util;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * Utility class for reading the application configuration.
+ *
+ * The properties in {@code src/main/resources/application.properties} are read from disk
+ * once, on first use, and shared by every component afterwards. Typed accessors fall back
+ * to a default value when a property is missing or malformed.
+ *
+ * If the {@value #OVERRIDES_PROPERTY} system property names a file, its properties replace
+ * the ones of the same name; the test run uses this to keep its output out of the checkout.
+ *
+ * Example usage:
+ * Properties config = ConfigUtil.getProperties();
+ * int maxSize = ConfigUtil.intProperty(config, "db_pool_max_size", 10);
+ */
+public class ConfigUtil {
+
+    /** Location of the application configuration. */
+    private static final String PROPERTIES_PATH = "src/main/resources/application.properties";
+
+    /** System property naming an optional file of properties that override the configuration. */
+    public static final String OVERRIDES_PROPERTY = "portfolio.config.overrides";
+
+    /** Properties loaded once on first use. */
+    private static volatile Properties properties;
+
+    /**
+     * Returns the application properties, loading them from disk on first call.
+     *
+     * @return the loaded {@link Properties}, or {@code null} if the file cannot be read
+     */
+    public static Properties getProperties() {
+        Properties loaded = properties;
+        if (loaded == null) {
+            synchronized (ConfigUtil.class) {
+                loaded = properties;
+                if (loaded == null) {
+                    loaded = new Properties();
+                    String overrides = System.getProperty(OVERRIDES_PROPERTY, "").trim();
+                    try (FileInputStream inputStream = new FileInputStream(PROPERTIES_PATH)) {
+                        loaded.load(inputStream);
+                        if (!overrides.isEmpty()) {
+                            try (FileInputStream overridesStream = new FileInputStream(overrides)) {
+                                loaded.load(overridesStream);
+                            }
+                        }
+                    } catch (IOException ioException) {
+                        System.err.println("Exception: " + ioException.getMessage());
+                        return null;
+                    }
+                    properties = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Reads an integer property, falling back to a default when missing or malformed.
+     *
+     * @param config       the properties to read from
+     * @param key          the property name
+     * @param defaultValue the value used when the property is absent or invalid
+     * @return the configured value or {@code defaultValue}
+     */
+    public static int intProperty(Properties config, String key, int defaultValue) {
+        return (int) longProperty(config, key, defaultValue);
+    }
+
+    /**
+     * Reads a long property, falling back to a default when missing or malformed.
+     *
+     * @param config       the properties to read from
+     * @param key          the property name
+     * @param defaultValue the value used when the property is absent or invalid
+     * @return the configured value or {@code defaultValue}
+     */
+    public static long longProperty(Properties config, String key, long defaultValue) {
+        String value = config == null ? null : config.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException numberFormatException) {
+            System.err.println("Invalid value for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+}
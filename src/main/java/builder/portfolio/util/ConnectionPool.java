@@ -0,0 +1,390 @@
+package builder.portfolio.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, thread-safe pool of JDBC connections.
+ *
+ * The pool hands out proxies of physical connections. Calling {@link Connection#close()}
+ * on a borrowed connection returns it to the pool instead of closing the socket, so the
+ * existing try-with-resources blocks in the repositories keep working unchanged.
+ *
+ * Behaviour:
+ * at most {@code maxSize} connections are borrowed at the same time; further callers wait
+ * up to {@code acquireTimeoutMillis} and then receive {@code null}.
+ * Idle connections are validated with {@link Connection#isValid(int)} before being handed out.
+ * Connections idle for longer than {@code idleTimeoutMillis} are closed by a background
+ * evictor, while at least {@code minSize} idle connections are kept warm.
+ * Each physical connection keeps a {@link StatementCache} of up to {@code statementCacheSize}
+ * prepared statements, keyed by SQL text, that survives between borrows.
+ *
+ * Example usage:
+ * <pre>
+ * {@code
+ * ConnectionPool pool = new ConnectionPool(factory, 2, 10, 60_000, 5_000, 2);
+ * try (Connection connection = pool.borrow()) {
+ *     // use the connection
+ * }
+ * }
+ * </pre>
+ */
+@Slf4j
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Creates new physical connections for the pool.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    /**
+     * Point-in-time snapshot of the pool counters.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Stats {
+        private final int active;
+        private final int idle;
+        private final int maxSize;
+        private final long created;
+        private final long borrowed;
+        private final long timeouts;
+        private final long validationFailures;
+        private final long averageWaitMicros;
+        private final long statementCacheHits;
+        private final long statementCacheMisses;
+        private final long statementCacheEvictions;
+
+        /**
+         * Fraction of {@code prepareStatement} calls served from the statement cache.
+         *
+         * @return the hit rate between 0 and 1
+         */
+        public double getStatementCacheHitRate() {
+            long lookups = statementCacheHits + statementCacheMisses;
+            return lookups == 0 ? 0 : (double) statementCacheHits / lookups;
+        }
+    }
+
+    private final ConnectionFactory factory;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long acquireTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+
+    private final BlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final AtomicLong statementCacheEvictions = new AtomicLong();
+
+    /**
+     * Creates a pool without statement caching.
+     *
+     * @see #ConnectionPool(ConnectionFactory, int, int, long, long, int, int)
+     */
+    public ConnectionPool(ConnectionFactory factory, int minSize, int maxSize, long idleTimeoutMillis,
+                          long acquireTimeoutMillis, int validationTimeoutSeconds) {
+        this(factory, minSize, maxSize, idleTimeoutMillis, acquireTimeoutMillis, validationTimeoutSeconds, 0);
+    }
+
+    /**
+     * Creates a pool and pre-opens {@code minSize} connections.
+     *
+     * @param factory                  creates physical connections
+     * @param minSize                  number of idle connections kept open
+     * @param maxSize                  maximum number of connections borrowed at once
+     * @param idleTimeoutMillis        idle time after which a surplus connection is closed
+     * @param acquireTimeoutMillis     maximum time {@link #borrow()} waits for a free connection
+     * @param validationTimeoutSeconds timeout passed to {@link Connection#isValid(int)}
+     * @param statementCacheSize       prepared statements cached per connection; 0 disables caching
+     */
+    public ConnectionPool(ConnectionFactory factory, int minSize, int maxSize, long idleTimeoutMillis,
+                          long acquireTimeoutMillis, int validationTimeoutSeconds, int statementCacheSize) {
+        if (maxSize <= 0 || minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min=" + minSize + ", max=" + maxSize);
+        }
+        this.factory = factory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        for (int i = 0; i < minSize; i++) {
+            try {
+                idleConnections.offerLast(newPooledConnection(openPhysical()));
+            } catch (SQLException sqlException) {
+                log.error("Unable to pre-open pooled connection: {}", sqlException.getMessage());
+                break;
+            }
+        }
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1_000, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection from the pool, waiting up to the configured acquire timeout.
+     *
+     * @return a pooled {@link Connection}; {@code null} if none could be acquired in time
+     *         or a new physical connection could not be opened
+     */
+    public Connection borrow() {
+        if (closed) {
+            log.error("Connection pool is closed");
+            return null;
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.incrementAndGet();
+                log.error("Timed out after {} ms waiting for a database connection", acquireTimeoutMillis);
+                return null;
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        totalWaitNanos.addAndGet(System.nanoTime() - start);
+
+        try {
+            PooledConnection pooled;
+            while ((pooled = idleConnections.pollFirst()) != null) {
+                if (isUsable(pooled.physical)) {
+                    return lend(pooled);
+                }
+                validationFailures.incrementAndGet();
+                closeQuietly(pooled);
+            }
+            return lend(newPooledConnection(openPhysical()));
+        } catch (SQLException sqlException) {
+            permits.release();
+            log.error(sqlException.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool counters.
+     *
+     * @return the current {@link Stats}
+     */
+    public Stats getStats() {
+        long borrowCount = borrowed.get();
+        long averageWait = borrowCount == 0 ? 0 : totalWaitNanos.get() / borrowCount / 1_000;
+        return new Stats(active.get(), idleConnections.size(), maxSize, created.get(), borrowCount,
+                timeouts.get(), validationFailures.get(), averageWait,
+                statementCacheHits.get(), statementCacheMisses.get(), statementCacheEvictions.get());
+    }
+
+    /**
+     * Closes all idle connections and stops the evictor.
+     * Connections that are still borrowed are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            closeQuietly(pooled);
+        }
+    }
+
+    private Connection lend(PooledConnection pooled) {
+        active.incrementAndGet();
+        borrowed.incrementAndGet();
+        pooled.lastUsed = System.currentTimeMillis();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new BorrowedConnectionHandler(pooled));
+    }
+
+    private void giveBack(PooledConnection pooled, boolean broken) {
+        active.decrementAndGet();
+        try {
+            if (broken || closed || pooled.physical.isClosed()) {
+                closeQuietly(pooled);
+                return;
+            }
+            if (!pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            pooled.lastUsed = System.currentTimeMillis();
+            idleConnections.offerFirst(pooled);
+        } catch (SQLException sqlException) {
+            log.error(sqlException.getMessage());
+            closeQuietly(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private PooledConnection newPooledConnection(Connection physical) {
+        StatementCache cache = statementCacheSize <= 0 ? null : new StatementCache(physical, statementCacheSize,
+                statementCacheHits, statementCacheMisses, statementCacheEvictions);
+        return new PooledConnection(physical, cache);
+    }
+
+    private boolean isUsable(Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException sqlException) {
+            return false;
+        }
+    }
+
+    private Connection openPhysical() throws SQLException {
+        Connection connection = factory.create();
+        if (connection == null) {
+            throw new SQLException("Connection factory returned no connection");
+        }
+        created.incrementAndGet();
+        return connection;
+    }
+
+    private void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        // Oldest connections sit at the tail because returns are pushed to the head.
+        while (idleConnections.size() > minSize) {
+            PooledConnection oldest = idleConnections.peekLast();
+            if (oldest == null || oldest.lastUsed > cutoff || !idleConnections.removeLastOccurrence(oldest)) {
+                break;
+            }
+            closeQuietly(oldest);
+        }
+    }
+
+    private void closeQuietly(PooledConnection pooled) {
+        try {
+            if (pooled.statementCache != null) {
+                pooled.statementCache.closeAll();
+            }
+            pooled.physical.close();
+        } catch (SQLException sqlException) {
+            log.debug("Error closing pooled connection: {}", sqlException.getMessage());
+        }
+    }
+
+    /**
+     * A physical connection together with its bookkeeping data.
+     */
+    private static final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statementCache;
+        private volatile long lastUsed;
+
+        private PooledConnection(Connection physical, StatementCache statementCache) {
+            this.physical = physical;
+            this.statementCache = statementCache;
+            this.lastUsed = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Routes calls on a borrowed connection to the physical connection and turns
+     * {@code close()} into a return to the pool. Statements it creates report the borrowed
+     * connection from {@code getConnection()}.
+     */
+    private final class BorrowedConnectionHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean returned;
+        private boolean broken;
+
+        private BorrowedConnectionHandler(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        giveBack(pooled, broken);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + pooled.physical + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            try {
+                if (pooled.statementCache != null && method.getName().equals("prepareStatement")
+                        && args.length == 1) {
+                    return pooled.statementCache.prepare((String) args[0], (Connection) proxy);
+                }
+                Object result = method.invoke(pooled.physical, args);
+                return result instanceof Statement statement
+                        ? StatementCache.ownedBy(statement, method.getReturnType(), (Connection) proxy)
+                        : result;
+            } catch (InvocationTargetException invocationException) {
+                Throwable cause = invocationException.getCause();
+                if (cause instanceof SQLException sqlException && isFatal(sqlException)) {
+                    broken = true;
+                }
+                throw cause;
+            }
+        }
+
+        private boolean isFatal(SQLException sqlException) {
+            // SQLSTATE class 08 = connection exception
+            String state = sqlException.getSQLState();
+            return state != null && state.startsWith("08");
+        }
+    }
+}
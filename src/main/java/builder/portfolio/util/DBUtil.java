@@ -1,18 +1,23 @@
 package builder.portfolio.util;
 
-import java.io.FileInputStream;
-import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Properties;
+import java.util.concurrent.Callable;
 
 /**
  * Utility class for managing database connections.
  *
- * This class provides a single static method {@link #getConnection()} to establish
- * a connection to the database using properties defined in the
- * {@code src/main/resources/application.properties} file.
+ * This class provides a single static method {@link #getConnection()} that hands out
+ * connections from a shared {@link ConnectionPool}. The pool is created on first use from
+ * the properties defined in the {@code src/main/resources/application.properties} file,
+ * which is read only once per JVM by {@link ConfigUtil}.
  *
  * The following properties are expected in the properties file:
  * db_class_name - Fully qualified name of the JDBC driver class
@@ -21,55 +26,236 @@ import java.util.Properties;
  * db_password - Database password
  * db_database_name - Name of the database
  *
+ * The following optional properties tune the pool:
+ * db_pool_min_size - idle connections kept open (default 2)
+ * db_pool_max_size - maximum connections in use at once (default 10)
+ * db_pool_idle_timeout_ms - idle time before a surplus connection is closed (default 300000)
+ * db_pool_acquire_timeout_ms - maximum wait for a free connection (default 5000)
+ * db_pool_validation_timeout_s - timeout of the validation check on borrow (default 2)
+ * db_statement_cache_size - prepared statements cached per connection, 0 disables (default 64)
+ *
  * Example usage:
  * <pre>
  * {@code
- * Connection connection = DBUtil.getConnection();
- * if (connection != null) {
- *     // use the connection
+ * try (Connection connection = DBUtil.getConnection()) {
+ *     // use the connection; close() returns it to the pool
  * }
  * }
  * </pre>
  *
+ * Work that must commit or roll back as a whole runs in {@link #inTransaction(Callable)}, which
+ * hands the same connection to every {@link #getConnection()} on its thread.
+ *
  * Note: The method prints any exceptions to standard error and returns {@code null}
  * if a connection cannot be established.
  */
 public class DBUtil {
 
+    /** The shared pool, created lazily on first use. */
+    private static volatile ConnectionPool pool;
+
+    /** The transaction of {@link #inTransaction(Callable)} running on this thread, if any. */
+    private static final ThreadLocal<Transaction> TRANSACTION = new ThreadLocal<>();
+
     /**
-     * Establishes and returns a {@link Connection} to the database.
+     * Borrows a {@link Connection} from the shared pool.
      *
-     * This method reads the database connection details from the
-     * {@code application.properties} file, loads the JDBC driver, and
-     * creates a connection to the specified database.
+     * Closing the returned connection gives it back to the pool. Inside
+     * {@link #inTransaction(Callable)} the connection of the transaction is returned instead.
      *
      * @return a {@link Connection} object if successful; {@code null} otherwise
      */
     public static Connection getConnection() {
-        Connection connection = null;
-        Properties properties = new Properties();
-        try (FileInputStream inputStream = new FileInputStream("src/main/resources/application.properties")) {
-            properties.load(inputStream);
-        } catch (IOException ioException) {
-            System.err.println("Exception: " + ioException.getMessage());
+        Transaction transaction = TRANSACTION.get();
+        if (transaction != null) {
+            return transaction.enlisted;
+        }
+        ConnectionPool connectionPool = getPool();
+        return connectionPool == null ? null : connectionPool.borrow();
+    }
+
+    /**
+     * Runs work as one database transaction.
+     *
+     * While the work runs, every {@link #getConnection()} on this thread returns the same
+     * connection with autocommit off. On that connection {@code close()}, {@code commit()} and
+     * {@code setAutoCommit()} do nothing and {@code rollback()} marks the transaction for
+     * rollback, so repository methods that manage their own transaction join this one. The
+     * transaction is committed once when the work returns and rolled back if the work throws
+     * or a rollback was requested. A nested call joins the running transaction.
+     *
+     * @param work the work to run
+     * @param <T>  the type of the result
+     * @return the result of the work
+     * @throws SQLException if no connection is available, the commit fails or a statement of
+     *                      the work requested a rollback
+     * @throws Exception    whatever the work throws, after the rollback
+     */
+    public static <T> T inTransaction(Callable<T> work) throws Exception {
+        if (TRANSACTION.get() != null) {
+            return work.call();
+        }
+        ConnectionPool connectionPool = getPool();
+        Connection connection = connectionPool == null ? null : connectionPool.borrow();
+        if (connection == null) {
+            throw new SQLException("No database connection available");
+        }
+
+        Transaction transaction = new Transaction(connection);
+        TRANSACTION.set(transaction);
+        try (connection) {
+            connection.setAutoCommit(false);
+            T result;
+            try {
+                result = work.call();
+            } catch (Exception exception) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackException) {
+                    exception.addSuppressed(rollbackException);
+                }
+                throw exception;
+            }
+            if (transaction.rollbackOnly) {
+                connection.rollback();
+                throw new SQLException("Transaction rolled back after a failed statement");
+            }
+            connection.commit();
+            return result;
+        } finally {
+            TRANSACTION.remove();
+        }
+    }
+
+    /**
+     * Returns the current pool statistics.
+     *
+     * @return the {@link ConnectionPool.Stats} of the shared pool, or {@code null} if
+     *         the pool could not be created
+     */
+    public static ConnectionPool.Stats getPoolStats() {
+        ConnectionPool connectionPool = getPool();
+        return connectionPool == null ? null : connectionPool.getStats();
+    }
+
+    /**
+     * Replaces the shared pool, closing the previous one.
+     * Useful for pointing the application at a different database, e.g. in tests.
+     *
+     * @param connectionPool the pool to use from now on
+     */
+    public static synchronized void setPool(ConnectionPool connectionPool) {
+        ConnectionPool previous = pool;
+        pool = connectionPool;
+        if (previous != null && previous != connectionPool) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Closes the shared pool and all its idle connections.
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+        }
+    }
+
+    /**
+     * The connection of a running transaction, handed out by {@link #getConnection()} as a
+     * proxy that leaves committing and closing to {@link #inTransaction(Callable)}.
+     */
+    private static final class Transaction implements InvocationHandler {
+        private final Connection connection;
+        private final Connection enlisted;
+        private boolean rollbackOnly;
+
+        private Transaction(Connection connection) {
+            this.connection = connection;
+            this.enlisted = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                case "setAutoCommit":
+                    return null;
+                case "rollback":
+                    if (args == null) {
+                        rollbackOnly = true;
+                        return null;
+                    }
+                    break;
+                case "getAutoCommit":
+                    return false;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Transaction[" + connection + "]";
+                default:
+                    break;
+            }
+
+            try {
+                Object result = method.invoke(connection, args);
+                return result instanceof Statement statement
+                        ? StatementCache.ownedBy(statement, method.getReturnType(), (Connection) proxy)
+                        : result;
+            } catch (InvocationTargetException invocationException) {
+                throw invocationException.getCause();
+            }
+        }
+    }
+
+    private static ConnectionPool getPool() {
+        ConnectionPool connectionPool = pool;
+        if (connectionPool == null) {
+            synchronized (DBUtil.class) {
+                connectionPool = pool;
+                if (connectionPool == null) {
+                    connectionPool = createPool();
+                    pool = connectionPool;
+                }
+            }
+        }
+        return connectionPool;
+    }
+
+    private static ConnectionPool createPool() {
+        Properties config = ConfigUtil.getProperties();
+        if (config == null) {
             return null;
         }
 
-        String dbClassName = properties.getProperty("db_class_name");
-        String dbDatabaseUrl = properties.getProperty("db_database_url");
-        String dbUsername = properties.getProperty("db_username");
-        String dbPassword = properties.getProperty("db_password");
-        String dbDatabaseName = properties.getProperty("db_database_name");
+        String dbClassName = config.getProperty("db_class_name");
+        String dbDatabaseUrl = config.getProperty("db_database_url");
+        String dbUsername = config.getProperty("db_username");
+        String dbPassword = config.getProperty("db_password");
+        String dbDatabaseName = config.getProperty("db_database_name");
 
         try {
             Class.forName(dbClassName);
-            connection = DriverManager.getConnection(
-                    dbDatabaseUrl + "/" + dbDatabaseName,
-                    dbUsername, dbPassword);
-        } catch (SQLException | ClassNotFoundException exception) {
+        } catch (ClassNotFoundException exception) {
             System.err.println(exception.getMessage());
-        } finally {
-            return connection;
+            return null;
         }
+
+        String url = dbDatabaseUrl + "/" + dbDatabaseName;
+        return new ConnectionPool(
+                () -> DriverManager.getConnection(url, dbUsername, dbPassword),
+                ConfigUtil.intProperty(config, "db_pool_min_size", 2),
+                ConfigUtil.intProperty(config, "db_pool_max_size", 10),
+                ConfigUtil.longProperty(config, "db_pool_idle_timeout_ms", 300_000),
+                ConfigUtil.longProperty(config, "db_pool_acquire_timeout_ms", 5_000),
+                ConfigUtil.intProperty(config, "db_pool_validation_timeout_s", 2),
+                ConfigUtil.intProperty(config, "db_statement_cache_size", 64));
     }
 }
@@ -1,24 +1,33 @@
 package builder.portfolio.util;
 
 import builder.portfolio.model.AuditTrail;
+import builder.portfolio.model.Page;
+import builder.portfolio.model.enums.UserRole;
 
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Utility class for reading audit trail data from a file.
  *
- * This class provides a single static method {@link #readAuditTrails()} that reads
+ * This class provides a static method {@link #readAuditTrails()} that reads
  * audit trail records from a file located at {@code ./src/main/resources/auditTrail.txt}
  * and returns them as a list of {@link AuditTrail} objects.
+ * For large files, {@link #tailAuditTrails(int)}, {@link #readAuditTrailPage(long, int)} and
+ * {@link #findAuditTrails(Long, UserRole, String, int)} use a memory-mapped
+ * {@link AuditTrailReader} and only decode the entries they return.
+ * When a {@link SegmentedAuditLog} is configured, all reads go to its segments instead.
  *
  * Each line in the file is expected to represent a single audit trail entry, which
  * is parsed using {@link AuditTrail#fromString(String)}.
  *
+ * Entries still queued on the shared {@link AuditAppender} are written before the file is read.
+ *
  * If the file is not found or an error occurs while reading, the method prints a message
  * to the console and returns an empty list.
  *
@@ -31,6 +40,9 @@ public class FileReaderUtil {
     /** Path to the audit trail file. */
     private static final String FILE_PATH = "./src/main/resources/auditTrail.txt";
 
+    /** Indexed reader of the audit trail file. */
+    private static final AuditTrailReader READER = new AuditTrailReader(Paths.get(FILE_PATH));
+
     /**
      * Reads the audit trail entries from the file and returns them as a list.
      *
@@ -39,6 +51,11 @@ public class FileReaderUtil {
      */
     public static List<AuditTrail> readAuditTrails() {
         List<AuditTrail> auditList = new ArrayList<>();
+        AuditAppender.flushShared(1_000);
+        SegmentedAuditLog segmentedLog = SegmentedAuditLog.getShared();
+        if (segmentedLog != null) {
+            return segmentedLog.readPage(0, Integer.MAX_VALUE).getItems();
+        }
         try (BufferedReader br = new BufferedReader(new FileReader(FILE_PATH))) {
             String line;
             while ((line = br.readLine()) != null) {
@@ -54,4 +71,46 @@ public class FileReaderUtil {
         }
         return auditList;
     }
+
+    /**
+     * Returns the most recent audit trail entries.
+     *
+     * @param limit maximum number of entries
+     * @return up to {@code limit} entries, oldest first
+     */
+    public static List<AuditTrail> tailAuditTrails(int limit) {
+        AuditAppender.flushShared(1_000);
+        SegmentedAuditLog segmentedLog = SegmentedAuditLog.getShared();
+        return segmentedLog != null ? segmentedLog.tail(limit) : READER.tail(limit);
+    }
+
+    /**
+     * Returns one page of audit trail entries, oldest first.
+     *
+     * @param afterEntry the cursor of the previous page, 0 for the first page
+     * @param pageSize   maximum number of entries on the page
+     * @return the {@link Page} of entries
+     */
+    public static Page<AuditTrail> readAuditTrailPage(long afterEntry, int pageSize) {
+        if (afterEntry == 0) {
+            AuditAppender.flushShared(1_000);
+        }
+        SegmentedAuditLog segmentedLog = SegmentedAuditLog.getShared();
+        return segmentedLog != null ? segmentedLog.readPage(afterEntry, pageSize) : READER.readPage(afterEntry, pageSize);
+    }
+
+    /**
+     * Finds audit trail entries by user, role and action. Criteria left {@code null} match every entry.
+     *
+     * @param userId the ID of the user who performed the action, or {@code null}
+     * @param role   the role of that user, or {@code null}
+     * @param action the exact action, or {@code null}
+     * @param limit  maximum number of entries returned
+     * @return the first matching entries, oldest first
+     */
+    public static List<AuditTrail> findAuditTrails(Long userId, UserRole role, String action, int limit) {
+        AuditAppender.flushShared(1_000);
+        SegmentedAuditLog segmentedLog = SegmentedAuditLog.getShared();
+        return segmentedLog != null ? segmentedLog.find(userId, role, action, limit) : READER.find(userId, role, action, limit);
+    }
 }
@@ -1,10 +1,7 @@
 package builder.portfolio.util;
 
 import builder.portfolio.model.AuditTrail;
-
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Utility class for writing audit trail entries to a file.
@@ -14,34 +11,30 @@ import java.io.PrintWriter;
  * located at {@code ./src/main/resources/auditTrail.txt}.
  *
  * Each audit trail entry is written as a new line using the {@link AuditTrail#toString()}
- * representation. If an error occurs while writing to the file, an error message is printed
- * to the console.
+ * representation. Entries are handed to the shared {@link AuditAppender}, which keeps the
+ * file open and writes them in batches on its own thread, so the caller never waits for
+ * the file.
  *
  * Example usage:
  * AuditTrail audit = new AuditTrail("User logged in", "admin", "2025-09-25T10:00:00");
  * FileWriterUtil.writeAuditTrail(audit);
  */
+@Slf4j
 public class FileWriterUtil {
 
     /** Path to the audit trail file. */
-    private static final String FILE_PATH = "./src/main/resources/auditTrail.txt";
+    static final String FILE_PATH = "./src/main/resources/auditTrail.txt";
 
     /**
-     * Writes an {@link AuditTrail} entry to the audit trail file.
-     * The entry is appended to the end of the file. If the file does not exist,
-     * it will be created automatically.
+     * Queues an {@link AuditTrail} entry for the audit trail file.
+     * The entry is appended to the end of the file by the shared {@link AuditAppender}.
+     * If the file does not exist, it will be created automatically.
      *
      * @param auditTrail the {@link AuditTrail} object to write to the file
      */
     public static void writeAuditTrail(AuditTrail auditTrail) {
-        try (FileWriter fw = new FileWriter(FILE_PATH, true);
-             PrintWriter pw = new PrintWriter(fw)) {
-
-            pw.println(auditTrail.toString());
-            System.out.println("AuditTrail written: " + auditTrail);
-
-        } catch (IOException e) {
-            System.out.println("Error writing AuditTrail: " + e.getMessage());
+        if (AuditAppender.getShared().append(auditTrail.toString())) {
+            log.debug("AuditTrail queued: {}", auditTrail);
         }
     }
 }
@@ -0,0 +1,268 @@
+package builder.portfolio.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Applies versioned SQL migrations from the classpath.
+ *
+ * Migrations live in {@code db/migration} and are listed, in order, in
+ * {@code db/migration/index.txt}. Each file is named {@code V<version>__<description>.sql}.
+ * Applied versions are recorded in the {@code schema_version} table; each pending migration
+ * runs in its own transaction together with its {@code schema_version} row.
+ *
+ * A statement preceded by a {@code -- postgresql-only} comment is skipped on other databases,
+ * so the same migrations can build an embedded stand-in database for tests.
+ *
+ * The runner is started from {@code Main} when {@code db_migrate_on_startup=true}, or on its own:
+ * mvn exec:java -Dexec.mainClass="builder.portfolio.util.MigrationRunner"
+ */
+@Slf4j
+public class MigrationRunner {
+
+    /** Default classpath location of the migrations. */
+    public static final String DEFAULT_LOCATION = "db/migration";
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final String POSTGRESQL_ONLY = "-- postgresql-only";
+
+    /**
+     * A migration file read from the classpath.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Migration {
+        private final int version;
+        private final String description;
+        private final String script;
+        private final long checksum;
+    }
+
+    private final String location;
+
+    /**
+     * @param location classpath directory holding the migrations and their index
+     */
+    public MigrationRunner(String location) {
+        this.location = location;
+    }
+
+    /**
+     * Applies the migrations to the database behind {@link DBUtil}.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+        migrateShared();
+        DBUtil.shutdown();
+    }
+
+    /**
+     * Applies the migrations if {@code db_migrate_on_startup} is {@code true}.
+     */
+    public static void migrateOnStartup() {
+        Properties config = ConfigUtil.getProperties();
+        if (config != null && Boolean.parseBoolean(config.getProperty("db_migrate_on_startup", "false").trim())) {
+            migrateShared();
+        }
+    }
+
+    private static void migrateShared() {
+        try (Connection connection = DBUtil.getConnection()) {
+            if (connection == null) {
+                log.error("No database connection available, migrations not applied");
+                return;
+            }
+            new MigrationRunner(DEFAULT_LOCATION).migrate(connection);
+        } catch (SQLException | IllegalStateException exception) {
+            log.error("Migration failed: {}", exception.getMessage());
+        }
+    }
+
+    /**
+     * Applies every migration that has not been applied yet, in version order.
+     *
+     * @param connection the connection to migrate
+     * @return the versions applied by this call
+     * @throws SQLException          if a migration fails; it is rolled back and later ones are not run
+     * @throws IllegalStateException if the migration files cannot be read
+     */
+    public List<Integer> migrate(Connection connection) throws SQLException {
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql");
+        boolean autoCommit = connection.getAutoCommit();
+
+        try {
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TABLE IF NOT EXISTS schema_version (
+                            version INT PRIMARY KEY,
+                            description VARCHAR(255) NOT NULL,
+                            checksum BIGINT NOT NULL,
+                            installed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                        )
+                        """);
+            }
+
+            Map<Integer, Long> applied = appliedVersions(connection);
+            List<Integer> appliedNow = new ArrayList<>();
+
+            for (Migration migration : loadMigrations()) {
+                Long checksum = applied.get(migration.getVersion());
+                if (checksum != null) {
+                    if (checksum != migration.getChecksum()) {
+                        log.warn("Migration V{} was changed after it was applied", migration.getVersion());
+                    }
+                    continue;
+                }
+                apply(connection, migration, postgres);
+                appliedNow.add(migration.getVersion());
+                log.info("Applied migration V{}__{}", migration.getVersion(), migration.getDescription());
+            }
+            return appliedNow;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Reads the migrations listed in the index, in version order.
+     *
+     * @return the {@link Migration}s
+     * @throws IllegalStateException if the index or a listed file cannot be read or is misnamed
+     */
+    public List<Migration> loadMigrations() {
+        List<Migration> migrations = new ArrayList<>();
+        for (String fileName : readResource(location + "/index.txt").split("\\R")) {
+            fileName = fileName.trim();
+            if (fileName.isEmpty() || fileName.startsWith("#")) {
+                continue;
+            }
+            Matcher matcher = FILE_NAME.matcher(fileName);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Invalid migration file name: " + fileName);
+            }
+
+            String script = readResource(location + "/" + fileName);
+            CRC32 crc = new CRC32();
+            crc.update(script.getBytes(StandardCharsets.UTF_8));
+            migrations.add(new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2), script, crc.getValue()));
+        }
+        migrations.sort((first, second) -> Integer.compare(first.getVersion(), second.getVersion()));
+        return migrations;
+    }
+
+    /**
+     * Splits a script into statements at semicolons ending a line, dropping comments and
+     * any statement marked {@code -- postgresql-only} unless {@code postgres} is set.
+     *
+     * @param script   the SQL script
+     * @param postgres whether the target database is PostgreSQL
+     * @return the statements to execute
+     */
+    static List<String> statements(String script, boolean postgres) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean skip = false;
+
+        for (String line : script.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("--")) {
+                if (trimmed.equalsIgnoreCase(POSTGRESQL_ONLY) && current.length() == 0) {
+                    skip = !postgres;
+                }
+                continue;
+            }
+            if (trimmed.isEmpty() && current.length() == 0) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                sql = sql.substring(0, sql.length() - 1).trim();
+                if (!skip && !sql.isEmpty()) {
+                    statements.add(sql);
+                }
+                current.setLength(0);
+                skip = false;
+            }
+        }
+        if (current.length() > 0 && !skip) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    private void apply(Connection connection, Migration migration, boolean postgres) throws SQLException {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements(migration.getScript(), postgres)) {
+                statement.execute(sql);
+            }
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO schema_version (version, description, checksum) VALUES (?, ?, ?)")) {
+                ps.setInt(1, migration.getVersion());
+                ps.setString(2, migration.getDescription());
+                ps.setLong(3, migration.getChecksum());
+                ps.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException sqlException) {
+            connection.rollback();
+            throw new SQLException("Migration V" + migration.getVersion() + " failed: " + sqlException.getMessage(),
+                    sqlException.getSQLState(), sqlException);
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private Map<Integer, Long> appliedVersions(Connection connection) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement("SELECT version, checksum FROM schema_version");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    private String readResource(String path) {
+        ClassLoader classLoader = MigrationRunner.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(path)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Migration resource not found: " + path);
+            }
+            StringBuilder content = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    content.append(line).append('\n');
+                }
+            }
+            return content.toString();
+        } catch (IOException ioException) {
+            throw new IllegalStateException("Cannot read migration resource " + path + ": " + ioException.getMessage());
+        }
+    }
+}
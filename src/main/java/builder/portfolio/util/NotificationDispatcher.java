@@ -0,0 +1,278 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.Notification;
+import builder.portfolio.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared, asynchronous dispatcher for user notifications.
+ *
+ * The {@link OutboxRelay} hands every committed batch of notifications to this dispatcher;
+ * a small pool of worker threads drains the bounded queue in batches and passes them to a
+ * {@link Sink}. The default sink prints each notification to the console and logs it, so
+ * slow delivery channels never hold up the relay or the database transaction.
+ *
+ * When the queue is full the configured {@link OverflowPolicy} decides what happens.
+ * {@link #shutdown(long)} stops accepting new notifications and drains the queue; it is
+ * also registered as a JVM shutdown hook for the shared instance.
+ *
+ * The shared instance is configured by these optional properties in
+ * {@code application.properties}:
+ * notification_queue_capacity (default 1000), notification_workers (default 2),
+ * notification_batch_size (default 50), notification_overflow_policy (default BLOCK),
+ * notification_enqueue_timeout_ms (default 100).
+ *
+ * Example usage:
+ * NotificationDispatcher.getShared().enqueue(notification);
+ */
+@Slf4j
+public class NotificationDispatcher {
+
+    /**
+     * What {@link #enqueue(Notification)} does when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait up to the enqueue timeout for space, then drop the notification. */
+        BLOCK,
+        /** Drop the new notification immediately. */
+        DROP,
+        /** Deliver the notification on the caller's thread. */
+        CALLER_RUNS
+    }
+
+    /**
+     * Receives batches of notifications taken from the queue.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        void deliver(List<Notification> batch) throws Exception;
+    }
+
+    /**
+     * Point-in-time snapshot of the dispatcher counters.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Stats {
+        private final int queued;
+        private final long enqueued;
+        private final long delivered;
+        private final long dropped;
+        private final long failed;
+        private final long batches;
+    }
+
+    private static volatile NotificationDispatcher shared;
+
+    private final BlockingQueue<Notification> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long enqueueTimeoutMillis;
+    private final Sink sink;
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    /**
+     * Creates a dispatcher and starts its worker threads.
+     *
+     * @param capacity             maximum number of queued notifications
+     * @param workerCount          number of worker threads
+     * @param batchSize            maximum notifications handed to the sink at once
+     * @param overflowPolicy       behaviour when the queue is full
+     * @param enqueueTimeoutMillis maximum wait for queue space under {@link OverflowPolicy#BLOCK}
+     * @param sink                 destination of the notification batches
+     */
+    public NotificationDispatcher(int capacity, int workerCount, int batchSize, OverflowPolicy overflowPolicy,
+                                  long enqueueTimeoutMillis, Sink sink) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.sink = sink;
+
+        // a fixed number of permanent drain loops, so the worker count is the limit on concurrent
+        // deliveries to the sink; platform threads suit this, virtual threads would only add a
+        // carrier hop and pin anyway while the console sink holds the PrintStream lock
+        int threads = Math.max(1, workerCount);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < threads; i++) {
+            workers.submit(this::drainLoop);
+        }
+    }
+
+    /**
+     * Returns the shared dispatcher, creating it from the application properties on first use.
+     *
+     * @return the shared {@link NotificationDispatcher}
+     */
+    public static NotificationDispatcher getShared() {
+        NotificationDispatcher dispatcher = shared;
+        if (dispatcher == null) {
+            synchronized (NotificationDispatcher.class) {
+                dispatcher = shared;
+                if (dispatcher == null) {
+                    dispatcher = createShared();
+                    shared = dispatcher;
+                    NotificationDispatcher created = dispatcher;
+                    Runtime.getRuntime().addShutdownHook(
+                            new Thread(() -> created.shutdown(5_000), "notification-shutdown"));
+                }
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Adds a notification to the queue, applying the overflow policy when it is full.
+     *
+     * @param notification the notification to deliver
+     * @return {@code true} if the notification was queued or delivered; {@code false} if it was dropped
+     */
+    public boolean enqueue(Notification notification) {
+        if (!running) {
+            dropped.incrementAndGet();
+            log.warn("Notification dispatcher is shut down, dropping notification");
+            return false;
+        }
+        enqueued.incrementAndGet();
+        if (queue.offer(notification)) {
+            return true;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    if (queue.offer(notification, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                break;
+            case CALLER_RUNS:
+                deliver(List.of(notification));
+                return true;
+            case DROP:
+            default:
+                break;
+        }
+
+        dropped.incrementAndGet();
+        log.warn("Notification queue full, dropping notification for user {}", notification.getRecipient().getUserId());
+        return false;
+    }
+
+    /**
+     * Stops accepting notifications and waits for the queued ones to be delivered.
+     *
+     * @param timeoutMillis maximum time to wait for the queue to drain
+     * @return {@code true} if all workers finished within the timeout
+     */
+    public boolean shutdown(long timeoutMillis) {
+        running = false;
+        workers.shutdown();
+        try {
+            return workers.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the dispatcher counters.
+     *
+     * @return the current {@link Stats}
+     */
+    public Stats getStats() {
+        return new Stats(queue.size(), enqueued.get(), delivered.get(), dropped.get(), failed.get(), batches.get());
+    }
+
+    private void drainLoop() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Notification first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<Notification> batch) {
+        try {
+            sink.deliver(batch);
+            delivered.addAndGet(batch.size());
+            batches.incrementAndGet();
+        } catch (Exception exception) {
+            failed.addAndGet(batch.size());
+            log.error("Failed to deliver {} notifications: {}", batch.size(), exception.getMessage());
+        }
+    }
+
+    private static NotificationDispatcher createShared() {
+        Properties config = ConfigUtil.getProperties();
+        OverflowPolicy policy;
+        try {
+            policy = OverflowPolicy.valueOf(
+                    config == null ? "BLOCK" : config.getProperty("notification_overflow_policy", "BLOCK").trim());
+        } catch (IllegalArgumentException illegalArgumentException) {
+            policy = OverflowPolicy.BLOCK;
+        }
+        return new NotificationDispatcher(
+                ConfigUtil.intProperty(config, "notification_queue_capacity", 1000),
+                ConfigUtil.intProperty(config, "notification_workers", 2),
+                ConfigUtil.intProperty(config, "notification_batch_size", 50),
+                policy,
+                ConfigUtil.longProperty(config, "notification_enqueue_timeout_ms", 100),
+                NotificationDispatcher::printAndLog);
+    }
+
+    /**
+     * Default sink: prints each notification to the console and logs it.
+     *
+     * @param batch the notifications to deliver
+     */
+    private static void printAndLog(List<Notification> batch) {
+        for (Notification notification : batch) {
+            User recipient = notification.getRecipient();
+            System.out.println("NOTIFICATION[" + recipient.getRole() + "]: " + notification.getMessage());
+            log.info("Notification delivered to user {}: {}", recipient.getUserId(), notification.getMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.Notification;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Utility class for writing notifications to the {@code notification_outbox} table.
+ *
+ * Notifications are written on the caller's connection, so they are committed or rolled
+ * back together with the project and task changes they describe. The {@link OutboxRelay}
+ * later moves committed rows into the {@code notification} table and delivers them.
+ *
+ * Required table:
+ * CREATE TABLE notification_outbox (
+ *     outbox_id BIGSERIAL PRIMARY KEY,
+ *     user_id INT NOT NULL,
+ *     role VARCHAR(50),
+ *     message TEXT NOT NULL,
+ *     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+ * );
+ *
+ * Example usage:
+ * NotificationOutbox.write(connection, List.of(
+ *         NotificationOutbox.notification(clientId, UserRole.CLIENT, message)));
+ * connection.commit();
+ */
+public class NotificationOutbox {
+
+    /**
+     * Builds a notification for a user.
+     *
+     * @param userId  the recipient user's ID
+     * @param role    the recipient's role, used as a label when delivering
+     * @param message the notification message
+     * @return the {@link Notification}
+     */
+    public static Notification notification(long userId, UserRole role, String message) {
+        User recipient = new User();
+        recipient.setUserId(userId);
+        recipient.setRole(role);
+        return new Notification(0, message, recipient);
+    }
+
+    /**
+     * Inserts the notifications into the outbox with one JDBC batch on the given connection.
+     * Recipients with an ID of zero or less are skipped.
+     *
+     * @param connection    the connection whose transaction the notifications join
+     * @param notifications the notifications to write
+     * @return the number of notifications written
+     * @throws SQLException if the insert fails
+     */
+    public static int write(Connection connection, List<Notification> notifications) throws SQLException {
+        String sql = "INSERT INTO notification_outbox (user_id, role, message) VALUES (?, ?, ?)";
+        int written = 0;
+
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (Notification notification : notifications) {
+                User recipient = notification.getRecipient();
+                if (recipient == null || recipient.getUserId() <= 0) {
+                    continue;
+                }
+                ps.setLong(1, recipient.getUserId());
+                ps.setString(2, recipient.getRole() == null ? null : recipient.getRole().name());
+                ps.setString(3, notification.getMessage());
+                ps.addBatch();
+                written++;
+            }
+            if (written > 0) {
+                ps.executeBatch();
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,449 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.Notification;
+import builder.portfolio.model.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background relay that drains the {@code notification_outbox} table.
+ *
+ * Each pass claims a batch of outbox rows with {@code FOR UPDATE SKIP LOCKED}, copies them
+ * into the {@code notification} table and deletes them in the same transaction, then hands
+ * the committed batch to a {@link NotificationDispatcher.Sink}. If a pass fails it is rolled
+ * back and the rows stay in the outbox, so they are retried on the next pass. Several relays
+ * (e.g. several application instances) can run at once without delivering a row twice.
+ *
+ * One bad row must not hold up the rows behind it. Rows whose recipient has been deleted are
+ * dropped, and rows with an unknown role are moved to {@code notification_outbox_dead}.
+ * After a failed pass the following passes relay their rows one by one, each behind a
+ * savepoint, and count a failure against the row that caused it, until a pass has no failing
+ * row; a row that failed notification_relay_max_attempts times is moved to
+ * {@code notification_outbox_dead} as well.
+ *
+ * The shared relay forwards batches to the shared {@link NotificationDispatcher}, which prints
+ * and logs them, and is configured by these optional properties in
+ * {@code application.properties}:
+ * notification_relay_batch_size (default 100), notification_relay_interval_ms (default 500),
+ * notification_relay_max_attempts (default 5).
+ *
+ * Example usage:
+ * OutboxRelay.startShared();
+ */
+@Slf4j
+public class OutboxRelay {
+
+    /**
+     * Point-in-time snapshot of the relay counters.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Stats {
+        private final long relayed;
+        private final long skipped;
+        private final long parked;
+        private final long passes;
+        private final long failures;
+    }
+
+    /**
+     * An outbox row claimed by a pass.
+     */
+    private static final class OutboxRow {
+        private final long outboxId;
+        private final long userId;
+        private final String role;
+        private final String message;
+        private final int attempts;
+
+        private OutboxRow(ResultSet rs) throws SQLException {
+            this.outboxId = rs.getLong("outbox_id");
+            this.userId = rs.getLong("user_id");
+            this.role = rs.getString("role");
+            this.message = rs.getString("message");
+            this.attempts = rs.getInt("attempts");
+        }
+
+        /**
+         * @return why the row can never be delivered, or {@code null} if it can
+         */
+        private String undeliverable() {
+            if (role == null) {
+                return null;
+            }
+            try {
+                UserRole.valueOf(role);
+                return null;
+            } catch (IllegalArgumentException unknownRole) {
+                return "Unknown role " + role;
+            }
+        }
+
+        private Notification notification() {
+            return NotificationOutbox.notification(userId, role == null ? null : UserRole.valueOf(role), message);
+        }
+    }
+
+    private static final String CLAIM_SQL = """
+            SELECT outbox_id, user_id, role, message, attempts
+            FROM notification_outbox
+            ORDER BY outbox_id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    /** Inserts nothing if the recipient has been deleted since the row was written. */
+    private static final String INSERT_SQL = """
+            INSERT INTO notification (user_id, message)
+            SELECT ?, ? WHERE EXISTS (SELECT 1 FROM users WHERE user_id = ?)
+            """;
+    private static final String PARK_SQL = """
+            INSERT INTO notification_outbox_dead (outbox_id, user_id, role, message, attempts, reason, created_at)
+            SELECT outbox_id, user_id, role, message, attempts, ?, created_at
+            FROM notification_outbox WHERE outbox_id = ?
+            """;
+    private static final String ATTEMPT_SQL = "UPDATE notification_outbox SET attempts = attempts + 1, last_error = ? WHERE outbox_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM notification_outbox WHERE outbox_id = ?";
+
+    private static volatile OutboxRelay shared;
+
+    private final int batchSize;
+    private final long intervalMillis;
+    private final int maxAttempts;
+    private final NotificationDispatcher.Sink sink;
+    private final Object wakeUp = new Object();
+    private volatile boolean running;
+    private volatile boolean rowByRow;
+    private Thread worker;
+
+    private final AtomicLong relayed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+    private final AtomicLong passes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * Creates a relay. Call {@link #start()} to run it in the background.
+     *
+     * @param batchSize      maximum outbox rows claimed per pass
+     * @param intervalMillis pause between passes once the outbox is empty
+     * @param maxAttempts    failed attempts after which a row is moved to the dead letter table
+     * @param sink           receives every committed batch
+     */
+    public OutboxRelay(int batchSize, long intervalMillis, int maxAttempts, NotificationDispatcher.Sink sink) {
+        this.batchSize = Math.max(1, batchSize);
+        this.intervalMillis = Math.max(1, intervalMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.sink = sink;
+    }
+
+    /**
+     * Starts the shared relay if it is not running yet.
+     *
+     * @return the shared {@link OutboxRelay}
+     */
+    public static OutboxRelay startShared() {
+        OutboxRelay relay = shared;
+        if (relay == null) {
+            synchronized (OutboxRelay.class) {
+                relay = shared;
+                if (relay == null) {
+                    Properties config = ConfigUtil.getProperties();
+                    NotificationDispatcher dispatcher = NotificationDispatcher.getShared();
+                    relay = new OutboxRelay(
+                            ConfigUtil.intProperty(config, "notification_relay_batch_size", 100),
+                            ConfigUtil.longProperty(config, "notification_relay_interval_ms", 500),
+                            ConfigUtil.intProperty(config, "notification_relay_max_attempts", 5),
+                            batch -> batch.forEach(dispatcher::enqueue));
+                    relay.start();
+                    shared = relay;
+                    OutboxRelay created = relay;
+                    Runtime.getRuntime().addShutdownHook(
+                            new Thread(() -> created.shutdown(5_000), "outbox-relay-shutdown"));
+                }
+            }
+        }
+        return relay;
+    }
+
+    /**
+     * Wakes the shared relay, if running, so a freshly committed outbox is drained without
+     * waiting for the next interval.
+     */
+    public static void signal() {
+        OutboxRelay relay = shared;
+        if (relay != null) {
+            relay.wakeUp();
+        }
+    }
+
+    /**
+     * Starts the background thread.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runLoop, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Wakes the background thread so it starts a pass immediately.
+     */
+    public void wakeUp() {
+        synchronized (wakeUp) {
+            wakeUp.notifyAll();
+        }
+    }
+
+    /**
+     * Stops the background thread after its current pass.
+     *
+     * @param timeoutMillis maximum time to wait for the thread to finish
+     * @return {@code true} if the thread finished within the timeout
+     */
+    public boolean shutdown(long timeoutMillis) {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = worker;
+        }
+        if (thread == null) {
+            return true;
+        }
+        wakeUp();
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        return !thread.isAlive();
+    }
+
+    /**
+     * Runs one pass: claims up to one batch of outbox rows, moves them to the notification
+     * table and hands them to the sink once committed. After a failed pass, passes relay their
+     * rows one by one until none of them fails, so a row that keeps failing is found and parked.
+     *
+     * @return the number of notifications relayed, or {@code -1} if the pass failed
+     */
+    public int relayOnce() {
+        passes.incrementAndGet();
+        boolean isolate = rowByRow;
+        List<Notification> batch = new ArrayList<>();
+        int failedRows = 0;
+
+        try (Connection connection = DBUtil.getConnection()) {
+            if (connection == null) {
+                throw new SQLException("No database connection available");
+            }
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement psClaim = connection.prepareStatement(CLAIM_SQL);
+                 PreparedStatement psInsert = connection.prepareStatement(INSERT_SQL);
+                 PreparedStatement psPark = connection.prepareStatement(PARK_SQL);
+                 PreparedStatement psDelete = connection.prepareStatement(DELETE_SQL)) {
+
+                List<OutboxRow> rows = new ArrayList<>();
+                psClaim.setInt(1, batchSize);
+                try (ResultSet rs = psClaim.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(new OutboxRow(rs));
+                    }
+                }
+
+                if (rows.isEmpty()) {
+                    connection.commit();
+                    rowByRow = false;
+                    return 0;
+                }
+                if (isolate) {
+                    failedRows = relayRowByRow(connection, rows, batch, psInsert, psPark, psDelete);
+                } else {
+                    relayBatch(rows, batch, psInsert, psPark, psDelete);
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException exception) {
+                connection.rollback();
+                throw exception;
+            }
+        } catch (SQLException | RuntimeException exception) {
+            failures.incrementAndGet();
+            rowByRow = true;
+            log.error("Outbox relay pass failed, will retry row by row: {}", exception.getMessage());
+            return -1;
+        }
+        rowByRow = failedRows > 0;
+
+        relayed.addAndGet(batch.size());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.deliver(batch);
+        } catch (Exception exception) {
+            log.error("Failed to deliver {} relayed notifications: {}", batch.size(), exception.getMessage());
+        }
+        return batch.size();
+    }
+
+    /**
+     * Returns a snapshot of the relay counters.
+     *
+     * @return the current {@link Stats}
+     */
+    public Stats getStats() {
+        return new Stats(relayed.get(), skipped.get(), parked.get(), passes.get(), failures.get());
+    }
+
+    /**
+     * Relays the claimed rows with one JDBC batch per statement.
+     */
+    private void relayBatch(List<OutboxRow> rows, List<Notification> batch, PreparedStatement psInsert,
+                            PreparedStatement psPark, PreparedStatement psDelete) throws SQLException {
+        List<OutboxRow> sent = new ArrayList<>();
+        int parkedRows = 0;
+        for (OutboxRow row : rows) {
+            String reason = row.undeliverable();
+            if (reason == null) {
+                bindInsert(psInsert, row);
+                psInsert.addBatch();
+                sent.add(row);
+            } else {
+                bindPark(psPark, row, reason);
+                psPark.addBatch();
+                parkedRows++;
+            }
+            psDelete.setLong(1, row.outboxId);
+            psDelete.addBatch();
+        }
+
+        int[] inserted = sent.isEmpty() ? new int[0] : psInsert.executeBatch();
+        if (parkedRows > 0) {
+            psPark.executeBatch();
+            parked.addAndGet(parkedRows);
+        }
+        psDelete.executeBatch();
+
+        for (int i = 0; i < sent.size(); i++) {
+            if (inserted[i] == 0) {
+                recipientMissing(sent.get(i));
+            } else {
+                batch.add(sent.get(i).notification());
+            }
+        }
+    }
+
+    /**
+     * Relays the claimed rows one at a time, each behind a savepoint, so a failing row is
+     * rolled back alone and has the failure counted against it.
+     *
+     * @return the number of rows that failed
+     */
+    private int relayRowByRow(Connection connection, List<OutboxRow> rows, List<Notification> batch,
+                              PreparedStatement psInsert, PreparedStatement psPark, PreparedStatement psDelete)
+            throws SQLException {
+        int failedRows = 0;
+        for (OutboxRow row : rows) {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                String reason = row.undeliverable();
+                if (reason != null) {
+                    park(psPark, row, reason);
+                } else {
+                    bindInsert(psInsert, row);
+                    if (psInsert.executeUpdate() == 0) {
+                        recipientMissing(row);
+                    } else {
+                        batch.add(row.notification());
+                    }
+                }
+                psDelete.setLong(1, row.outboxId);
+                psDelete.executeUpdate();
+            } catch (SQLException exception) {
+                connection.rollback(savepoint);
+                attemptFailed(connection, psPark, psDelete, row, exception);
+                failedRows++;
+            }
+        }
+        return failedRows;
+    }
+
+    /**
+     * Counts a failed attempt against the row and parks it once it reached the maximum.
+     */
+    private void attemptFailed(Connection connection, PreparedStatement psPark, PreparedStatement psDelete,
+                               OutboxRow row, SQLException exception) throws SQLException {
+        int attempts = row.attempts + 1;
+        try (PreparedStatement psAttempt = connection.prepareStatement(ATTEMPT_SQL)) {
+            psAttempt.setString(1, exception.getMessage());
+            psAttempt.setLong(2, row.outboxId);
+            psAttempt.executeUpdate();
+        }
+        if (attempts < maxAttempts) {
+            log.warn("Outbox row {} failed (attempt {} of {}): {}", row.outboxId, attempts, maxAttempts, exception.getMessage());
+            return;
+        }
+        park(psPark, row, "Gave up after " + attempts + " attempts: " + exception.getMessage());
+        psDelete.setLong(1, row.outboxId);
+        psDelete.executeUpdate();
+    }
+
+    private void park(PreparedStatement psPark, OutboxRow row, String reason) throws SQLException {
+        bindPark(psPark, row, reason);
+        psPark.executeUpdate();
+        parked.incrementAndGet();
+        log.error("Moved outbox row {} to notification_outbox_dead: {}", row.outboxId, reason);
+    }
+
+    private void recipientMissing(OutboxRow row) {
+        skipped.incrementAndGet();
+        log.warn("Dropped outbox row {}: user {} no longer exists", row.outboxId, row.userId);
+    }
+
+    private static void bindInsert(PreparedStatement psInsert, OutboxRow row) throws SQLException {
+        psInsert.setLong(1, row.userId);
+        psInsert.setString(2, row.message);
+        psInsert.setLong(3, row.userId);
+    }
+
+    private static void bindPark(PreparedStatement psPark, OutboxRow row, String reason) throws SQLException {
+        psPark.setString(1, reason);
+        psPark.setLong(2, row.outboxId);
+    }
+
+    private void runLoop() {
+        while (running) {
+            int relayedNow = relayOnce();
+            if (relayedNow == batchSize) {
+                continue;
+            }
+            synchronized (wakeUp) {
+                if (!running) {
+                    return;
+                }
+                try {
+                    wakeUp.wait(intervalMillis);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.Page;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Utility class for paging through keyset-paginated listings on the console.
+ *
+ * Pages are fetched one at a time; after each page the user can load the next one or stop.
+ * The page size is read from the optional {@code page_size} property (default 20).
+ *
+ * Example usage:
+ * PagingUtil.showPages(cursor -> adminService.viewAllProjects(user, cursor, PagingUtil.pageSize()),
+ *         projects -> projects.forEach(System.out::println));
+ */
+public class PagingUtil {
+
+    /**
+     * Returns the configured page size for console listings.
+     *
+     * @return the number of items shown per page
+     */
+    public static int pageSize() {
+        return Math.max(1, ConfigUtil.intProperty(ConfigUtil.getProperties(), "page_size", 20));
+    }
+
+    /**
+     * Shows pages until the last page is reached or the user stops.
+     *
+     * @param fetch   loads the page following the given cursor; the first call receives 0
+     * @param printer prints the items of one page
+     * @param <T>     the item type
+     * @return the number of items shown
+     */
+    public static <T> int showPages(LongFunction<Page<T>> fetch, Consumer<List<T>> printer) {
+        int shown = 0;
+        long cursor = 0;
+        while (true) {
+            Page<T> page = fetch.apply(cursor);
+            printer.accept(page.getItems());
+            shown += page.getItems().size();
+
+            if (!page.isHasNext()) {
+                return shown;
+            }
+            String answer = InputUtil.readString("Press Enter for the next page, or q to stop: ");
+            if (answer.equalsIgnoreCase("q")) {
+                return shown;
+            }
+            cursor = page.getNextCursor();
+        }
+    }
+
+    /**
+     * Builds a keyset page from up to {@code pageSize + 1} items ordered by ID; the extra item
+     * only tells that another page follows and is not returned.
+     *
+     * @param items    the fetched items, at most one more than the page size
+     * @param afterId  the cursor the items were fetched after
+     * @param pageSize maximum number of items on the page
+     * @param idOf     extracts the ordering ID of an item
+     * @param <T>      the item type
+     * @return the {@link Page}
+     */
+    public static <T> Page<T> toPage(List<T> items, long afterId, int pageSize, ToLongFunction<T> idOf) {
+        boolean hasNext = items.size() > pageSize;
+        List<T> pageItems = hasNext ? items.subList(0, pageSize) : items;
+        long nextCursor = pageItems.isEmpty() ? afterId : idOf.applyAsLong(pageItems.get(pageItems.size() - 1));
+        return new Page<>(List.copyOf(pageItems), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,132 @@
+package builder.portfolio.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Salted PBKDF2 password hashing.
+ *
+ * Hashes are stored as {@code pbkdf2-sha256$<iterations>$<salt>$<hash>} with a random 16-byte
+ * salt per password and Base64 salt and hash, so every hash carries its own cost. Hashes
+ * made with fewer iterations than configured, and passwords still stored in plain text from
+ * before hashing, verify as before but report {@link #needsRehash(String)} so they can be
+ * upgraded on the next successful login. Comparisons take constant time.
+ *
+ * The cost is set by the optional {@code password_hash_iterations} property (default 600000).
+ *
+ * Example usage:
+ * PasswordHasher hasher = PasswordHasher.fromConfig();
+ * String stored = hasher.hash("secret123");
+ * boolean valid = hasher.verify("secret123", stored);
+ */
+@Slf4j
+public class PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Getter
+    private final int iterations;
+
+    /**
+     * @param iterations the PBKDF2 iteration count of new hashes
+     */
+    public PasswordHasher(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be positive");
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * Creates a hasher with {@code password_hash_iterations} from the application properties.
+     *
+     * @return the new {@link PasswordHasher}
+     */
+    public static PasswordHasher fromConfig() {
+        return new PasswordHasher(ConfigUtil.intProperty(ConfigUtil.getProperties(), "password_hash_iterations", 600_000));
+    }
+
+    /**
+     * Hashes a password with a new random salt.
+     *
+     * @param password the password
+     * @return the encoded hash
+     */
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        Base64.Encoder base64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + "$" + iterations + "$" + base64.encodeToString(salt) + "$"
+                + base64.encodeToString(derive(password, salt, iterations));
+    }
+
+    /**
+     * Checks a password against a stored hash, or against a password stored in plain text.
+     *
+     * @param password the password to check
+     * @param stored   the stored hash or legacy plain text password
+     * @return {@code true} if the password matches
+     */
+    public boolean verify(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+        if (!isHash(stored)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String[] parts = stored.split("\\$");
+        try {
+            int storedIterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            return MessageDigest.isEqual(derive(password, salt, storedIterations), expected);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException malformed) {
+            log.error("Malformed password hash");
+            return false;
+        }
+    }
+
+    /**
+     * @param stored the stored hash or legacy plain text password
+     * @return {@code true} if the value is plain text or hashed with fewer iterations than configured
+     */
+    public boolean needsRehash(String stored) {
+        if (stored == null || !isHash(stored)) {
+            return true;
+        }
+        String[] parts = stored.split("\\$");
+        try {
+            return Integer.parseInt(parts[1]) < iterations;
+        } catch (NumberFormatException numberFormatException) {
+            return true;
+        }
+    }
+
+    private static boolean isHash(String stored) {
+        return stored.startsWith(PREFIX + "$") && stored.split("\\$").length == 4;
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException generalSecurityException) {
+            throw new IllegalStateException(ALGORITHM + " is not available", generalSecurityException);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
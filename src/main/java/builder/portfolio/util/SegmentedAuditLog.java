@@ -0,0 +1,574 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.AuditTrail;
+import builder.portfolio.model.Page;
+import builder.portfolio.model.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Audit trail split into segment files that are rotated, compressed and expired.
+ *
+ * Lines are appended to the active segment ({@code audit-<sequence>.log}) by the
+ * {@link AuditAppender} writer thread. A segment is closed when it would exceed the maximum
+ * size or has been open longer than the maximum age; closed segments are gzipped
+ * ({@code audit-<sequence>.log.gz}) and removed by the retention policy on a background
+ * thread, so appends never wait for either.
+ *
+ * Every segment starts with a fixed-size text header holding the time of its first and last
+ * write and its number of entries. Time-range reads skip segments by their header, and paged
+ * reads skip whole segments by their entry count. Uncompressed segments are read through an
+ * {@link AuditTrailReader}; compressed segments are decompressed while reading.
+ *
+ * The shared instance is configured by these optional properties in
+ * {@code application.properties}: audit_segment_dir (no segmented log if empty; a leading
+ * {@code ~} stands for the user's home directory),
+ * audit_segment_max_bytes (default 67108864), audit_segment_max_age_ms (default 86400000),
+ * audit_segment_compress (default true), audit_segment_retain_count (default 0, keep all),
+ * audit_retention_ms (default 0, keep forever). When the directory holds no segments yet,
+ * the existing audit trail file is imported as the first segment.
+ *
+ * Example usage:
+ * List<AuditTrail> today = SegmentedAuditLog.getShared().readBetween(startOfDay, now);
+ */
+@Slf4j
+public class SegmentedAuditLog implements AuditAppender.Target {
+
+    /**
+     * One segment file as described by its header.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Segment {
+        private final Path path;
+        private final long sequence;
+        private final long minTimestamp;
+        private final long maxTimestamp;
+        private final long entries;
+        private final boolean compressed;
+        private final boolean active;
+
+        /**
+         * @return {@code true} if the segment was written to between the given times
+         */
+        public boolean overlaps(long fromMillis, long toMillis) {
+            return entries > 0 && minTimestamp <= toMillis && maxTimestamp >= fromMillis;
+        }
+    }
+
+    /** Bytes of the segment header line, including its line feed. */
+    static final int HEADER_LENGTH = 80;
+    private static final Pattern HEADER = Pattern.compile("#audit-segment v1 min=(\\d+) max=(\\d+) entries=(\\d+)\\s*");
+    private static final Pattern SEGMENT_NAME = Pattern.compile("audit-(\\d{8})\\.log(\\.gz)?");
+
+    private static volatile SegmentedAuditLog shared;
+    private static volatile boolean sharedCreated;
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final long maxSegmentAgeMillis;
+    private final boolean compressClosed;
+    private final int retainSegments;
+    private final long retentionMillis;
+    private final ExecutorService maintenance;
+    private final Map<Path, AuditTrailReader> readers = new ConcurrentHashMap<>();
+
+    private long nextSequence;
+    private FileChannel channel;
+    private long activeSize;
+    private long activeCreated;
+    private volatile Path activePath;
+    private volatile long activeMin;
+    private volatile long activeMax;
+    private volatile long activeEntries;
+
+    /**
+     * Opens the segmented log in the given directory, creating the directory if needed.
+     * The newest uncompressed segment, which may have been left behind with a stale header
+     * after a crash, and segments without entries in their header are recounted.
+     *
+     * @param directory           the directory holding the segments
+     * @param maxSegmentBytes     size after which the active segment is closed
+     * @param maxSegmentAgeMillis time after which the active segment is closed
+     * @param compressClosed      whether closed segments are gzipped
+     * @param retainSegments      closed segments kept; 0 keeps all
+     * @param retentionMillis     age after which closed segments are deleted; 0 keeps them forever
+     */
+    public SegmentedAuditLog(Path directory, long maxSegmentBytes, long maxSegmentAgeMillis, boolean compressClosed,
+                             int retainSegments, long retentionMillis) throws IOException {
+        this.directory = directory;
+        this.maxSegmentBytes = Math.max(HEADER_LENGTH + 1, maxSegmentBytes);
+        this.maxSegmentAgeMillis = Math.max(1, maxSegmentAgeMillis);
+        this.compressClosed = compressClosed;
+        this.retainSegments = Math.max(0, retainSegments);
+        this.retentionMillis = Math.max(0, retentionMillis);
+        this.maintenance = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Files.createDirectories(directory);
+        List<Segment> segments = segments();
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            if (!segment.isCompressed() && (segment.getEntries() == 0 || i == segments.size() - 1)
+                    && Files.size(segment.getPath()) > HEADER_LENGTH) {
+                recount(segment.getPath(), segment.getMinTimestamp());
+            }
+        }
+        nextSequence = segments.isEmpty() ? 1 : segments.get(segments.size() - 1).getSequence() + 1;
+        scheduleMaintenance();
+    }
+
+    /**
+     * Returns the shared segmented log, creating it from the application properties on first use.
+     *
+     * @return the shared {@link SegmentedAuditLog}, or {@code null} if {@code audit_segment_dir}
+     *         is not set or the directory cannot be opened
+     */
+    public static SegmentedAuditLog getShared() {
+        if (!sharedCreated) {
+            synchronized (SegmentedAuditLog.class) {
+                if (!sharedCreated) {
+                    shared = createShared();
+                    sharedCreated = true;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * @return the directory holding the segments
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Imports an existing single-file audit trail as the first segment, unless the log
+     * already has segments.
+     *
+     * @param file the audit trail file to import
+     * @return {@code true} if the file was imported
+     */
+    public synchronized boolean importFile(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) == 0 || !segments().isEmpty()) {
+            return false;
+        }
+        Path segment = segmentPath(nextSequence++, false);
+        try (FileChannel target = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            target.write(header(0, 0, 0), 0);
+            long copied = 0;
+            while (copied < source.size()) {
+                copied += source.transferTo(copied, source.size() - copied, target.position(HEADER_LENGTH + copied));
+            }
+        }
+        recount(segment, 0);
+        log.info("Imported audit trail {} as segment {}", file, segment.getFileName());
+        scheduleMaintenance();
+        return true;
+    }
+
+    @Override
+    public void write(ByteBuffer lines, int count) throws IOException {
+        long now = System.currentTimeMillis();
+        if (channel != null && activeEntries > 0
+                && (activeSize + lines.remaining() > maxSegmentBytes || now - activeCreated >= maxSegmentAgeMillis)) {
+            closeActive();
+            scheduleMaintenance();
+        }
+        if (channel == null) {
+            openActive(now);
+        }
+        while (lines.hasRemaining()) {
+            activeSize += channel.write(lines);
+        }
+        if (activeEntries == 0) {
+            activeMin = now;
+        }
+        activeMax = now;
+        activeEntries += count;
+    }
+
+    @Override
+    public void sync() throws IOException {
+        if (channel != null) {
+            channel.write(header(activeMin, activeMax, activeEntries), 0);
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            closeActive();
+            scheduleMaintenance();
+        }
+    }
+
+    /**
+     * Lists the segments, oldest first. The active segment reports its current state.
+     *
+     * @return the {@link Segment}s; an empty list if the directory cannot be read
+     */
+    public List<Segment> segments() {
+        List<Segment> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.sorted().collect(Collectors.toList())) {
+                Matcher name = SEGMENT_NAME.matcher(path.getFileName().toString());
+                if (!name.matches()) {
+                    continue;
+                }
+                long sequence = Long.parseLong(name.group(1));
+                boolean compressed = name.group(2) != null;
+                if (path.equals(activePath)) {
+                    segments.add(new Segment(path, sequence, activeMin, activeMax, activeEntries, false, true));
+                    continue;
+                }
+                long[] header = readHeader(path, compressed);
+                if (header != null) {
+                    segments.add(new Segment(path, sequence, header[0], header[1], header[2], compressed, false));
+                }
+            }
+        } catch (IOException ioException) {
+            log.error(ioException.getMessage());
+        }
+        segments.sort(Comparator.comparingLong(Segment::getSequence));
+        return segments;
+    }
+
+    /**
+     * Returns the number of entries in all segments.
+     *
+     * @return the number of entries
+     */
+    public long count() {
+        return segments().stream().mapToLong(this::count).sum();
+    }
+
+    /**
+     * Returns one page of entries, oldest first, skipping whole segments before the cursor.
+     *
+     * @param afterEntry the number of entries before the page, 0 for the first page
+     * @param pageSize   maximum number of entries on the page
+     * @return the {@link Page}; its cursor is the number of entries up to its last entry
+     */
+    public Page<AuditTrail> readPage(long afterEntry, int pageSize) {
+        List<AuditTrail> auditTrails = new ArrayList<>();
+        long before = 0;
+        boolean hasNext = false;
+        for (Segment segment : segments()) {
+            long entries = count(segment);
+            if (auditTrails.size() == pageSize) {
+                hasNext = entries > 0;
+                if (hasNext) {
+                    break;
+                }
+                continue;
+            }
+            if (before + entries > afterEntry) {
+                long skip = Math.max(0, afterEntry - before);
+                List<AuditTrail> read = read(segment, skip, pageSize - auditTrails.size());
+                auditTrails.addAll(read);
+                hasNext = skip + read.size() < entries;
+                if (hasNext) {
+                    break;
+                }
+            }
+            before += entries;
+        }
+        return new Page<>(auditTrails, Math.max(0, afterEntry) + auditTrails.size(), hasNext);
+    }
+
+    /**
+     * Returns the last entries, reading only the newest segments.
+     *
+     * @param limit maximum number of entries
+     * @return up to {@code limit} entries, oldest first
+     */
+    public List<AuditTrail> tail(int limit) {
+        List<Segment> segments = segments();
+        List<List<AuditTrail>> parts = new ArrayList<>();
+        int remaining = limit;
+        for (int i = segments.size() - 1; i >= 0 && remaining > 0; i--) {
+            long entries = count(segments.get(i));
+            int take = (int) Math.min(remaining, entries);
+            parts.add(0, read(segments.get(i), entries - take, take));
+            remaining -= take;
+        }
+        return parts.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    /**
+     * Finds entries by user, role and action. Criteria left {@code null} match every entry.
+     *
+     * @param userId the ID of the user who performed the action, or {@code null}
+     * @param role   the role of that user, or {@code null}
+     * @param action the exact action, or {@code null}
+     * @param limit  maximum number of entries returned
+     * @return the first matching entries, oldest first
+     */
+    public List<AuditTrail> find(Long userId, UserRole role, String action, int limit) {
+        List<AuditTrail> auditTrails = new ArrayList<>();
+        Predicate<AuditTrail> matches = auditTrail -> (userId == null || auditTrail.getPerformedBy().getUserId() == userId)
+                && (role == null || auditTrail.getPerformedBy().getRole() == role)
+                && (action == null || action.equals(auditTrail.getAction()));
+        for (Segment segment : segments()) {
+            if (auditTrails.size() >= limit) {
+                break;
+            }
+            int remaining = limit - auditTrails.size();
+            if (segment.isCompressed()) {
+                auditTrails.addAll(readCompressed(segment.getPath(), 0, remaining, matches));
+            } else {
+                auditTrails.addAll(readerFor(segment.getPath()).find(userId, role, action, remaining));
+            }
+        }
+        return auditTrails;
+    }
+
+    /**
+     * Returns the entries of all segments written to between the given times. Segments
+     * outside the range are skipped without being read.
+     *
+     * @param fromMillis start of the range, epoch milliseconds
+     * @param toMillis   end of the range, epoch milliseconds
+     * @return the entries of the overlapping segments, oldest first
+     */
+    public List<AuditTrail> readBetween(long fromMillis, long toMillis) {
+        List<AuditTrail> auditTrails = new ArrayList<>();
+        for (Segment segment : segments()) {
+            if (segment.overlaps(fromMillis, toMillis)) {
+                auditTrails.addAll(read(segment, 0, Integer.MAX_VALUE));
+            }
+        }
+        return auditTrails;
+    }
+
+    /**
+     * Stops the background maintenance. The active segment is closed by the appender writing to it.
+     */
+    public void shutdown() {
+        maintenance.shutdown();
+    }
+
+    /**
+     * Compresses closed segments and applies the retention policy, on the calling thread.
+     */
+    synchronized void maintain() {
+        List<Segment> closed = segments().stream().filter(segment -> !segment.isActive()).collect(Collectors.toList());
+        long now = System.currentTimeMillis();
+        int excess = retainSegments == 0 ? 0 : Math.max(0, closed.size() - retainSegments);
+        for (int i = 0; i < closed.size(); i++) {
+            Segment segment = closed.get(i);
+            try {
+                if (i < excess || (retentionMillis > 0 && segment.getMaxTimestamp() < now - retentionMillis)) {
+                    delete(segment.getPath());
+                    log.info("Deleted expired audit segment {}", segment.getPath().getFileName());
+                } else if (compressClosed && !segment.isCompressed()) {
+                    compress(segment);
+                }
+            } catch (IOException ioException) {
+                log.error("Audit segment maintenance failed for {}: {}", segment.getPath(), ioException.getMessage());
+            }
+        }
+    }
+
+    private long count(Segment segment) {
+        return segment.isCompressed() ? segment.getEntries() : readerFor(segment.getPath()).count();
+    }
+
+    private List<AuditTrail> read(Segment segment, long skip, int limit) {
+        if (segment.isCompressed()) {
+            return readCompressed(segment.getPath(), skip, limit, auditTrail -> true);
+        }
+        return readerFor(segment.getPath()).readPage(skip, limit).getItems();
+    }
+
+    private AuditTrailReader readerFor(Path path) {
+        return readers.computeIfAbsent(path, key -> new AuditTrailReader(key, HEADER_LENGTH));
+    }
+
+    private List<AuditTrail> readCompressed(Path path, long skip, int limit, Predicate<AuditTrail> filter) {
+        List<AuditTrail> auditTrails = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            reader.readLine();
+            long seen = 0;
+            String line;
+            while (auditTrails.size() < limit && (line = reader.readLine()) != null) {
+                AuditTrail auditTrail = parse(line);
+                if (auditTrail != null && seen++ >= skip && filter.test(auditTrail)) {
+                    auditTrails.add(auditTrail);
+                }
+            }
+        } catch (IOException ioException) {
+            log.error(ioException.getMessage());
+        }
+        return auditTrails;
+    }
+
+    private void openActive(long now) throws IOException {
+        Path path = segmentPath(nextSequence++, false);
+        activeMin = 0;
+        activeMax = 0;
+        activeEntries = 0;
+        activePath = path;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        channel.write(header(0, 0, 0));
+        activeSize = HEADER_LENGTH;
+        activeCreated = now;
+    }
+
+    private void closeActive() throws IOException {
+        FileChannel closing = channel;
+        channel = null;
+        try {
+            closing.write(header(activeMin, activeMax, activeEntries), 0);
+            closing.force(false);
+        } finally {
+            closing.close();
+            activePath = null;
+        }
+    }
+
+    private void scheduleMaintenance() {
+        if (!maintenance.isShutdown()) {
+            maintenance.submit(this::maintain);
+        }
+    }
+
+    private void compress(Segment segment) throws IOException {
+        Path source = segment.getPath();
+        Path target = segmentPath(segment.getSequence(), true);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(temporary))) {
+            in.transferTo(out);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        delete(source);
+    }
+
+    private void delete(Path path) throws IOException {
+        readers.remove(path);
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(path.resolveSibling(path.getFileName() + ".idx"));
+    }
+
+    /**
+     * Rewrites the header of an uncompressed segment from its contents. The file's modification
+     * time becomes the last write time, and the first write time if none is known.
+     */
+    private void recount(Path path, long minTimestamp) throws IOException {
+        long entries = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (parse(line) != null) {
+                    entries++;
+                }
+            }
+        }
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        try (FileChannel segment = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            segment.write(header(minTimestamp > 0 ? minTimestamp : modified, modified, entries), 0);
+        }
+    }
+
+    private Path segmentPath(long sequence, boolean compressed) {
+        return directory.resolve(String.format("audit-%08d.log%s", sequence, compressed ? ".gz" : ""));
+    }
+
+    private static long[] readHeader(Path path, boolean compressed) throws IOException {
+        byte[] bytes;
+        try (InputStream in = compressed ? new GZIPInputStream(Files.newInputStream(path)) : Files.newInputStream(path)) {
+            bytes = in.readNBytes(HEADER_LENGTH - 1);
+        }
+        Matcher header = HEADER.matcher(new String(bytes, StandardCharsets.UTF_8));
+        if (!header.matches()) {
+            log.warn("Audit segment {} has no valid header", path.getFileName());
+            return null;
+        }
+        return new long[]{Long.parseLong(header.group(1)), Long.parseLong(header.group(2)), Long.parseLong(header.group(3))};
+    }
+
+    private static ByteBuffer header(long minTimestamp, long maxTimestamp, long entries) {
+        String header = String.format("#audit-segment v1 min=%013d max=%013d entries=%010d",
+                minTimestamp, maxTimestamp, entries);
+        String padded = String.format("%-" + (HEADER_LENGTH - 1) + "s\n", header);
+        return ByteBuffer.wrap(padded.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static AuditTrail parse(String line) {
+        try {
+            return AuditTrail.fromString(line);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            return null;
+        }
+    }
+
+    private static SegmentedAuditLog createShared() {
+        Properties config = ConfigUtil.getProperties();
+        String directory = config == null ? "" : config.getProperty("audit_segment_dir", "").trim();
+        if (directory.isEmpty()) {
+            return null;
+        }
+        try {
+            SegmentedAuditLog segmentedLog = new SegmentedAuditLog(
+                    resolveDirectory(directory),
+                    ConfigUtil.longProperty(config, "audit_segment_max_bytes", 64L * 1024 * 1024),
+                    ConfigUtil.longProperty(config, "audit_segment_max_age_ms", 86_400_000),
+                    Boolean.parseBoolean(config.getProperty("audit_segment_compress", "true").trim()),
+                    ConfigUtil.intProperty(config, "audit_segment_retain_count", 0),
+                    ConfigUtil.longProperty(config, "audit_retention_ms", 0));
+            segmentedLog.importFile(Paths.get(FileWriterUtil.FILE_PATH));
+            return segmentedLog;
+        } catch (IOException ioException) {
+            log.error("Unable to open audit segments in {}: {}", directory, ioException.getMessage());
+            return null;
+        }
+    }
+
+    static Path resolveDirectory(String directory) {
+        if (directory.equals("~") || directory.startsWith("~/")) {
+            return Paths.get(System.getProperty("user.home"), directory.substring(1).replaceFirst("^/", ""));
+        }
+        return Paths.get(directory);
+    }
+}
@@ -1,16 +1,20 @@
 package builder.portfolio.util;
 
 import builder.portfolio.model.Project;
+import builder.portfolio.model.Session;
 import builder.portfolio.model.User;
-import lombok.Getter;
-import lombok.Setter;
+
+import java.util.function.Supplier;
 
 /**
  * Manages the current session state for the application.
  *
- * This class holds the currently logged-in {@link User} and the {@link Project}
- * that the user is currently working on. It provides static methods to access
- * and modify the session state, as well as clear it when the user logs out.
+ * The current {@link Session} holds the logged-in {@link User} and the {@link Project}
+ * that the user is currently working on. It is confined to the calling thread: a request
+ * handler binds the caller's session with {@link #runWith(Session, Runnable)} for the
+ * duration of the request, so concurrent requests of different users never see each
+ * other's state. A thread that has not bound a session gets its own private session,
+ * which is what the console application uses.
  *
  * Example usage:
  * User user = SessionManager.getCurrentUser();
@@ -19,13 +23,77 @@ import lombok.Setter;
  */
 public class SessionManager {
 
-    /** The currently logged-in user. */
-    @Getter @Setter
-    private static User currentUser;
+    /** The session bound to each thread. */
+    private static final ThreadLocal<Session> CURRENT =
+            ThreadLocal.withInitial(() -> new Session(null, System.currentTimeMillis()));
+
+    /**
+     * @return the session of the calling thread
+     */
+    public static Session getCurrentSession() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the currently logged-in user, or {@code null}
+     */
+    public static User getCurrentUser() {
+        return CURRENT.get().getCurrentUser();
+    }
+
+    /**
+     * @param currentUser the logged-in user, or {@code null} to log out
+     */
+    public static void setCurrentUser(User currentUser) {
+        CURRENT.get().setCurrentUser(currentUser);
+    }
+
+    /**
+     * @return the project currently being accessed or edited by the user, or {@code null}
+     */
+    public static Project getCurrentProject() {
+        return CURRENT.get().getCurrentProject();
+    }
+
+    /**
+     * @param currentProject the project currently being accessed or edited by the user
+     */
+    public static void setCurrentProject(Project currentProject) {
+        CURRENT.get().setCurrentProject(currentProject);
+    }
 
-    /** The project currently being accessed or edited by the user. */
-    @Getter @Setter
-    private static Project currentProject;
+    /**
+     * Runs a task with a session bound to the calling thread, restoring the previous
+     * session afterwards.
+     *
+     * @param session the session to bind
+     * @param task    the task
+     */
+    public static void runWith(Session session, Runnable task) {
+        callWith(session, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Computes a result with a session bound to the calling thread, restoring the previous
+     * session afterwards.
+     *
+     * @param session the session to bind
+     * @param task    the computation
+     * @param <T>     the result type
+     * @return the result of {@code task}
+     */
+    public static <T> T callWith(Session session, Supplier<T> task) {
+        Session previous = CURRENT.get();
+        CURRENT.set(session);
+        try {
+            return task.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
 
     /**
      * Clears the current session by setting both the logged-in user and
@@ -34,7 +102,8 @@ public class SessionManager {
      * This method should be called when the user logs out to reset the session state.
      */
     public static void clearSession() {
-        currentUser = null;
-        currentProject = null;
+        Session session = CURRENT.get();
+        session.setCurrentUser(null);
+        session.setCurrentProject(null);
     }
 }
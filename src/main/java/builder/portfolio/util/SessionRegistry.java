@@ -0,0 +1,171 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.Session;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe registry of the open {@link Session}s, keyed by session ID.
+ *
+ * Session IDs are 128-bit random values. A session that has not been accessed for
+ * {@code idleTimeoutMillis} is expired: lookups no longer return it and
+ * {@link #expireIdle()} removes it. The shared registry runs {@link #expireIdle()}
+ * periodically on a daemon thread.
+ *
+ * The shared instance is configured by these optional properties in
+ * {@code application.properties}:
+ * session_idle_timeout_ms (default 1800000), session_sweep_interval_ms (default 60000).
+ *
+ * Example usage:
+ * Session session = SessionRegistry.getShared().create();
+ * SessionManager.runWith(SessionRegistry.getShared().get(sessionId), () -> controller.handle());
+ */
+@Slf4j
+public class SessionRegistry {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static volatile SessionRegistry shared;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final long idleTimeoutMillis;
+    private final LongSupplier clock;
+
+    /**
+     * @param idleTimeoutMillis how long an unused session stays open; zero or less never expires
+     */
+    public SessionRegistry(long idleTimeoutMillis) {
+        this(idleTimeoutMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * @param idleTimeoutMillis how long an unused session stays open; zero or less never expires
+     * @param clock             source of the current time in milliseconds
+     */
+    public SessionRegistry(long idleTimeoutMillis, LongSupplier clock) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the shared registry, creating it from the application properties on first use.
+     *
+     * @return the shared {@link SessionRegistry}
+     */
+    public static SessionRegistry getShared() {
+        SessionRegistry registry = shared;
+        if (registry == null) {
+            synchronized (SessionRegistry.class) {
+                registry = shared;
+                if (registry == null) {
+                    Properties config = ConfigUtil.getProperties();
+                    registry = new SessionRegistry(
+                            ConfigUtil.longProperty(config, "session_idle_timeout_ms", 1_800_000));
+                    registry.startSweeper(ConfigUtil.longProperty(config, "session_sweep_interval_ms", 60_000));
+                    shared = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Opens a new, empty session.
+     *
+     * @return the new {@link Session}
+     */
+    public Session create() {
+        byte[] id = new byte[16];
+        RANDOM.nextBytes(id);
+        Session session = new Session(ID_ENCODER.encodeToString(id), clock.getAsLong());
+        sessions.put(session.getSessionId(), session);
+        return session;
+    }
+
+    /**
+     * Looks up an open session and records the access.
+     *
+     * @param sessionId the session ID
+     * @return the {@link Session}, or {@code null} if it does not exist or has expired
+     */
+    public Session get(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        if (isExpired(session, now)) {
+            sessions.remove(sessionId, session);
+            return null;
+        }
+        session.touch(now);
+        return session;
+    }
+
+    /**
+     * Closes a session.
+     *
+     * @param sessionId the session ID
+     * @return {@code true} if the session was open
+     */
+    public boolean invalidate(String sessionId) {
+        return sessionId != null && sessions.remove(sessionId) != null;
+    }
+
+    /**
+     * Removes every session that has been idle for longer than the idle timeout.
+     *
+     * @return the number of removed sessions
+     */
+    public int expireIdle() {
+        long now = clock.getAsLong();
+        int expired = 0;
+        for (Session session : sessions.values()) {
+            if (isExpired(session, now) && sessions.remove(session.getSessionId(), session)) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @return the number of sessions held, including expired ones not yet removed
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    private boolean isExpired(Session session, long now) {
+        return idleTimeoutMillis > 0 && now - session.getLastAccessedAt() > idleTimeoutMillis;
+    }
+
+    private void startSweeper(long intervalMillis) {
+        if (idleTimeoutMillis <= 0 || intervalMillis <= 0) {
+            return;
+        }
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(() -> {
+            int expired = expireIdle();
+            if (expired > 0) {
+                log.debug("Expired {} idle sessions", expired);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+}
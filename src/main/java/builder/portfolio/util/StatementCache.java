@@ -0,0 +1,289 @@
+package builder.portfolio.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of {@link PreparedStatement}s for a single physical connection.
+ *
+ * Statements are keyed by their SQL text. A cached statement is handed out wrapped in a
+ * proxy whose {@code close()} clears its parameters and puts it back into the cache instead
+ * of closing it, so repeated calls to the same repository method skip the parse/plan step.
+ * Fetch size, max rows, query timeout, max field size and fetch direction changed by a
+ * borrower are restored to the statement's defaults on release; a statement whose other
+ * settings were changed is closed instead of cached, so no borrower sees another's settings.
+ * {@code getConnection()} on a handed-out statement returns the borrowed connection, never the
+ * physical one, so closing it returns the connection to the pool.
+ * With the PostgreSQL driver this also lets a statement reach the driver's
+ * {@code prepareThreshold} and switch to a named server-side statement.
+ *
+ * The cache is only used by the thread that currently holds the connection, but the hit,
+ * miss and eviction counters are shared by all connections of a pool.
+ */
+@Slf4j
+final class StatementCache {
+
+    /** Setters whose values are restored from {@link StatementDefaults} on release. */
+    private static final Set<String> RESTORED_SETTINGS = Set.of(
+            "setFetchSize", "setMaxRows", "setLargeMaxRows", "setQueryTimeout", "setMaxFieldSize", "setFetchDirection");
+
+    /** Setters whose effect cannot be undone; a statement they were called on is not reused. */
+    private static final Set<String> UNRESTORABLE_SETTINGS = Set.of(
+            "setCursorName", "setEscapeProcessing", "setPoolable", "closeOnCompletion");
+
+    private final Connection physical;
+    private final int maxSize;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong evictions;
+
+    private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * @param physical  the connection statements are prepared on
+     * @param maxSize   the maximum number of statements kept open
+     * @param hits      shared counter of cache hits
+     * @param misses    shared counter of cache misses
+     * @param evictions shared counter of statements closed because the cache was full
+     */
+    StatementCache(Connection physical, int maxSize, AtomicLong hits, AtomicLong misses, AtomicLong evictions) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * Returns a prepared statement for the SQL text, reusing a cached one when it is free.
+     *
+     * @param sql   the SQL text
+     * @param owner the borrowed connection the statement is prepared on
+     * @return a {@link PreparedStatement} whose {@code close()} returns it to the cache
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepare(String sql, Connection owner) throws SQLException {
+        CachedStatement cached = statements.get(sql);
+        if (cached != null && !cached.inUse && !cached.statement.isClosed()) {
+            hits.incrementAndGet();
+            cached.inUse = true;
+            return wrap(cached, owner);
+        }
+
+        misses.incrementAndGet();
+        PreparedStatement statement = physical.prepareStatement(sql);
+        if (cached != null) {
+            // The cached copy is busy (same SQL prepared twice in one borrow), so hand out
+            // a plain statement and keep the cached one.
+            return (PreparedStatement) ownedBy(statement, PreparedStatement.class, owner);
+        }
+
+        CachedStatement entry = new CachedStatement(statement);
+        entry.inUse = true;
+        statements.put(sql, entry);
+        evictOverflow();
+        return wrap(entry, owner);
+    }
+
+    /**
+     * Wraps a statement that is not cached so that {@code getConnection()} returns the
+     * borrowed connection instead of the physical one.
+     *
+     * @param statement the statement created on the physical connection
+     * @param type      the statement interface to expose
+     * @param owner     the borrowed connection
+     * @return the wrapped statement
+     */
+    static Object ownedBy(Statement statement, Class<?> type, Connection owner) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException invocationException) {
+                throw invocationException.getCause();
+            }
+        });
+    }
+
+    /**
+     * Closes every cached statement. Called when the physical connection is closed.
+     */
+    void closeAll() {
+        for (CachedStatement cached : statements.values()) {
+            closeQuietly(cached.statement);
+        }
+        statements.clear();
+    }
+
+    /**
+     * Number of statements currently cached.
+     *
+     * @return the cache size
+     */
+    int size() {
+        return statements.size();
+    }
+
+    private void evictOverflow() {
+        if (statements.size() <= maxSize) {
+            return;
+        }
+        List<PreparedStatement> toClose = new ArrayList<>();
+        Iterator<CachedStatement> iterator = statements.values().iterator();
+        while (statements.size() > maxSize && iterator.hasNext()) {
+            CachedStatement eldest = iterator.next();
+            if (eldest.inUse) {
+                // Still open in the caller; it is closed for real when released.
+                eldest.evicted = true;
+            } else {
+                toClose.add(eldest.statement);
+            }
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+        toClose.forEach(this::closeQuietly);
+    }
+
+    private PreparedStatement wrap(CachedStatement cached, Connection owner) {
+        boolean[] released = {false};
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            if (!released[0]) {
+                                released[0] = true;
+                                release(cached);
+                            }
+                            return null;
+                        case "isClosed":
+                            return released[0] || cached.statement.isClosed();
+                        case "getConnection":
+                            return owner;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (released[0]) {
+                        throw new SQLException("Statement has already been closed");
+                    }
+                    if (RESTORED_SETTINGS.contains(method.getName()) && cached.defaults == null) {
+                        cached.defaults = StatementDefaults.of(cached.statement);
+                    } else if (UNRESTORABLE_SETTINGS.contains(method.getName())) {
+                        cached.reusable = false;
+                    }
+                    try {
+                        return method.invoke(cached.statement, args);
+                    } catch (InvocationTargetException invocationException) {
+                        throw invocationException.getCause();
+                    }
+                });
+    }
+
+    private void release(CachedStatement cached) {
+        cached.inUse = false;
+        if (cached.evicted) {
+            closeQuietly(cached.statement);
+            return;
+        }
+        if (!cached.reusable) {
+            statements.values().remove(cached);
+            closeQuietly(cached.statement);
+            return;
+        }
+        try {
+            cached.statement.clearParameters();
+            cached.statement.clearBatch();
+            if (cached.defaults != null) {
+                cached.defaults.restore(cached.statement);
+                cached.defaults = null;
+            }
+        } catch (SQLException sqlException) {
+            log.debug("Dropping cached statement: {}", sqlException.getMessage());
+            statements.values().remove(cached);
+            closeQuietly(cached.statement);
+        }
+    }
+
+    private void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException sqlException) {
+            log.debug("Error closing cached statement: {}", sqlException.getMessage());
+        }
+    }
+
+    /**
+     * A physical statement and whether it is currently checked out.
+     */
+    private static final class CachedStatement {
+        private final PreparedStatement statement;
+        /** Settings before a borrower first changed one, or {@code null} while unchanged. */
+        private StatementDefaults defaults;
+        private boolean inUse;
+        private boolean evicted;
+        private boolean reusable = true;
+
+        private CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+    }
+
+    /**
+     * The settings of a freshly prepared statement, restored when a borrower changed them.
+     */
+    private static final class StatementDefaults {
+        private final int fetchSize;
+        private final int maxRows;
+        private final int queryTimeout;
+        private final int maxFieldSize;
+        private final int fetchDirection;
+
+        private StatementDefaults(int fetchSize, int maxRows, int queryTimeout, int maxFieldSize, int fetchDirection) {
+            this.fetchSize = fetchSize;
+            this.maxRows = maxRows;
+            this.queryTimeout = queryTimeout;
+            this.maxFieldSize = maxFieldSize;
+            this.fetchDirection = fetchDirection;
+        }
+
+        private static StatementDefaults of(PreparedStatement statement) throws SQLException {
+            return new StatementDefaults(statement.getFetchSize(), statement.getMaxRows(), statement.getQueryTimeout(),
+                    statement.getMaxFieldSize(), statement.getFetchDirection());
+        }
+
+        private void restore(PreparedStatement statement) throws SQLException {
+            statement.setFetchSize(fetchSize);
+            statement.setMaxRows(maxRows);
+            statement.setQueryTimeout(queryTimeout);
+            statement.setMaxFieldSize(maxFieldSize);
+            statement.setFetchDirection(fetchDirection);
+        }
+    }
+}
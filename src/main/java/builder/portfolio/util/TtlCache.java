@@ -0,0 +1,191 @@
+package builder.portfolio.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Small thread-safe read-through cache with a time-to-live and a size bound.
+ *
+ * Entries expire {@code ttlMillis} after they were loaded and the least recently used entry
+ * is evicted once more than {@code maxEntries} are held. Loading happens outside the lock;
+ * a value loaded while an invalidation ran is returned to the caller but not cached, so an
+ * invalidation can never be overwritten by stale data. A TTL or size of zero disables caching.
+ *
+ * Example usage:
+ * TtlCache<String, List<Project>> cache = new TtlCache<>(30_000, 256);
+ * List<Project> projects = cache.get("BUILDER:7", key -> loadProjects(7));
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class TtlCache<K, V> {
+
+    /**
+     * Point-in-time snapshot of the cache counters.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Stats {
+        private final int size;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+        private final long invalidations;
+
+        /**
+         * @return hits divided by lookups, or 0 if there were no lookups
+         */
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    /**
+     * @param ttlMillis  how long a loaded value stays valid
+     * @param maxEntries maximum number of cached values
+     */
+    public TtlCache(long ttlMillis, int maxEntries) {
+        this(ttlMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    /**
+     * @param ttlMillis  how long a loaded value stays valid
+     * @param maxEntries maximum number of cached values
+     * @param clock      source of the current time in milliseconds
+     */
+    public TtlCache(long ttlMillis, int maxEntries, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached value for the key, loading and caching it if absent or expired.
+     * {@code null} values are returned but never cached.
+     *
+     * @param key    the key
+     * @param loader computes the value on a miss
+     * @return the cached or freshly loaded value
+     */
+    public V get(K key, Function<K, V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (clock.getAsLong() < entry.expiresAt) {
+                    hits++;
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+        if (value == null || ttlMillis <= 0 || maxEntries <= 0) {
+            return value;
+        }
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value cached for a key.
+     *
+     * @param key the key
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations++;
+        }
+    }
+
+    /**
+     * Removes every cached value whose key and value match the predicate.
+     *
+     * @param predicate selects the entries to remove
+     */
+    public synchronized void invalidateIf(BiPredicate<K, V> predicate) {
+        generation++;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            if (predicate.test(entry.getKey(), entry.getValue().value)) {
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Removes every cached value.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return the current {@link Stats}
+     */
+    public synchronized Stats getStats() {
+        return new Stats(entries.size(), hits, misses, evictions, expirations, invalidations);
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * A cached value and the time it expires at.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package builder.portfolio.util;
 
+import builder.portfolio.model.Project;
+import builder.portfolio.model.User;
+
 import java.time.LocalDate;
 import java.util.List;
 import java.util.function.Function;
@@ -8,7 +11,7 @@ import java.util.function.Function;
  * Utility class for validating various input fields across the application.
  *
  * Provides static methods for validating emails, passwords, names, document paths,
- * user roles, dates, and for validating IDs from a list of objects.
+ * user roles, dates, project access, and for validating IDs from a list of objects.
  *
  * Example usage:
  * boolean validEmail = ValidatorUtil.isValidEmail("user@example.com");
@@ -85,6 +88,26 @@ public class ValidatorUtil {
         return !date.isBefore(LocalDate.now());
     }
 
+    /**
+     * Checks whether a user may work on a project: administrators on every project, other
+     * users on the projects they build, manage or own as client.
+     *
+     * @param user    the user
+     * @param project the project, may be {@code null}
+     * @return {@code true} if the project exists and belongs to the user; {@code false} otherwise
+     */
+    public static boolean hasProjectAccess(User user, Project project) {
+        if (user == null || project == null) {
+            return false;
+        }
+        return switch (user.getRole()) {
+            case ADMIN -> true;
+            case BUILDER -> project.getBuilderId() == user.getUserId();
+            case PROJECT_MANAGER -> project.getProjectManagerId() == user.getUserId();
+            case CLIENT -> project.getClientId() == user.getUserId();
+        };
+    }
+
     /**
      * Prompts the user to select a valid ID from a list of objects.
      *
@@ -0,0 +1,57 @@
+-- Base schema used by the repositories.
+
+CREATE TABLE IF NOT EXISTS users (
+    user_id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(50) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS project (
+    project_id BIGSERIAL PRIMARY KEY,
+    project_name VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    planned_budget NUMERIC(15, 2) NOT NULL DEFAULT 0,
+    actual_spend NUMERIC(15, 2) NOT NULL DEFAULT 0,
+    builder_id BIGINT REFERENCES users (user_id),
+    manager_id BIGINT REFERENCES users (user_id),
+    client_id BIGINT REFERENCES users (user_id),
+    end_date DATE,
+    completed_tasks INT NOT NULL DEFAULT 0,
+    total_tasks INT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS task (
+    task_id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL REFERENCES project (project_id),
+    task_name VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS document (
+    document_id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL REFERENCES project (project_id),
+    document_name VARCHAR(255),
+    document_url VARCHAR(1024),
+    document_type VARCHAR(50),
+    uploaded_by VARCHAR(100),
+    created_at DATE
+);
+
+CREATE TABLE IF NOT EXISTS notification (
+    notification_id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users (user_id) ON DELETE CASCADE,
+    message TEXT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    outbox_id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    role VARCHAR(50),
+    message TEXT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,20 @@
+-- Indexes for the lookups the repositories run.
+
+-- Project lists per role (getAllProjects, getProjectsPage, streamProjects)
+CREATE INDEX IF NOT EXISTS idx_project_builder ON project (builder_id, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_manager ON project (manager_id, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_client ON project (client_id, project_id);
+
+-- Task lists and paging per project
+CREATE INDEX IF NOT EXISTS idx_task_project ON task (project_id, task_id);
+CREATE INDEX IF NOT EXISTS idx_task_project_status ON task (project_id, status);
+
+-- Next pending tasks of a project (updateProjectStatus)
+-- postgresql-only
+CREATE INDEX IF NOT EXISTS idx_task_pending ON task (project_id, task_id) WHERE status = 'PENDING';
+
+-- Documents per project
+CREATE INDEX IF NOT EXISTS idx_document_project ON document (project_id, document_id);
+
+-- Users per role (getAllUsers, getUsersPage); users(email) is covered by its unique constraint
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role, user_id);
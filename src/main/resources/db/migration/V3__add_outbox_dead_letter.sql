@@ -0,0 +1,15 @@
+-- Failed relay attempts per outbox row, and the rows the relay gave up on.
+
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS last_error TEXT;
+
+CREATE TABLE IF NOT EXISTS notification_outbox_dead (
+    outbox_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    role VARCHAR(50),
+    message TEXT NOT NULL,
+    attempts INT NOT NULL,
+    reason TEXT,
+    created_at TIMESTAMP,
+    parked_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,10 @@
+-- Progress counters on the project table, maintained whenever tasks are added or completed.
+-- V1 creates them for new databases; databases created before the counters existed get them here.
+
+ALTER TABLE project ADD COLUMN IF NOT EXISTS completed_tasks INT NOT NULL DEFAULT 0;
+ALTER TABLE project ADD COLUMN IF NOT EXISTS total_tasks INT NOT NULL DEFAULT 0;
+
+-- Backfill from the task table
+UPDATE project SET
+    total_tasks = (SELECT COUNT(*) FROM task t WHERE t.project_id = project.project_id),
+    completed_tasks = (SELECT COUNT(*) FROM task t WHERE t.project_id = project.project_id AND t.status = 'COMPLETED');
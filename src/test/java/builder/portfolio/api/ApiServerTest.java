@@ -0,0 +1,168 @@
+package builder.portfolio.api;
+
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.util.SegmentedAuditLog;
+import builder.portfolio.util.SessionRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private ApiServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RepositoryFactory.setBackend(RepositoryFactory.Backend.MEMORY);
+        server = new ApiServer(0, 64 * 1024, new SessionRegistry(60_000));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        RepositoryFactory.setBackend(RepositoryFactory.Backend.JDBC);
+    }
+
+    @Test
+    void testProjectLifecycle_ScopesEveryCallToTheSessionUser() throws Exception {
+        String builder = session(register("Bob Builder", "bob@example.com", "BUILDER"));
+        JsonNode manager = register("Pam Manager", "pam@example.com", "PROJECT_MANAGER");
+        JsonNode client = register("Cal Client", "cal@example.com", "CLIENT");
+        String otherClient = session(register("Olga Client", "olga@example.com", "CLIENT"));
+        assertFalse(manager.path("user").has("password"));
+
+        HttpResponse<String> created = send("POST", "/api/projects", builder, "{\"projectName\":\"Tower\","
+                + "\"plannedBudget\":1000,\"projectManagerId\":" + userId(manager) + ",\"clientId\":" + userId(client)
+                + ",\"endDate\":\"" + LocalDate.now().plusDays(30) + "\",\"numberOfTasks\":4}");
+        assertEquals(200, created.statusCode());
+        long projectId = mapper.readTree(created.body()).get("projectId").asLong();
+
+        assertEquals(200, send("POST", "/api/projects/" + projectId + "/progress", session(manager),
+                "{\"tasksCompleted\":1}").statusCode());
+        JsonNode spend = json(send("POST", "/api/projects/" + projectId + "/spend", session(manager), "{\"amount\":1500}"));
+        assertEquals(1500, spend.get("actualSpend").asDouble());
+
+        JsonNode page = json(send("GET", "/api/projects?size=10", session(client), null));
+        assertEquals(1, page.get("items").size());
+        assertFalse(page.get("hasNext").asBoolean());
+        assertEquals("OUT OF BUDGET", json(send("GET", "/api/projects/" + projectId + "/budget", session(client), null))
+                .get("budgetStatus").asText());
+        assertEquals(1, json(send("GET", "/api/projects/" + projectId + "/timeline", builder, null))
+                .get("completedTasks").asInt());
+
+        assertEquals(404, send("GET", "/api/projects/" + projectId + "/tasks", otherClient, null).statusCode());
+        assertEquals(0, json(send("GET", "/api/projects", otherClient, null)).get("items").size());
+        assertEquals(204, send("DELETE", "/api/projects/" + projectId, builder, null).statusCode());
+    }
+
+    @Test
+    void testErrors_MapToStatusCodes() throws Exception {
+        String client = session(register("Cal Client", "cal@example.com", "CLIENT"));
+
+        assertEquals(200, send("GET", "/api/health", null, null).statusCode());
+        assertEquals(401, send("GET", "/api/projects", null, null).statusCode());
+        assertEquals(401, send("GET", "/api/projects", "unknown", null).statusCode());
+        assertEquals(403, send("POST", "/api/projects", client, "{}").statusCode());
+        assertEquals(400, send("POST", "/api/auth/login", null, "not json").statusCode());
+        assertEquals(404, send("POST", "/api/projects/1/spend", session(register("Pam Manager", "pam@example.com",
+                "PROJECT_MANAGER")), "{\"amount\":5}").statusCode());
+        assertEquals(401, send("POST", "/api/auth/login", null,
+                "{\"email\":\"cal@example.com\",\"password\":\"wrong-password\"}").statusCode());
+        assertEquals(404, send("GET", "/api/nothing", client, null).statusCode());
+        assertEquals(405, send("DELETE", "/api/health", null, null).statusCode());
+
+        assertEquals(204, send("POST", "/api/auth/logout", client, null).statusCode());
+        assertEquals(401, send("GET", "/api/projects", client, null).statusCode());
+    }
+
+    @Test
+    void testRegister_RejectsAdminAndMissingRoles() throws Exception {
+        assertEquals(403, send("POST", "/api/auth/register", null, "{\"name\":\"Eve\",\"email\":\"eve@example.com\","
+                + "\"password\":\"secret123\",\"role\":\"admin\"}").statusCode());
+        assertEquals(400, send("POST", "/api/auth/register", null, "{\"name\":\"Eve\",\"email\":\"eve@example.com\","
+                + "\"password\":\"secret123\"}").statusCode());
+        assertEquals(401, send("POST", "/api/auth/login", null,
+                "{\"email\":\"eve@example.com\",\"password\":\"secret123\"}").statusCode());
+    }
+
+    @Test
+    void testAuditTrail_IsWrittenUnderTarget() throws Exception {
+        register("Cal Client", "cal@example.com", "CLIENT");
+
+        SegmentedAuditLog auditLog = SegmentedAuditLog.getShared();
+        assertNotNull(auditLog);
+        assertTrue(auditLog.getDirectory().toAbsolutePath().normalize()
+                .startsWith(Path.of("target").toAbsolutePath()));
+    }
+
+    @Test
+    void testConcurrentRequests_SeeTheirOwnSessions() throws Exception {
+        List<String> sessions = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            JsonNode registered = register("Client " + (char) ('A' + i), "client" + i + "@example.com", "CLIENT");
+            sessions.add(session(registered));
+            userIds.add(userId(registered));
+        }
+
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            for (String session : sessions) {
+                responses.add(client.sendAsync(request("GET", "/api/auth/me", session, null),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+        }
+        for (int i = 0; i < responses.size(); i++) {
+            JsonNode user = json(responses.get(i).get());
+            assertEquals(userIds.get(i % sessions.size()), user.get("userId").asLong());
+        }
+    }
+
+    private JsonNode register(String name, String email, String role) throws Exception {
+        return json(send("POST", "/api/auth/register", null, "{\"name\":\"" + name + "\",\"email\":\"" + email
+                + "\",\"password\":\"secret123\",\"role\":\"" + role + "\"}"));
+    }
+
+    private static String session(JsonNode loginResponse) {
+        return loginResponse.get("sessionId").asText();
+    }
+
+    private static long userId(JsonNode loginResponse) {
+        return loginResponse.get("user").get("userId").asLong();
+    }
+
+    private JsonNode json(HttpResponse<String> response) throws Exception {
+        assertEquals(200, response.statusCode(), response.body());
+        return mapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> send(String method, String path, String session, String body) throws Exception {
+        return client.send(request(method, path, session, body), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String method, String path, String session, String body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (session != null) {
+            request.header(ApiServer.SESSION_HEADER, session);
+        }
+        return request.build();
+    }
+}
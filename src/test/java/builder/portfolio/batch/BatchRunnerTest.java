@@ -0,0 +1,205 @@
+package builder.portfolio.batch;
+
+import builder.portfolio.model.Project;
+import builder.portfolio.model.Task;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.service.implementations.AuthService;
+import builder.portfolio.service.implementations.BuilderService;
+import builder.portfolio.service.implementations.ProjectManagerService;
+import builder.portfolio.util.AuditAppender;
+import builder.portfolio.util.SegmentedAuditLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BatchRunnerTest {
+
+    private final AuthService authService = new AuthService();
+    private User builder;
+    private User manager;
+    private User client;
+
+    @BeforeEach
+    void setUp() {
+        RepositoryFactory.setBackend(RepositoryFactory.Backend.MEMORY);
+        builder = authService.register("Bob Builder", "bob@example.com", "secret123", UserRole.BUILDER);
+        manager = authService.register("Pam Manager", "pam@example.com", "secret123", UserRole.PROJECT_MANAGER);
+        client = authService.register("Cal Client", "cal@example.com", "secret123", UserRole.CLIENT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RepositoryFactory.setBackend(RepositoryFactory.Backend.JDBC);
+    }
+
+    @Test
+    void testParse_GroupsCommandsAndRejectsMalformedFiles() throws Exception {
+        List<BatchGroup> groups = BatchRunner.parse(new StringReader("# header\n"
+                + "add-spend 1 10   # trailing comment\n"
+                + "\n"
+                + "begin tower\n"
+                + "upload-document 1 \"Site Plan\" site.pdf\n"
+                + "complete-tasks 1 2\n"
+                + "commit\n"));
+
+        assertEquals(2, groups.size());
+        assertEquals("line 2", groups.get(0).getName());
+        assertEquals("tower (line 4)", groups.get(1).getName());
+        BatchCommand upload = groups.get(1).getCommands().get(0);
+        assertEquals(BatchCommand.Type.UPLOAD_DOCUMENT, upload.getType());
+        assertEquals(List.of("1", "Site Plan", "site.pdf"), upload.getArguments());
+        assertEquals(5, upload.getLineNumber());
+
+        assertParseError("Line 1: unknown command 'add-money'", "add-money 1 10");
+        assertParseError("Line 1: add-spend takes 2 arguments, found 1", "add-spend 1");
+        assertParseError("Line 1: unterminated quote", "upload-document 1 \"Site Plan site.pdf");
+        assertParseError("Line 1: begin without commit", "begin\nadd-spend 1 10");
+        assertParseError("Line 1: commit without begin", "commit");
+    }
+
+    @Test
+    void testRun_InvalidGroupChangesNothing() throws Exception {
+        String endDate = LocalDate.now().plusDays(30).toString();
+        List<BatchGroup> groups = BatchRunner.parse(new StringReader("begin valid\n"
+                + "create-project @tower \"Tower Block\" 1000 " + manager.getUserId() + " " + client.getUserId()
+                + " " + endDate + " 4\n"
+                + "upload-document @tower \"Site Plan\" site.pdf\n"
+                + "commit\n"
+                + "begin invalid\n"
+                + "create-project @mall Mall 1000 " + manager.getUserId() + " " + client.getUserId()
+                + " " + endDate + " 4\n"
+                + "upload-document @mall Contract contract.docx\n"
+                + "commit\n"
+                + "add-spend 1 10\n"));
+
+        SegmentedAuditLog auditLog = SegmentedAuditLog.getShared();
+        assertNotNull(auditLog);
+        assertTrue(auditLog.getDirectory().toAbsolutePath().normalize()
+                .startsWith(Path.of("target").toAbsolutePath()));
+        int created = createdProjectEntries(auditLog);
+
+        BatchReport report = new BatchRunner(4).run(builder, groups);
+
+        assertTrue(AuditAppender.flushShared(5_000));
+        assertEquals(created + 1, createdProjectEntries(auditLog));
+        assertEquals(1, report.getSucceededGroups());
+        assertEquals(2, report.getFailedGroups());
+        assertEquals(2, report.getAppliedCommands());
+        assertEquals(1, report.getSkippedCommands());
+        assertEquals("line 7: document path must end with .pdf, .png or .jpg", report.getGroups().get(1).getFailure());
+        assertEquals("line 9: add-spend is not allowed for role BUILDER", report.getGroups().get(2).getFailure());
+
+        List<Project> projects = RepositoryFactory.projects().findByUser(builder);
+        assertEquals(1, projects.size());
+        assertEquals("Tower Block", projects.get(0).getProjectName());
+        assertEquals(1, RepositoryFactory.documents().findByProject(projects.get(0).getProjectId()).size());
+        assertTrue(report.summary().contains("Failed invalid (line 5): line 7: document path"));
+    }
+
+    @Test
+    void testRun_RuntimeFailureRollsBackTheEarlierCommandsOfItsGroup() throws Exception {
+        String endDate = LocalDate.now().plusDays(30).toString();
+        BuilderService failingUploads = spy(new BuilderService());
+        doReturn(null).when(failingUploads).uploadDocumentDetails(anyLong(), anyString(), anyString());
+        BatchRunner runner = new BatchRunner(2, failingUploads, new ProjectManagerService());
+
+        BatchReport created = runner.run(builder, BatchRunner.parse(new StringReader("begin tower\n"
+                + "create-project @tower Tower 1000 " + manager.getUserId() + " " + client.getUserId()
+                + " " + endDate + " 4\n"
+                + "upload-document @tower \"Site Plan\" site.pdf\n"
+                + "commit\n")));
+
+        assertEquals(0, created.getAppliedCommands());
+        assertEquals("line 3: unable to save document", created.getGroups().get(0).getFailure());
+        assertTrue(RepositoryFactory.projects().findByUser(builder).isEmpty());
+        assertTrue(RepositoryFactory.notifications().findByUser(client.getUserId()).isEmpty());
+
+        Project project = new Project();
+        project.setProjectName("Mall");
+        project.setPlannedBudget(1000);
+        project.setBuilderId(builder.getUserId());
+        project.setProjectManagerId(manager.getUserId());
+        project.setClientId(client.getUserId());
+        project.setEndDate(LocalDate.now().plusDays(30));
+        long projectId = RepositoryFactory.projects().create(project, List.of(task(), task())).getProjectId();
+        ProjectManagerService failingStatus = spy(new ProjectManagerService());
+        doThrow(new IllegalStateException("disk full")).when(failingStatus).updateProjectStatus(anyLong(), anyInt());
+
+        BatchReport spent = new BatchRunner(2, new BuilderService(), failingStatus).run(manager,
+                BatchRunner.parse(new StringReader("begin\n"
+                        + "add-spend " + projectId + " 250\n"
+                        + "upload-document " + projectId + " Invoice invoice.pdf\n"
+                        + "add-spend " + projectId + " 100\n"
+                        + "complete-tasks " + projectId + " 1\n"
+                        + "commit\n"
+                        + "add-spend " + projectId + " 40\n")));
+
+        assertEquals(1, spent.getAppliedCommands());
+        assertEquals(3, spent.getSkippedCommands());
+        assertEquals("rolled back: disk full", spent.getGroups().get(0).getFailure());
+        assertEquals(40, RepositoryFactory.projects().getActualSpend(projectId));
+        assertTrue(RepositoryFactory.documents().findByProject(projectId).isEmpty());
+        assertEquals(0, RepositoryFactory.projects().findTimeline(projectId).getCompletedTasks());
+    }
+
+    @Test
+    void testRun_AppliesSpendInParallelAndLedgersAreAtomic() throws Exception {
+        long[] projectIds = new long[4];
+        for (int i = 0; i < projectIds.length; i++) {
+            Project project = new Project();
+            project.setProjectName("Project " + i);
+            project.setBuilderId(builder.getUserId());
+            project.setProjectManagerId(manager.getUserId());
+            project.setClientId(client.getUserId());
+            project.setEndDate(LocalDate.now().plusDays(30));
+            projectIds[i] = RepositoryFactory.projects().create(project, List.of()).getProjectId();
+        }
+
+        StringBuilder file = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            file.append("add-spend ").append(projectIds[i % projectIds.length]).append(" 10\n");
+        }
+        file.append("begin rejected\n")
+                .append("add-spend ").append(projectIds[0]).append(" 1000\n")
+                .append("add-spend 999999 1000\n")
+                .append("commit\n");
+
+        BatchReport report = new BatchRunner(8).run(manager, BatchRunner.parse(new StringReader(file.toString())));
+
+        assertEquals(400, report.getAppliedCommands());
+        assertEquals(1, report.getFailedGroups());
+        assertEquals("line 403: project 999999 not found", report.getGroups().get(400).getFailure());
+        for (long projectId : projectIds) {
+            assertEquals(1000, RepositoryFactory.projects().getActualSpend(projectId));
+        }
+    }
+
+    private static Task task() {
+        Task task = new Task();
+        task.setTaskName("Phase");
+        task.setStatus("PENDING");
+        return task;
+    }
+
+    private static int createdProjectEntries(SegmentedAuditLog auditLog) {
+        return auditLog.find(null, UserRole.BUILDER, "Create Project", Integer.MAX_VALUE).size();
+    }
+
+    private static void assertParseError(String message, String file) {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> BatchRunner.parse(new StringReader(file)));
+        assertEquals(message, error.getMessage());
+    }
+}
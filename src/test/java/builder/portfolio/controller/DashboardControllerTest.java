@@ -0,0 +1,78 @@
+package builder.portfolio.controller;
+
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.repository.RepositoryFactory;
+import builder.portfolio.util.InputUtil;
+import builder.portfolio.util.SessionManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class DashboardControllerTest {
+
+    private static final int OPERATIONS = 100_000;
+
+    @Test
+    void testRun_KeepsStackDepthAndHeapConstantOverLongSessions() {
+        AtomicInteger operations = new AtomicInteger();
+        AtomicInteger minDepth = new AtomicInteger(Integer.MAX_VALUE);
+        AtomicInteger maxDepth = new AtomicInteger();
+        AtomicLong warmHeap = new AtomicLong();
+        AtomicLong finalHeap = new AtomicLong();
+        StackWalker stackWalker = StackWalker.getInstance();
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        RepositoryFactory.setBackend(RepositoryFactory.Backend.MEMORY);
+        SessionManager.setCurrentUser(new User(3, "client@example.com", null, "Client", UserRole.CLIENT));
+        try (MockedStatic<InputUtil> input = Mockito.mockStatic(InputUtil.class, Mockito.withSettings().stubOnly())) {
+            input.when(() -> InputUtil.readString(anyString())).thenAnswer(invocation -> {
+                if (SessionManager.getCurrentUser() == null) {
+                    return "0";
+                }
+                int depth = stackWalker.walk(frames -> (int) frames.count());
+                minDepth.accumulateAndGet(depth, Math::min);
+                maxDepth.accumulateAndGet(depth, Math::max);
+
+                int operation = operations.incrementAndGet();
+                if (operation == 1_000) {
+                    warmHeap.set(usedHeap());
+                } else if (operation == OPERATIONS) {
+                    finalHeap.set(usedHeap());
+                }
+                if (operation > OPERATIONS) {
+                    return "0";
+                }
+                return operation % 2 == 0 ? "2" : "9";
+            });
+
+            DashboardController.run();
+        } finally {
+            System.setOut(console);
+            SessionManager.clearSession();
+            RepositoryFactory.setBackend(RepositoryFactory.Backend.JDBC);
+        }
+
+        assertEquals(OPERATIONS + 1, operations.get());
+        assertEquals(minDepth.get(), maxDepth.get());
+        assertTrue(finalHeap.get() - warmHeap.get() < 16L * 1024 * 1024,
+                "Heap grew by " + (finalHeap.get() - warmHeap.get()) + " bytes");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,67 @@
+package builder.portfolio.repository;
+
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthRepositoryTest {
+
+    private final AuthRepository authRepository = new AuthRepository();
+
+    @BeforeEach
+    void setUp() {
+        RepositoryFactory.setBackend(RepositoryFactory.Backend.MEMORY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RepositoryFactory.setBackend(RepositoryFactory.Backend.JDBC);
+    }
+
+    @Test
+    void testRegister_StoresSaltedHashAndLoginVerifiesIt() {
+        User registered = authRepository.register(new User(0, "cal@example.com", "secret123", "Cal", UserRole.CLIENT));
+
+        assertNull(registered.getPassword());
+        String stored = RepositoryFactory.users().findByEmail("cal@example.com").getPassword();
+        assertTrue(stored.startsWith("pbkdf2-sha256$"));
+        assertFalse(stored.contains("secret123"));
+
+        User user = authRepository.login("cal@example.com", "secret123");
+        assertEquals(registered.getUserId(), user.getUserId());
+        assertNull(user.getPassword());
+        assertNull(authRepository.login("cal@example.com", "secret124"));
+        assertNull(authRepository.login("nobody@example.com", "secret123"));
+    }
+
+    @Test
+    void testLogin_CachesSuccessfulVerificationsOnly() {
+        User registered = authRepository.register(new User(0, "cal@example.com", "secret123", "Cal", UserRole.CLIENT));
+        long hits = AuthRepository.getLoginCacheStats().getHits();
+
+        assertNotNull(authRepository.login("cal@example.com", "secret123"));
+        assertNotNull(authRepository.login("cal@example.com", "secret123"));
+        assertNull(authRepository.login("cal@example.com", "wrong-password"));
+        assertEquals(hits + 2, AuthRepository.getLoginCacheStats().getHits());
+
+        assertTrue(new AdminRepository().deleteUser(registered.getUserId()));
+        assertNull(authRepository.login("cal@example.com", "secret123"));
+    }
+
+    @Test
+    void testLogin_UpgradesPlainTextPasswords() {
+        User legacy = RepositoryFactory.users().register(new User(0, "old@example.com", "secret123", "Old", UserRole.BUILDER));
+
+        assertNotNull(authRepository.login("old@example.com", "secret123"));
+
+        String stored = RepositoryFactory.users().findByEmail("old@example.com").getPassword();
+        assertTrue(stored.startsWith("pbkdf2-sha256$"));
+        AuthRepository.clearCaches();
+        assertEquals(legacy.getUserId(), authRepository.login("old@example.com", "secret123").getUserId());
+        assertNull(authRepository.login("old@example.com", stored));
+    }
+}
@@ -0,0 +1,134 @@
+package builder.portfolio.repository;
+
+import builder.portfolio.model.Page;
+import builder.portfolio.model.ProjectSummary;
+import builder.portfolio.model.Task;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.Status;
+import builder.portfolio.model.enums.UserRole;
+import builder.portfolio.util.DBUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CommonRepositoryTest {
+
+    private Connection connection;
+    private PreparedStatement preparedStatement;
+    private ResultSet resultSet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = mock(Connection.class);
+        preparedStatement = mock(PreparedStatement.class);
+        resultSet = mock(ResultSet.class);
+
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    }
+
+    @Test
+    void testGetProjectSummaries_ReadsOnlySummaryColumnsAndCaches() throws Exception {
+        User builder = new User(9001, null, null, "builder", UserRole.BUILDER);
+
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getLong("project_id")).thenReturn(42L);
+        when(resultSet.getString("project_name")).thenReturn("Tower");
+        when(resultSet.getString("status")).thenReturn("UPCOMING");
+        when(resultSet.getDouble("planned_budget")).thenReturn(500.0);
+        when(resultSet.getLong("manager_id")).thenReturn(7L);
+
+        try (MockedStatic<DBUtil> dbUtilMock = Mockito.mockStatic(DBUtil.class)) {
+            dbUtilMock.when(DBUtil::getConnection).thenReturn(connection);
+
+            List<ProjectSummary> first = CommonRepository.getProjectSummaries(builder);
+            List<ProjectSummary> second = CommonRepository.getProjectSummaries(builder);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(connection, times(1)).prepareStatement(sql.capture());
+            assertFalse(sql.getValue().contains("*"));
+            assertFalse(sql.getValue().contains("client_id"));
+            assertEquals(1, first.size());
+            assertEquals(Status.UPCOMING, first.get(0).getStatus());
+            assertEquals(7L, second.get(0).getProjectManagerId());
+
+            CommonRepository.invalidateProjects(42L);
+            CommonRepository.getProjectSummaries(builder);
+            verify(connection, times(2)).prepareStatement(anyString());
+        }
+    }
+
+    @Test
+    void testGetAllUsers_DoesNotLoadCredentials() throws Exception {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getLong("user_id")).thenReturn(5L);
+        when(resultSet.getString("username")).thenReturn("client");
+        when(resultSet.getString("role")).thenReturn("CLIENT");
+
+        try (MockedStatic<DBUtil> dbUtilMock = Mockito.mockStatic(DBUtil.class)) {
+            dbUtilMock.when(DBUtil::getConnection).thenReturn(connection);
+
+            List<User> clients = CommonRepository.getAllUsers(UserRole.CLIENT);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(connection).prepareStatement(sql.capture());
+            assertFalse(sql.getValue().contains("password"));
+            assertEquals("client", clients.get(0).getUserName());
+            assertNull(clients.get(0).getPassword());
+            verify(resultSet, never()).getString("password");
+        }
+    }
+
+    @Test
+    void testGetTasksPage_FetchesOneExtraRowToDetectNextPage() throws Exception {
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong("task_id")).thenReturn(11L, 12L, 13L);
+
+        try (MockedStatic<DBUtil> dbUtilMock = Mockito.mockStatic(DBUtil.class)) {
+            dbUtilMock.when(DBUtil::getConnection).thenReturn(connection);
+
+            Page<Task> page = CommonRepository.getTasksPage(1L, 10L, 2);
+
+            verify(preparedStatement).setObject(1, 1L);
+            verify(preparedStatement).setLong(2, 10L);
+            verify(preparedStatement).setInt(3, 3);
+            assertEquals(2, page.getItems().size());
+            assertTrue(page.isHasNext());
+            assertEquals(12L, page.getNextCursor());
+        }
+    }
+
+    @Test
+    void testStreamTasks_UsesCursorAndReleasesResourcesOnClose() throws Exception {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getLong("task_id")).thenReturn(1L, 2L);
+
+        try (MockedStatic<DBUtil> dbUtilMock = Mockito.mockStatic(DBUtil.class)) {
+            dbUtilMock.when(DBUtil::getConnection).thenReturn(connection);
+
+            try (Stream<Task> tasks = CommonRepository.streamTasks(1L)) {
+                verify(connection).setAutoCommit(false);
+                verify(preparedStatement).setFetchSize(anyInt());
+                verify(connection, never()).close();
+
+                assertEquals(List.of(1L, 2L), tasks.map(Task::getTaskId).toList());
+            }
+
+            verify(resultSet).close();
+            verify(preparedStatement).close();
+            verify(connection).commit();
+            verify(connection).close();
+        }
+    }
+}
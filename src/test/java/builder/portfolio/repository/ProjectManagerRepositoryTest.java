@@ -0,0 +1,249 @@
+package builder.portfolio.repository;
+
+import builder.portfolio.model.Project;
+import builder.portfolio.model.SpendEntry;
+import builder.portfolio.util.ConnectionPool;
+import builder.portfolio.util.DBUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+class ProjectManagerRepositoryTest {
+
+    private ProjectManagerRepository projectManagerRepository;
+    private FakeProjectTable projectTable;
+
+    @BeforeEach
+    void setUp() {
+        projectManagerRepository = new ProjectManagerRepository();
+        projectTable = new FakeProjectTable();
+        projectTable.spend.put(1L, 0.0);
+        projectTable.spend.put(2L, 0.0);
+        DBUtil.setPool(new ConnectionPool(projectTable::connect, 0, 8, 60_000, 5_000, 1, 16));
+    }
+
+    @AfterEach
+    void tearDown() {
+        DBUtil.shutdown();
+    }
+
+    @Test
+    void testUpdateProjectActualSpend_AddsInOneStatementWithoutReadingBack() {
+        assertEquals(1.25, projectManagerRepository.updateProjectActualSpend(1L, 1.25));
+        assertEquals(2.5, projectManagerRepository.updateProjectActualSpend(1L, 1.25));
+
+        assertEquals(2.5, projectTable.spend.get(1L));
+        assertEquals(0, projectTable.reads, "spend must not be read back before being written");
+    }
+
+    /**
+     * Runs against the in-memory backend, whose per-project locks are the real concurrency
+     * control; the fake JDBC table below serializes every statement and would hide lost updates.
+     */
+    @Test
+    void testUpdateProjectActualSpend_ConcurrentUpdatesAreNotLost() throws Exception {
+        RepositoryFactory.setBackend(RepositoryFactory.Backend.MEMORY);
+        try {
+            long first = RepositoryFactory.projects().create(project(), List.of()).getProjectId();
+            long second = RepositoryFactory.projects().create(project(), List.of()).getProjectId();
+            int threads = 16;
+            int updatesPerThread = 500;
+            double amount = 1.25;
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < updatesPerThread; j++) {
+                        projectManagerRepository.updateProjectActualSpend(first, amount);
+                        projectManagerRepository.applySpendLedger(List.of(
+                                new SpendEntry(second, amount), new SpendEntry(first, amount)));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+            assertEquals(2 * threads * updatesPerThread * amount, projectManagerRepository.getCurrentActualSpend(first));
+            assertEquals(threads * updatesPerThread * amount, projectManagerRepository.getCurrentActualSpend(second));
+        } finally {
+            RepositoryFactory.setBackend(RepositoryFactory.Backend.JDBC);
+        }
+    }
+
+    @Test
+    void testApplySpendLedger_AppliesAllEntriesInOneBatch() {
+        List<SpendEntry> ledger = List.of(
+                new SpendEntry(2L, 100),
+                new SpendEntry(1L, 50),
+                new SpendEntry(2L, 25));
+
+        Map<Long, Double> result = projectManagerRepository.applySpendLedger(ledger);
+
+        assertEquals(125.0, result.get(2L));
+        assertEquals(50.0, result.get(1L));
+        assertEquals(1, projectTable.batches);
+    }
+
+    @Test
+    void testApplySpendLedger_UnknownProjectRollsBack() {
+        List<SpendEntry> ledger = List.of(new SpendEntry(1L, 50), new SpendEntry(99L, 10));
+
+        Map<Long, Double> result = projectManagerRepository.applySpendLedger(ledger);
+
+        assertTrue(result.isEmpty());
+        assertEquals(0.0, projectTable.spend.get(1L));
+    }
+
+    @Test
+    void testUpdateProjectStatus_DerivesStatusFromCountersWithoutCountingTasks() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        PreparedStatement progress = mock(PreparedStatement.class);
+        ResultSet project = mock(ResultSet.class);
+        ResultSet updated = mock(ResultSet.class);
+
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.prepareStatement(contains("completed_tasks = completed_tasks + ?"))).thenReturn(progress);
+        when(statement.executeQuery()).thenReturn(project);
+        when(statement.executeUpdate()).thenReturn(3);
+        when(project.next()).thenReturn(true);
+        when(project.getString("status")).thenReturn("IN_PROGRESS");
+        when(progress.executeQuery()).thenReturn(updated);
+        when(updated.next()).thenReturn(true);
+        when(updated.getString("status")).thenReturn("COMPLETED");
+
+        try (MockedStatic<DBUtil> dbUtilMock = Mockito.mockStatic(DBUtil.class)) {
+            dbUtilMock.when(DBUtil::getConnection).thenReturn(connection);
+
+            assertEquals(3, projectManagerRepository.updateProjectStatus(1L, 3));
+
+            verify(connection, never()).prepareStatement(contains("COUNT("));
+            verify(progress).setInt(1, 3);
+            verify(connection).prepareStatement(contains("notification_outbox"));
+            verify(connection).commit();
+        }
+    }
+
+    private static Project project() {
+        Project project = new Project();
+        project.setProjectName("Tower");
+        project.setPlannedBudget(1000);
+        project.setBuilderId(1);
+        project.setProjectManagerId(2);
+        project.setClientId(3);
+        project.setEndDate(LocalDate.now().plusDays(30));
+        return project;
+    }
+
+    /**
+     * Minimal stand-in for the project table. Every statement is applied atomically,
+     * like a single SQL statement would be, and a batch commits or rolls back as a whole.
+     */
+    private static class FakeProjectTable {
+        private final Map<Long, Double> spend = new HashMap<>();
+        private int reads;
+        private int batches;
+
+        Connection connect() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "prepareStatement" -> statement((String) args[0]);
+                        case "isValid", "getAutoCommit" -> true;
+                        case "isClosed" -> false;
+                        default -> null;
+                    });
+        }
+
+        private PreparedStatement statement(String sql) {
+            Map<Integer, Object> parameters = new HashMap<>();
+            List<Map<Integer, Object>> batch = new ArrayList<>();
+            List<Map<String, Object>> generated = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "setDouble", "setLong" -> parameters.put((Integer) args[0], args[1]);
+                        case "addBatch" -> batch.add(new HashMap<>(parameters));
+                        case "clearParameters" -> {
+                            parameters.clear();
+                            yield null;
+                        }
+                        case "clearBatch" -> {
+                            batch.clear();
+                            yield null;
+                        }
+                        case "executeQuery" -> executeQuery(sql, parameters);
+                        case "executeBatch" -> executeBatch(batch, generated);
+                        case "getGeneratedKeys" -> resultSet(generated);
+                        case "isClosed" -> false;
+                        default -> null;
+                    });
+        }
+
+        private synchronized ResultSet executeQuery(String sql, Map<Integer, Object> parameters) {
+            if (sql.startsWith("SELECT")) {
+                reads++;
+                return resultSet(List.of(Map.of("actual_spend", spend.get((Long) parameters.get(1)))));
+            }
+            long projectId = (Long) parameters.get(2);
+            double updated = spend.merge(projectId, (Double) parameters.get(1), Double::sum);
+            return resultSet(List.of(Map.of("actual_spend", updated)));
+        }
+
+        private synchronized int[] executeBatch(List<Map<Integer, Object>> batch, List<Map<String, Object>> generated) {
+            batches++;
+            Map<Long, Double> staged = new HashMap<>(spend);
+            int[] counts = new int[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                long projectId = (Long) batch.get(i).get(2);
+                if (!staged.containsKey(projectId)) {
+                    continue;
+                }
+                double updated = staged.merge(projectId, (Double) batch.get(i).get(1), Double::sum);
+                generated.add(Map.of("project_id", projectId, "actual_spend", updated));
+                counts[i] = 1;
+            }
+            for (int count : counts) {
+                if (count == 0) {
+                    return counts;
+                }
+            }
+            spend.putAll(staged);
+            return counts;
+        }
+
+        private ResultSet resultSet(List<Map<String, Object>> rows) {
+            int[] cursor = {-1};
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "next" -> ++cursor[0] < rows.size();
+                        case "getDouble", "getLong" -> rows.get(cursor[0]).get((String) args[0]);
+                        default -> null;
+                    });
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package builder.portfolio.repository;
+
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDirectoryTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private User user(long id, UserRole role) {
+        return new User(id, "user" + id + "@mail.com", "secret", "user" + id, role);
+    }
+
+    @Test
+    void testGet_LoadsEachRoleOnce() {
+        UserDirectory directory = new UserDirectory(role -> {
+            loads.incrementAndGet();
+            return List.of(user(1, role));
+        });
+
+        directory.get(UserRole.CLIENT);
+        directory.get(UserRole.CLIENT);
+        directory.get(UserRole.PROJECT_MANAGER);
+
+        assertEquals(2, loads.get());
+        assertThrows(UnsupportedOperationException.class, () -> directory.get(UserRole.CLIENT).add(user(2, UserRole.CLIENT)));
+    }
+
+    @Test
+    void testUserAddedAndRemoved_PublishNewSnapshotsWithoutReloading() {
+        UserDirectory directory = new UserDirectory(role -> {
+            loads.incrementAndGet();
+            return List.of(user(1, role));
+        });
+        List<User> before = directory.get(UserRole.CLIENT);
+
+        directory.userAdded(user(2, UserRole.CLIENT));
+        List<User> afterAdd = directory.get(UserRole.CLIENT);
+        directory.userRemoved(1);
+        List<User> afterRemove = directory.get(UserRole.CLIENT);
+
+        assertEquals(1, before.size(), "existing snapshots must not change");
+        assertEquals(List.of(1L, 2L), afterAdd.stream().map(User::getUserId).toList());
+        assertEquals(List.of(2L), afterRemove.stream().map(User::getUserId).toList());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGet_FailedLoadIsNotCached() {
+        UserDirectory directory = new UserDirectory(role -> loads.incrementAndGet() == 1 ? null : List.of(user(1, role)));
+
+        assertTrue(directory.get(UserRole.BUILDER).isEmpty());
+        assertEquals(1, directory.get(UserRole.BUILDER).size());
+    }
+
+    @Test
+    void testUserAdded_SkipsUsersAlreadyLoadedAndDropsCredentials() {
+        UserDirectory directory = new UserDirectory(role -> List.of(user(1, role), user(2, role)));
+        directory.get(UserRole.CLIENT);
+
+        directory.userAdded(user(2, UserRole.CLIENT));
+        List<User> users = directory.get(UserRole.CLIENT);
+
+        assertEquals(List.of(1L, 2L), users.stream().map(User::getUserId).toList());
+        assertEquals("user2", users.get(1).getUserName());
+        assertNull(users.get(1).getEmail());
+        assertNull(users.get(1).getPassword());
+    }
+}
@@ -0,0 +1,119 @@
+package builder.portfolio.repository.memory;
+
+import builder.portfolio.model.Notification;
+import builder.portfolio.model.Page;
+import builder.portfolio.model.Project;
+import builder.portfolio.model.SpendEntry;
+import builder.portfolio.model.Task;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.Status;
+import builder.portfolio.model.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryProjectRepositoryTest {
+
+    private InMemoryStore store;
+    private List<Notification> delivered;
+    private InMemoryProjectRepository projects;
+    private InMemoryTaskRepository tasks;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStore();
+        delivered = Collections.synchronizedList(new ArrayList<>());
+        projects = new InMemoryProjectRepository(store, new InMemoryNotificationRepository(store, delivered::addAll));
+        tasks = new InMemoryTaskRepository(store);
+    }
+
+    @Test
+    void testCreate_IndexesProjectByOwnersAndNotifies() {
+        Project created = projects.create(project(1, 2, 3), List.of(task("Foundation"), task("Walls")));
+
+        assertEquals(1, projects.findByUser(new User(1, null, null, "b", UserRole.BUILDER)).size());
+        assertEquals(1, projects.findByUser(new User(3, null, null, "c", UserRole.CLIENT)).size());
+        assertTrue(projects.findByUser(new User(9, null, null, "c", UserRole.CLIENT)).isEmpty());
+        assertEquals(Status.UPCOMING, projects.findById(created.getProjectId()).getStatus());
+        assertEquals(2, projects.findTimeline(created.getProjectId()).getTotalTasks());
+        assertEquals(2, delivered.size());
+    }
+
+    @Test
+    void testUpdateManager_MovesProjectBetweenManagerIndexes() {
+        Project created = projects.create(project(1, 2, 3), List.of());
+        created.setProjectManagerId(5);
+
+        assertTrue(projects.updateManager(created));
+
+        assertTrue(projects.findByUser(new User(2, null, null, "m", UserRole.PROJECT_MANAGER)).isEmpty());
+        assertEquals(1, projects.findByUser(new User(5, null, null, "m", UserRole.PROJECT_MANAGER)).size());
+    }
+
+    @Test
+    void testCompleteTasks_DerivesStatusFromCountersAndDeletesCascade() {
+        Project created = projects.create(project(1, 2, 3), List.of(task("Foundation"), task("Walls")));
+        delivered.clear();
+
+        assertEquals(1, projects.completeTasks(created.getProjectId(), 1));
+        assertEquals(Status.IN_PROGRESS, projects.findById(created.getProjectId()).getStatus());
+        assertEquals(1, projects.completeTasks(created.getProjectId(), 5));
+        assertEquals(Status.COMPLETED, projects.findById(created.getProjectId()).getStatus());
+        assertEquals(4, delivered.size());
+
+        Page<Task> page = tasks.findPage(created.getProjectId(), 0, 1);
+        assertTrue(page.isHasNext());
+        assertEquals("COMPLETED", page.getItems().get(0).getStatus());
+
+        assertTrue(projects.delete(created));
+        assertNull(projects.findById(created.getProjectId()));
+        assertTrue(tasks.findByProject(created.getProjectId()).isEmpty());
+    }
+
+    @Test
+    void testConcurrentSpendUpdates_AreNotLost() throws Exception {
+        Project first = projects.create(project(1, 2, 3), List.of());
+        Project second = projects.create(project(1, 2, 3), List.of());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 400; i++) {
+            executor.submit(() -> projects.addActualSpend(first.getProjectId(), 1.0));
+            executor.submit(() -> projects.applySpendLedger(List.of(
+                    new SpendEntry(second.getProjectId(), 1.0), new SpendEntry(first.getProjectId(), 1.0))));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(800.0, projects.getActualSpend(first.getProjectId()));
+        assertEquals(400.0, projects.getActualSpend(second.getProjectId()));
+        assertEquals(Map.of(), projects.applySpendLedger(List.of(new SpendEntry(999L, 1.0))));
+    }
+
+    private static Project project(long builderId, long managerId, long clientId) {
+        Project project = new Project();
+        project.setProjectName("Tower");
+        project.setPlannedBudget(1000);
+        project.setBuilderId(builderId);
+        project.setProjectManagerId(managerId);
+        project.setClientId(clientId);
+        project.setEndDate(LocalDate.now().plusDays(30));
+        return project;
+    }
+
+    private static Task task(String name) {
+        Task task = new Task();
+        task.setTaskName(name);
+        task.setStatus("PENDING");
+        return task;
+    }
+}
@@ -14,6 +14,8 @@ import org.mockito.Mockito;
 
 import java.sql.*;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -177,5 +179,59 @@ class BuilderServiceTest {
             assertEquals(5, timeline.getTotalTasks());
         }
     }
-}
 
+    @Test
+    void testSaveTasks_BatchInsertAssignsGeneratedIds() throws Exception {
+        Task first = new Task();
+        first.setProjectId(1);
+        first.setTaskName("Phase 1");
+        first.setStatus("PENDING");
+        Task second = new Task();
+        second.setProjectId(1);
+        second.setTaskName("Phase 2");
+        second.setStatus("PENDING");
+
+        PreparedStatement batchStatement = mock(PreparedStatement.class);
+        ResultSet keys = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString(), any(String[].class))).thenReturn(batchStatement);
+        when(batchStatement.getGeneratedKeys()).thenReturn(keys);
+        when(keys.next()).thenReturn(true, true, false);
+        when(keys.getLong(1)).thenReturn(11L, 12L);
+
+        try (MockedStatic<DBUtil> dbUtilMock = Mockito.mockStatic(DBUtil.class)) {
+            dbUtilMock.when(DBUtil::getConnection).thenReturn(connection);
+
+            List<Task> savedTasks = builderRepository.saveTasks(List.of(first, second));
+
+            assertNotNull(savedTasks);
+            assertEquals(11L, first.getTaskId());
+            assertEquals(12L, second.getTaskId());
+            verify(batchStatement, times(2)).addBatch();
+            verify(batchStatement, times(1)).executeBatch();
+            verify(connection, times(1)).commit();
+        }
+    }
+
+    @Test
+    void testGetProjectTimelines_OneQueryForManyProjects() throws Exception {
+        Array ids = mock(Array.class);
+        when(connection.createArrayOf(eq("bigint"), any(Object[].class))).thenReturn(ids);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getLong("project_id")).thenReturn(2L, 1L);
+        when(resultSet.getString("project_name")).thenReturn("Second", "First");
+        when(resultSet.getInt("completed_tasks")).thenReturn(1, 4);
+        when(resultSet.getInt("total_tasks")).thenReturn(5, 5);
+
+        try (MockedStatic<DBUtil> dbUtilMock = Mockito.mockStatic(DBUtil.class)) {
+            dbUtilMock.when(DBUtil::getConnection).thenReturn(connection);
+
+            Map<Long, ProjectTimeline> timelines = builderRepository.getProjectTimelines(List.of(1L, 2L, 3L));
+
+            assertEquals(List.of(1L, 2L), List.copyOf(timelines.keySet()));
+            assertEquals(4, timelines.get(1L).getCompletedTasks());
+            assertEquals("Second", timelines.get(2L).getProjectName());
+            verify(preparedStatement).setArray(1, ids);
+            verify(preparedStatement, times(1)).executeQuery();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package builder.portfolio.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditAppenderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAppend_WritesEveryLineInOrderPerThreadInBatches() throws Exception {
+        Path file = directory.resolve("audit.txt");
+        AuditAppender appender = new AuditAppender(file, 100, 16,
+                AuditAppender.OverflowPolicy.BLOCK, 5_000, AuditAppender.SyncPolicy.INTERVAL, 50);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            int threadId = thread;
+            executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    assertTrue(appender.append(threadId + "," + i));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertTrue(appender.flush(5_000));
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2_000, lines.size());
+        for (int thread = 0; thread < 4; thread++) {
+            List<Integer> sequence = new ArrayList<>();
+            for (String line : lines) {
+                String[] parts = line.split(",");
+                if (Integer.parseInt(parts[0]) == thread) {
+                    sequence.add(Integer.parseInt(parts[1]));
+                }
+            }
+            for (int i = 0; i < sequence.size(); i++) {
+                assertEquals(i, sequence.get(i));
+            }
+        }
+
+        AuditAppender.Stats stats = appender.getStats();
+        assertEquals(2_000, stats.getWritten());
+        assertTrue(stats.getBatches() >= 2_000 / 16);
+        assertTrue(stats.getSyncs() >= 1);
+        assertTrue(appender.shutdown(5_000));
+        assertFalse(appender.append("late"));
+    }
+
+    @Test
+    void testShutdown_WritesQueuedLinesAndSyncsEachBatch() throws Exception {
+        Path file = directory.resolve("audit.txt");
+        Files.writeString(file, "existing" + System.lineSeparator());
+        AuditAppender appender = new AuditAppender(file, 1_000, 10,
+                AuditAppender.OverflowPolicy.DROP, 0, AuditAppender.SyncPolicy.BATCH, 1_000);
+
+        for (int i = 0; i < 95; i++) {
+            assertTrue(appender.append("line " + i));
+        }
+
+        assertTrue(appender.shutdown(5_000));
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(96, lines.size());
+        assertEquals("existing", lines.get(0));
+        assertEquals("line 94", lines.get(95));
+        assertEquals(appender.getStats().getBatches(), appender.getStats().getSyncs());
+        assertEquals(0, appender.getStats().getDropped());
+    }
+}
@@ -0,0 +1,89 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.AuditTrail;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditRecordCodecTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testEncodeDecode_RoundTripsEntriesAndInternsActions() {
+        AuditRecordCodec encoder = new AuditRecordCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        assertTrue(encoder.encode(1_700_000_000_000L, 7, UserRole.BUILDER, "Created Project, Phase 1", "Zoë 🏗", buffer));
+        int first = buffer.position();
+        assertTrue(encoder.encode(1_700_000_000_001L, 8, null, "Created Project, Phase 1", null, buffer));
+        assertTrue(buffer.position() - first < first);
+
+        buffer.flip();
+        AuditRecordCodec decoder = new AuditRecordCodec();
+        AuditRecordCodec.Record record = new AuditRecordCodec.Record();
+        assertTrue(decoder.decode(buffer, record));
+        assertEquals(1_700_000_000_000L, record.getTimestamp());
+        assertEquals(7, record.getUserId());
+        assertEquals(UserRole.BUILDER, record.getRole());
+        assertEquals("Created Project, Phase 1", record.getAction());
+        assertEquals("Zoë 🏗", record.getUserName().toString());
+
+        assertTrue(decoder.decode(buffer, record));
+        assertEquals(8, record.getUserId());
+        assertNull(record.getRole());
+        assertEquals("", record.getUserName().toString());
+        assertFalse(decoder.decode(buffer, record));
+    }
+
+    @Test
+    void testEncodeDecode_HandlesShortBuffersAndUnknownFrames() {
+        AuditRecordCodec encoder = new AuditRecordCodec();
+        ByteBuffer tooSmall = ByteBuffer.allocate(20);
+        assertFalse(encoder.encode(1, 1, UserRole.ADMIN, "Deleted User", "Ann", tooSmall));
+        assertEquals(0, tooSmall.position());
+
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        buffer.putInt(5).put(AuditRecordCodec.VERSION).put((byte) 9).put(new byte[3]);
+        assertTrue(encoder.encode(1, 1, UserRole.ADMIN, "Deleted User", "Ann", buffer));
+        int complete = buffer.position();
+        buffer.flip();
+
+        AuditRecordCodec decoder = new AuditRecordCodec();
+        AuditRecordCodec.Record record = new AuditRecordCodec.Record();
+        ByteBuffer partial = buffer.duplicate().limit(complete - 1);
+        assertFalse(decoder.decode(partial, record));
+        assertTrue(decoder.decode(partial.limit(complete), record));
+        assertEquals("Deleted User", record.getAction());
+
+        ByteBuffer unsupported = ByteBuffer.allocate(16).putInt(2).put((byte) 99).put(AuditRecordCodec.TYPE_ENTRY);
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(unsupported.flip(), record));
+    }
+
+    @Test
+    void testConverter_ConvertsTextAuditTrailToBinary() throws Exception {
+        Path text = directory.resolve("auditTrail.txt");
+        Path binary = directory.resolve("auditTrail.bin");
+        Files.writeString(text, "User Logged In,1,Bob,BUILDER\nbroken line\nUpdated Spend, Phase 2,2,Pam,PROJECT_MANAGER\n");
+
+        assertEquals(2, AuditTrailConverter.convert(text, binary));
+
+        List<AuditTrail> auditTrails = AuditTrailConverter.read(binary);
+        assertEquals(2, auditTrails.size());
+        assertEquals("Updated Spend, Phase 2", auditTrails.get(1).getAction());
+        User user = auditTrails.get(1).getPerformedBy();
+        assertEquals(2, user.getUserId());
+        assertEquals("Pam", user.getUserName());
+        assertEquals(UserRole.PROJECT_MANAGER, user.getRole());
+        assertEquals(0, auditTrails.get(1).getTimestamp());
+    }
+}
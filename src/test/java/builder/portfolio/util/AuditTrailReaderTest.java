@@ -0,0 +1,116 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.AuditTrail;
+import builder.portfolio.model.Page;
+import builder.portfolio.model.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditTrailReaderTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = directory.resolve("auditTrail.txt");
+        Files.writeString(file, String.join("\n",
+                "Logged In,1,Bob,BUILDER",
+                "Created Project,1,Bob,BUILDER",
+                "not an audit line",
+                "Logged In,2,Pam,PROJECT_MANAGER",
+                "Updated Spend,2,Pam,PROJECT_MANAGER",
+                "Logged In,3,Cal,CLIENT") + "\n");
+    }
+
+    @Test
+    void testTailAndPages_ReadEntriesInFileOrder() {
+        AuditTrailReader reader = new AuditTrailReader(file);
+
+        assertEquals(5, reader.count());
+        assertEquals(List.of("Updated Spend", "Logged In"), actions(reader.tail(2)));
+
+        Page<AuditTrail> first = reader.readPage(0, 3);
+        assertEquals(List.of("Logged In", "Created Project", "Logged In"), actions(first.getItems()));
+        assertTrue(first.isHasNext());
+        Page<AuditTrail> second = reader.readPage(first.getNextCursor(), 3);
+        assertEquals(3, second.getItems().get(1).getPerformedBy().getUserId());
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void testFind_FiltersByUserRoleAndAction() {
+        AuditTrailReader reader = new AuditTrailReader(file);
+
+        assertEquals(3, reader.find(null, null, "Logged In", 10).size());
+        assertEquals(List.of("Created Project"), actions(reader.find(1L, null, "Created Project", 10)));
+        assertEquals(List.of("Logged In", "Updated Spend"), actions(reader.find(null, UserRole.PROJECT_MANAGER, null, 10)));
+        assertEquals(1, reader.find(null, null, "Logged In", 1).size());
+        assertTrue(reader.find(9L, null, null, 10).isEmpty());
+    }
+
+    @Test
+    void testRefresh_IndexesAppendedLinesAndRebuildsReplacedFile() throws Exception {
+        AuditTrailReader reader = new AuditTrailReader(file);
+        assertEquals(5, reader.count());
+        Path index = directory.resolve("auditTrail.txt.idx");
+        assertEquals(32 + 5 * AuditTrailReader.ENTRY_SIZE, Files.size(index));
+
+        Files.writeString(file, "Deleted User,4,Ann,ADMIN\nLogged", StandardOpenOption.APPEND);
+        assertEquals(6, reader.count());
+        assertEquals(6, new AuditTrailReader(file).count());
+        assertEquals(List.of("Deleted User"), actions(new AuditTrailReader(file).find(4L, UserRole.ADMIN, null, 10)));
+
+        Files.writeString(file, "Logged In,5,Eve,CLIENT\n");
+        assertEquals(List.of("Logged In"), actions(reader.tail(10)));
+        assertEquals(1, new AuditTrailReader(file).count());
+    }
+
+    @Test
+    void testLoadIndex_IgnoresEntriesWrittenBeforeACrashCommittedThem() throws Exception {
+        Path index = directory.resolve("auditTrail.txt.idx");
+        assertEquals(5, new AuditTrailReader(file).count());
+        byte[] committedHeader = new byte[32];
+        System.arraycopy(Files.readAllBytes(index), 0, committedHeader, 0, 32);
+
+        Files.writeString(file, "Deleted User,4,Ann,ADMIN\nLogged In,5,Eve,CLIENT\n", StandardOpenOption.APPEND);
+        assertEquals(7, new AuditTrailReader(file).count());
+        byte[] crashed = Files.readAllBytes(index);
+        System.arraycopy(committedHeader, 0, crashed, 0, 32);
+        Files.write(index, crashed);
+
+        AuditTrailReader reader = new AuditTrailReader(file);
+        assertEquals(7, reader.count());
+        assertEquals(List.of("Updated Spend", "Logged In", "Deleted User", "Logged In"), actions(reader.tail(4)));
+        assertEquals(32 + 7 * AuditTrailReader.ENTRY_SIZE, Files.size(index));
+    }
+
+    @Test
+    void testStartOffset_SkipsTheFileHeader() throws Exception {
+        String header = "Logged In,9,Zed,BUILDER\n";
+        Path segment = directory.resolve("audit-1.log");
+        Files.writeString(segment, header + "Logged In,1,Bob,BUILDER\nCreated Project,1,Bob,BUILDER\n");
+
+        AuditTrailReader reader = new AuditTrailReader(segment, header.length());
+
+        assertEquals(2, reader.count());
+        assertEquals(List.of("Logged In", "Created Project"), actions(reader.tail(10)));
+        assertTrue(reader.find(9L, null, null, 10).isEmpty());
+        assertEquals(2, new AuditTrailReader(segment, header.length()).count());
+    }
+
+    private static List<String> actions(List<AuditTrail> auditTrails) {
+        return auditTrails.stream().map(AuditTrail::getAction).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,188 @@
+package builder.portfolio.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ConnectionPoolTest {
+
+    private ConnectionPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private Connection healthyConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(connection.getAutoCommit()).thenReturn(true);
+        return connection;
+    }
+
+    @Test
+    void testBorrow_ReusesReturnedConnection() throws Exception {
+        Connection physical = healthyConnection();
+        pool = new ConnectionPool(() -> physical, 0, 2, 60_000, 100, 1);
+
+        Connection first = pool.borrow();
+        first.close();
+        Connection second = pool.borrow();
+        second.close();
+
+        assertEquals(1, pool.getStats().getCreated());
+        assertEquals(2, pool.getStats().getBorrowed());
+        assertEquals(1, pool.getStats().getIdle());
+        verify(physical, never()).close();
+    }
+
+    @Test
+    void testBorrow_TimesOutWhenExhausted() throws Exception {
+        pool = new ConnectionPool(this::healthyConnection, 0, 1, 60_000, 50, 1);
+
+        Connection held = pool.borrow();
+        assertNotNull(held);
+        assertNull(pool.borrow());
+        assertEquals(1, pool.getStats().getTimeouts());
+
+        held.close();
+        assertNotNull(pool.borrow());
+    }
+
+    @Test
+    void testBorrow_DiscardsInvalidIdleConnection() throws Exception {
+        Connection stale = healthyConnection();
+        Connection fresh = healthyConnection();
+        Connection[] connections = {stale, fresh};
+        int[] index = {0};
+        pool = new ConnectionPool(() -> connections[index[0]++], 1, 2, 60_000, 100, 1);
+
+        when(stale.isValid(anyInt())).thenReturn(false);
+        try (Connection connection = pool.borrow()) {
+            assertTrue(connection.toString().contains(fresh.toString()));
+        }
+
+        verify(stale).close();
+        assertEquals(1, pool.getStats().getValidationFailures());
+    }
+
+    @Test
+    void testClose_ResetsAutoCommitBeforeReturning() throws Exception {
+        Connection physical = healthyConnection();
+        pool = new ConnectionPool(() -> physical, 0, 1, 60_000, 100, 1);
+
+        Connection connection = pool.borrow();
+        when(physical.getAutoCommit()).thenReturn(false);
+        connection.close();
+
+        verify(physical).rollback();
+        verify(physical).setAutoCommit(true);
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    void testPrepareStatement_ServedFromCacheAcrossBorrows() throws Exception {
+        Connection physical = healthyConnection();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(physical.prepareStatement("SELECT 1")).thenReturn(statement);
+        pool = new ConnectionPool(() -> physical, 0, 1, 60_000, 100, 1, 8);
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = pool.borrow();
+                 PreparedStatement ps = connection.prepareStatement("SELECT 1")) {
+                ps.executeQuery();
+            }
+        }
+
+        verify(physical, times(1)).prepareStatement("SELECT 1");
+        verify(statement, times(3)).executeQuery();
+        verify(statement, never()).close();
+        assertEquals(2, pool.getStats().getStatementCacheHits());
+        assertEquals(1, pool.getStats().getStatementCacheMisses());
+    }
+
+    @Test
+    void testPrepareStatement_RestoresSettingsBeforeReuse() throws Exception {
+        Connection physical = healthyConnection();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        PreparedStatement cursor = mock(PreparedStatement.class);
+        when(statement.getFetchSize()).thenReturn(10);
+        when(statement.getQueryTimeout()).thenReturn(30);
+        when(physical.prepareStatement("SELECT 1")).thenReturn(statement);
+        when(physical.prepareStatement("SELECT 2")).thenReturn(cursor, mock(PreparedStatement.class));
+        pool = new ConnectionPool(() -> physical, 0, 1, 60_000, 100, 1, 8);
+
+        try (Connection connection = pool.borrow();
+             PreparedStatement ps = connection.prepareStatement("SELECT 1")) {
+            ps.setFetchSize(500);
+            ps.setQueryTimeout(1);
+        }
+        verify(statement).setFetchSize(10);
+        verify(statement).setQueryTimeout(30);
+        verify(statement, never()).close();
+
+        try (Connection connection = pool.borrow();
+             PreparedStatement ps = connection.prepareStatement("SELECT 2")) {
+            ps.setCursorName("c1");
+        }
+        verify(cursor).close();
+        try (Connection connection = pool.borrow();
+             PreparedStatement ps = connection.prepareStatement("SELECT 2")) {
+            ps.executeQuery();
+        }
+        verify(physical, times(2)).prepareStatement("SELECT 2");
+        verify(cursor, never()).executeQuery();
+    }
+
+    @Test
+    void testStatementGetConnection_ReturnsTheBorrowedConnection() throws Exception {
+        Connection physical = healthyConnection();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.getConnection()).thenReturn(physical);
+        when(physical.prepareStatement("SELECT 1")).thenReturn(statement);
+        when(physical.createStatement()).thenReturn(mock(Statement.class));
+        pool = new ConnectionPool(() -> physical, 0, 1, 60_000, 100, 1, 8);
+
+        Connection connection = pool.borrow();
+        PreparedStatement ps = connection.prepareStatement("SELECT 1");
+        assertSame(connection, ps.getConnection());
+        assertSame(connection, connection.createStatement().getConnection());
+        ps.getConnection().close();
+
+        verify(physical, never()).close();
+        assertEquals(1, pool.getStats().getIdle());
+        try (Connection again = pool.borrow()) {
+            assertNotSame(connection, again);
+        }
+        verify(physical, times(1)).prepareStatement("SELECT 1");
+    }
+
+    @Test
+    void testPrepareStatement_EvictsLeastRecentlyUsed() throws Exception {
+        Connection physical = healthyConnection();
+        PreparedStatement first = mock(PreparedStatement.class);
+        PreparedStatement second = mock(PreparedStatement.class);
+        when(physical.prepareStatement("SELECT 1")).thenReturn(first);
+        when(physical.prepareStatement("SELECT 2")).thenReturn(second);
+        pool = new ConnectionPool(() -> physical, 0, 1, 60_000, 100, 1, 1);
+
+        try (Connection connection = pool.borrow()) {
+            connection.prepareStatement("SELECT 1").close();
+            connection.prepareStatement("SELECT 2").close();
+        }
+
+        verify(first).close();
+        verify(second, never()).close();
+        assertEquals(1, pool.getStats().getStatementCacheEvictions());
+    }
+}
@@ -0,0 +1,108 @@
+package builder.portfolio.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DBUtilTest {
+
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        url = "jdbc:h2:mem:transaction" + System.nanoTime() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE item (name VARCHAR(20))");
+        }
+        DBUtil.setPool(new ConnectionPool(() -> DriverManager.getConnection(url), 0, 4, 60_000, 1_000, 1, 16));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        DBUtil.shutdown();
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    @Test
+    void testInTransaction_CommitsOnceWhenTheWorkReturns() throws Exception {
+        String result = DBUtil.inTransaction(() -> {
+            insert("first");
+            insert("second");
+            assertSame(DBUtil.getConnection(), DBUtil.getConnection());
+            assertEquals(0, count(), "nothing may be committed before the work returns");
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(2, count());
+        assertEquals(0, DBUtil.getPoolStats().getActive());
+    }
+
+    @Test
+    void testInTransaction_RollsBackEveryStatementWhenTheWorkThrows() throws Exception {
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> DBUtil.inTransaction(() -> {
+            insert("first");
+            throw new IllegalStateException("second failed");
+        }));
+
+        assertEquals("second failed", failure.getMessage());
+        assertEquals(0, count());
+        assertEquals(0, DBUtil.getPoolStats().getActive());
+    }
+
+    @Test
+    void testInTransaction_RollbackOfAJoinedStatementRollsBackTheTransaction() throws Exception {
+        assertThrows(SQLException.class, () -> DBUtil.inTransaction(() -> {
+            insert("first");
+            try (Connection connection = DBUtil.getConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement ps = connection.prepareStatement("INSERT INTO item (name) VALUES (?)")) {
+                    ps.setString(1, "rejected");
+                    ps.executeUpdate();
+                }
+                connection.rollback();
+            }
+            return null;
+        }));
+
+        assertEquals(0, count());
+    }
+
+    /** Inserts a row the way the repositories do: in its own transaction on a borrowed connection. */
+    private static void insert(String name) throws SQLException {
+        try (Connection connection = DBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement("INSERT INTO item (name) VALUES (?)")) {
+                ps.setString(1, name);
+                ps.executeUpdate();
+                assertSame(connection, ps.getConnection());
+                connection.commit();
+            } catch (SQLException sqlException) {
+                connection.rollback();
+                throw sqlException;
+            }
+        }
+    }
+
+    private int count() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM item")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
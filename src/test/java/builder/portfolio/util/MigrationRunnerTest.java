@@ -0,0 +1,105 @@
+package builder.portfolio.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MigrationRunnerTest {
+
+    private Connection connection;
+    private MigrationRunner runner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:migration" + System.nanoTime() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE");
+        runner = new MigrationRunner(MigrationRunner.DEFAULT_LOCATION);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void testMigrate_CreatesSchemaAndRecordsVersionsOnce() throws Exception {
+        assertEquals(List.of(1, 2, 3, 4), runner.migrate(connection));
+        assertEquals(List.of(), runner.migrate(connection));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO users (username, email, password, role) VALUES ('b', 'b@x', 'p', 'BUILDER')");
+            statement.executeUpdate("INSERT INTO project (project_name, status, builder_id) VALUES ('Tower', 'UPCOMING', 1)");
+            try (ResultSet rs = statement.executeQuery("SELECT completed_tasks, total_tasks FROM project")) {
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt("total_tasks"));
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM schema_version")) {
+                assertTrue(rs.next());
+                assertEquals(4, rs.getInt(1));
+            }
+        }
+        assertTrue(indexExists("idx_task_project_status"));
+        assertFalse(indexExists("idx_task_pending"));
+    }
+
+    @Test
+    void testMigrate_AddsAndBackfillsTaskCountersOnOlderDatabases() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE users (user_id BIGSERIAL PRIMARY KEY, username VARCHAR(100) NOT NULL, "
+                    + "email VARCHAR(100) UNIQUE NOT NULL, password VARCHAR(255) NOT NULL, role VARCHAR(50) NOT NULL)");
+            statement.executeUpdate("CREATE TABLE project (project_id BIGSERIAL PRIMARY KEY, project_name VARCHAR(255) NOT NULL, "
+                    + "status VARCHAR(50) NOT NULL, builder_id BIGINT, manager_id BIGINT, client_id BIGINT)");
+            statement.executeUpdate("CREATE TABLE task (task_id BIGSERIAL PRIMARY KEY, project_id BIGINT NOT NULL, "
+                    + "task_name VARCHAR(255), status VARCHAR(50))");
+            statement.executeUpdate("INSERT INTO project (project_name, status) VALUES ('Tower', 'IN_PROGRESS')");
+            statement.executeUpdate("INSERT INTO task (project_id, task_name, status) VALUES "
+                    + "(1, 'Foundation', 'COMPLETED'), (1, 'Walls', 'PENDING'), (1, 'Roof', 'PENDING')");
+        }
+
+        assertEquals(List.of(1, 2, 3, 4), runner.migrate(connection));
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT completed_tasks, total_tasks FROM project")) {
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt("completed_tasks"));
+            assertEquals(3, rs.getInt("total_tasks"));
+        }
+    }
+
+    @Test
+    void testStatements_KeepsPostgresOnlyStatementsForPostgres() {
+        String script = """
+                -- comment
+                CREATE INDEX a ON t (x);
+
+                -- postgresql-only
+                CREATE INDEX b ON t (x)
+                    WHERE y = 'PENDING';
+                CREATE INDEX c ON t (z);
+                """;
+
+        assertEquals(3, MigrationRunner.statements(script, true).size());
+        List<String> portable = MigrationRunner.statements(script, false);
+        assertEquals(2, portable.size());
+        assertEquals("CREATE INDEX c ON t (z)", portable.get(1));
+    }
+
+    private boolean indexExists(String name) throws Exception {
+        try (ResultSet rs = connection.getMetaData().getIndexInfo(null, null, "task", false, false)) {
+            while (rs.next()) {
+                if (name.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
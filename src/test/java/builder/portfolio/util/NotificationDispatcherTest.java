@@ -0,0 +1,87 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.Notification;
+import builder.portfolio.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDispatcherTest {
+
+    private Notification notification(long userId) {
+        User recipient = new User();
+        recipient.setUserId(userId);
+        return new Notification(0, "message " + userId, recipient);
+    }
+
+    @Test
+    void testShutdown_DeliversEverythingQueuedInBatches() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        List<Notification> delivered = new CopyOnWriteArrayList<>();
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1000, 2, 25,
+                NotificationDispatcher.OverflowPolicy.BLOCK, 100, batch -> {
+                    batchSizes.add(batch.size());
+                    delivered.addAll(batch);
+                });
+
+        for (int i = 1; i <= 500; i++) {
+            assertTrue(dispatcher.enqueue(notification(i)));
+        }
+
+        assertTrue(dispatcher.shutdown(5_000));
+        assertEquals(500, delivered.size());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 25));
+        assertEquals(500, dispatcher.getStats().getDelivered());
+        assertFalse(dispatcher.enqueue(notification(501)));
+    }
+
+    @Test
+    void testEnqueue_DropPolicyRejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1, 1, 1,
+                NotificationDispatcher.OverflowPolicy.DROP, 0, batch -> {
+                    workerBusy.countDown();
+                    release.await();
+                });
+
+        dispatcher.enqueue(notification(1));
+        assertTrue(workerBusy.await(5, TimeUnit.SECONDS));
+        assertTrue(dispatcher.enqueue(notification(2)));
+        assertFalse(dispatcher.enqueue(notification(3)));
+        assertEquals(1, dispatcher.getStats().getDropped());
+
+        release.countDown();
+        assertTrue(dispatcher.shutdown(5_000));
+        assertEquals(2, dispatcher.getStats().getDelivered());
+    }
+
+    @Test
+    void testEnqueue_CallerRunsPolicyDeliversOnCallingThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        List<String> deliveringThreads = new CopyOnWriteArrayList<>();
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1, 1, 1,
+                NotificationDispatcher.OverflowPolicy.CALLER_RUNS, 0, batch -> {
+                    deliveringThreads.add(Thread.currentThread().getName());
+                    if (Thread.currentThread().getName().startsWith("notification-worker")) {
+                        workerBusy.countDown();
+                        release.await();
+                    }
+                });
+
+        dispatcher.enqueue(notification(1));
+        assertTrue(workerBusy.await(5, TimeUnit.SECONDS));
+        dispatcher.enqueue(notification(2));
+        assertTrue(dispatcher.enqueue(notification(3)));
+
+        assertTrue(deliveringThreads.contains(Thread.currentThread().getName()));
+        release.countDown();
+        assertTrue(dispatcher.shutdown(5_000));
+    }
+}
@@ -0,0 +1,138 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.Notification;
+import builder.portfolio.model.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private Connection connection;
+    private PreparedStatement psClaim;
+    private PreparedStatement psInsert;
+    private PreparedStatement psPark;
+    private PreparedStatement psDelete;
+    private ResultSet outboxRows;
+    private List<Notification> delivered;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = mock(Connection.class);
+        psClaim = mock(PreparedStatement.class);
+        psInsert = mock(PreparedStatement.class);
+        psPark = mock(PreparedStatement.class);
+        psDelete = mock(PreparedStatement.class);
+        outboxRows = mock(ResultSet.class);
+
+        when(connection.prepareStatement(anyString())).thenReturn(psClaim);
+        when(connection.prepareStatement(startsWith("INSERT INTO notification"))).thenReturn(psInsert);
+        when(connection.prepareStatement(startsWith("INSERT INTO notification_outbox_dead"))).thenReturn(psPark);
+        when(connection.prepareStatement(startsWith("DELETE FROM notification_outbox"))).thenReturn(psDelete);
+        when(psClaim.executeQuery()).thenReturn(outboxRows);
+        when(psInsert.executeBatch()).thenReturn(new int[]{1, 1});
+
+        when(outboxRows.next()).thenReturn(true, true, false);
+        when(outboxRows.getLong("outbox_id")).thenReturn(7L, 8L);
+        when(outboxRows.getLong("user_id")).thenReturn(3L, 2L);
+        when(outboxRows.getString("role")).thenReturn("CLIENT", "PROJECT_MANAGER");
+        when(outboxRows.getString("message")).thenReturn("Project created", "Project created");
+
+        delivered = new ArrayList<>();
+        relay = new OutboxRelay(50, 1_000, 3, delivered::addAll);
+    }
+
+    @Test
+    void testRelayOnce_MovesClaimedRowsAndDeliversAfterCommit() throws Exception {
+        try (MockedStatic<DBUtil> dbUtilMock = Mockito.mockStatic(DBUtil.class)) {
+            dbUtilMock.when(DBUtil::getConnection).thenReturn(connection);
+
+            assertEquals(2, relay.relayOnce());
+
+            verify(psInsert, times(2)).addBatch();
+            verify(psInsert, times(1)).executeBatch();
+            verify(psDelete, times(2)).addBatch();
+            verify(psDelete, times(1)).executeBatch();
+            verify(connection, times(1)).commit();
+            verify(psPark, never()).executeBatch();
+            assertEquals(2, delivered.size());
+            assertEquals(UserRole.CLIENT, delivered.get(0).getRecipient().getRole());
+            assertEquals(2, relay.getStats().getRelayed());
+        }
+    }
+
+    @Test
+    void testRelayOnce_FailedPassRollsBackAndDeliversNothing() throws Exception {
+        when(psDelete.executeBatch()).thenThrow(new SQLException("connection lost"));
+
+        try (MockedStatic<DBUtil> dbUtilMock = Mockito.mockStatic(DBUtil.class)) {
+            dbUtilMock.when(DBUtil::getConnection).thenReturn(connection);
+
+            assertEquals(-1, relay.relayOnce());
+
+            verify(connection, times(1)).rollback();
+            verify(connection, never()).commit();
+            assertTrue(delivered.isEmpty());
+            assertEquals(1, relay.getStats().getFailures());
+        }
+    }
+
+    @Test
+    void testRelayOnce_PoisonRowsDoNotBlockTheRowsBehindThem() throws Exception {
+        String url = "jdbc:h2:mem:outbox" + System.nanoTime() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        try (Connection setup = DriverManager.getConnection(url);
+             Statement statement = setup.createStatement()) {
+            new MigrationRunner(MigrationRunner.DEFAULT_LOCATION).migrate(setup);
+            statement.executeUpdate("INSERT INTO users (username, email, password, role) VALUES ('c', 'c@x', 'p', 'CLIENT')");
+            statement.executeUpdate("ALTER TABLE notification ADD CONSTRAINT no_poison CHECK (message <> 'poison')");
+            statement.executeUpdate("INSERT INTO notification_outbox (user_id, role, message) VALUES "
+                    + "(99, 'CLIENT', 'user deleted'), (1, 'SUPERVISOR', 'unknown role'), "
+                    + "(1, 'CLIENT', 'poison'), (1, 'CLIENT', 'Project created')");
+        }
+        DBUtil.setPool(new ConnectionPool(() -> DriverManager.getConnection(url), 0, 2, 60_000, 1_000, 1, 8));
+        try {
+            assertEquals(-1, relay.relayOnce());
+            assertEquals(1, relay.relayOnce());
+            assertEquals("Project created", delivered.get(0).getMessage());
+
+            assertEquals(0, relay.relayOnce());
+            assertEquals(0, relay.relayOnce());
+            assertEquals(0, relay.relayOnce());
+
+            assertEquals(1, delivered.size());
+            assertEquals(1, count(url, "SELECT COUNT(*) FROM notification"));
+            assertEquals(0, count(url, "SELECT COUNT(*) FROM notification_outbox"));
+            assertEquals(2, count(url, "SELECT COUNT(*) FROM notification_outbox_dead"));
+            assertEquals(3, count(url, "SELECT attempts FROM notification_outbox_dead WHERE message = 'poison'"));
+            assertEquals(1, relay.getStats().getSkipped());
+            assertEquals(2, relay.getStats().getParked());
+        } finally {
+            DBUtil.shutdown();
+        }
+    }
+
+    private static int count(String url, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+}
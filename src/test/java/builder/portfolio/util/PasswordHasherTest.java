@@ -0,0 +1,38 @@
+package builder.portfolio.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final PasswordHasher hasher = new PasswordHasher(1_000);
+
+    @Test
+    void testHash_IsSaltedAndVerifies() {
+        String first = hasher.hash("secret123");
+        String second = hasher.hash("secret123");
+
+        assertTrue(first.startsWith("pbkdf2-sha256$1000$"));
+        assertNotEquals(first, second);
+        assertFalse(first.contains("secret123"));
+        assertTrue(hasher.verify("secret123", first));
+        assertTrue(hasher.verify("secret123", second));
+        assertFalse(hasher.verify("secret124", first));
+        assertFalse(hasher.verify(null, first));
+        assertFalse(hasher.verify("secret123", "pbkdf2-sha256$1000$not-base64!$abc"));
+        assertFalse(hasher.needsRehash(first));
+    }
+
+    @Test
+    void testNeedsRehash_ForPlainTextAndLowerCost() {
+        String cheap = new PasswordHasher(10).hash("secret123");
+
+        assertTrue(hasher.verify("secret123", cheap));
+        assertTrue(hasher.needsRehash(cheap));
+        assertTrue(hasher.verify("secret123", "secret123"));
+        assertFalse(hasher.verify("secret12", "secret123"));
+        assertTrue(hasher.needsRehash("secret123"));
+        assertThrows(IllegalArgumentException.class, () -> new PasswordHasher(0));
+    }
+}
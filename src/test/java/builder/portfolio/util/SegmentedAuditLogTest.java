@@ -0,0 +1,125 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.AuditTrail;
+import builder.portfolio.model.Page;
+import builder.portfolio.model.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedAuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWrite_RotatesCompressesAndPagesAcrossSegments() throws Exception {
+        SegmentedAuditLog segmentedLog = new SegmentedAuditLog(directory, SegmentedAuditLog.HEADER_LENGTH + 120,
+                60_000, true, 0, 0);
+        for (int i = 0; i < 10; i++) {
+            segmentedLog.write(lines(i * 2, 2), 2);
+        }
+        segmentedLog.close();
+        segmentedLog.maintain();
+
+        List<SegmentedAuditLog.Segment> segments = segmentedLog.segments();
+        assertTrue(segments.size() > 1);
+        assertTrue(segments.stream().allMatch(SegmentedAuditLog.Segment::isCompressed));
+        assertEquals(20, segments.stream().mapToLong(SegmentedAuditLog.Segment::getEntries).sum());
+        assertEquals(20, segmentedLog.count());
+
+        List<Long> users = new ArrayList<>();
+        long cursor = 0;
+        Page<AuditTrail> page;
+        do {
+            page = segmentedLog.readPage(cursor, 7);
+            page.getItems().forEach(audit -> users.add(audit.getPerformedBy().getUserId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+        assertEquals(20, users.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, users.get(i));
+        }
+
+        assertEquals(List.of(17L, 18L, 19L), userIds(segmentedLog.tail(3)));
+        assertEquals(List.of(4L), userIds(segmentedLog.find(4L, UserRole.CLIENT, "Viewed", 10)));
+        assertEquals(10, segmentedLog.find(null, UserRole.BUILDER, null, 100).size());
+        assertTrue(segmentedLog.readBetween(System.currentTimeMillis() + 60_000, Long.MAX_VALUE).isEmpty());
+        assertEquals(20, segmentedLog.readBetween(0, Long.MAX_VALUE).size());
+        segmentedLog.shutdown();
+    }
+
+    @Test
+    void testMaintain_KeepsOnlyTheNewestClosedSegments() throws Exception {
+        SegmentedAuditLog segmentedLog = new SegmentedAuditLog(directory, SegmentedAuditLog.HEADER_LENGTH + 30,
+                60_000, false, 2, 0);
+        for (int i = 0; i < 6; i++) {
+            segmentedLog.write(lines(i, 1), 1);
+        }
+        segmentedLog.close();
+        segmentedLog.maintain();
+
+        assertEquals(List.of(4L, 5L), userIds(segmentedLog.readPage(0, 10).getItems()));
+        assertEquals(2, segmentedLog.segments().size());
+        assertFalse(segmentedLog.segments().get(0).isCompressed());
+        segmentedLog.shutdown();
+    }
+
+    @Test
+    void testImportAndReopen_ContinuesAfterExistingSegments() throws Exception {
+        Path legacy = directory.resolve("auditTrail.txt");
+        Files.writeString(legacy, "Logged In,1,Bob,BUILDER\nLogged In,2,Pam,PROJECT_MANAGER\n");
+        Path segments = directory.resolve("segments");
+
+        SegmentedAuditLog segmentedLog = new SegmentedAuditLog(segments, 1_000_000, 60_000, false, 0, 0);
+        assertTrue(segmentedLog.importFile(legacy));
+        assertFalse(segmentedLog.importFile(legacy));
+        AuditAppender appender = new AuditAppender(segmentedLog, 100, 10,
+                AuditAppender.OverflowPolicy.BLOCK, 1_000, AuditAppender.SyncPolicy.BATCH, 1_000);
+        assertTrue(appender.append("Created Project,1,Bob,BUILDER"));
+        assertTrue(appender.shutdown(5_000));
+        segmentedLog.shutdown();
+
+        SegmentedAuditLog reopened = new SegmentedAuditLog(segments, 1_000_000, 60_000, false, 0, 0);
+        reopened.write(lines(3, 1), 1);
+        reopened.close();
+
+        assertEquals(List.of(1L, 2L, 1L, 3L), userIds(reopened.readPage(0, 10).getItems()));
+        assertEquals(List.of(1L, 2L, 3L), reopened.segments().stream()
+                .map(SegmentedAuditLog.Segment::getSequence).collect(Collectors.toList()));
+        assertEquals(2, reopened.segments().get(0).getEntries());
+        reopened.shutdown();
+    }
+
+    @Test
+    void testResolveDirectory_ExpandsTheHomeDirectory() {
+        Path home = Path.of(System.getProperty("user.home"));
+
+        assertEquals(home.resolve(".builder-portfolio/audit"),
+                SegmentedAuditLog.resolveDirectory("~/.builder-portfolio/audit"));
+        assertEquals(home, SegmentedAuditLog.resolveDirectory("~"));
+        assertEquals(Path.of("target/test-audit"), SegmentedAuditLog.resolveDirectory("target/test-audit"));
+    }
+
+    private static ByteBuffer lines(int firstUserId, int count) {
+        StringBuilder lines = new StringBuilder();
+        for (int userId = firstUserId; userId < firstUserId + count; userId++) {
+            UserRole role = userId % 2 == 0 ? UserRole.CLIENT : UserRole.BUILDER;
+            lines.append("Viewed,").append(userId).append(",User").append(userId).append(',').append(role).append('\n');
+        }
+        return ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Long> userIds(List<AuditTrail> auditTrails) {
+        return auditTrails.stream().map(audit -> audit.getPerformedBy().getUserId()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,108 @@
+package builder.portfolio.util;
+
+import builder.portfolio.model.Project;
+import builder.portfolio.model.Session;
+import builder.portfolio.model.User;
+import builder.portfolio.model.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRegistryTest {
+
+    @Test
+    void testRunWith_KeepsThousandsOfConcurrentSessionsIsolated() throws Exception {
+        SessionRegistry registry = new SessionRegistry(60_000);
+        int sessionCount = 5_000;
+        List<String> sessionIds = new ArrayList<>();
+        for (int i = 0; i < sessionCount; i++) {
+            sessionIds.add(registry.create().getSessionId());
+        }
+        assertEquals(sessionCount, new HashSet<>(sessionIds).size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < sessionCount; i++) {
+                int userId = i;
+                boolean login = round == 0;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return SessionManager.callWith(registry.get(sessionIds.get(userId)), () -> {
+                        if (login) {
+                            SessionManager.setCurrentUser(new User(userId, null, null, "User" + userId, UserRole.CLIENT));
+                            Project project = new Project();
+                            project.setProjectId(userId);
+                            SessionManager.setCurrentProject(project);
+                        }
+                        Thread.yield();
+                        return SessionManager.getCurrentUser() != null
+                                && SessionManager.getCurrentUser().getUserId() == userId
+                                && SessionManager.getCurrentProject().getProjectId() == userId;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+            results.clear();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertNull(SessionManager.getCurrentUser());
+        assertEquals(17, registry.get(sessionIds.get(17)).getCurrentUser().getUserId());
+    }
+
+    @Test
+    void testGet_ExpiresIdleSessions() {
+        AtomicLong now = new AtomicLong(1_000);
+        SessionRegistry registry = new SessionRegistry(100, now::get);
+        Session idle = registry.create();
+        Session active = registry.create();
+        Session closed = registry.create();
+
+        now.addAndGet(80);
+        assertSame(active, registry.get(active.getSessionId()));
+        assertTrue(registry.invalidate(closed.getSessionId()));
+        assertNull(registry.get(closed.getSessionId()));
+
+        now.addAndGet(50);
+        assertEquals(1, registry.expireIdle());
+        assertNull(registry.get(idle.getSessionId()));
+        assertSame(active, registry.get(active.getSessionId()));
+
+        now.addAndGet(101);
+        assertNull(registry.get(active.getSessionId()));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void testCallWith_RestoresThePreviousSession() {
+        User consoleUser = new User(1, null, null, "Console", UserRole.ADMIN);
+        SessionManager.setCurrentUser(consoleUser);
+        Session other = new SessionRegistry(0).create();
+
+        SessionManager.runWith(other, () -> {
+            assertNull(SessionManager.getCurrentUser());
+            SessionManager.setCurrentUser(new User(2, null, null, "Other", UserRole.CLIENT));
+        });
+
+        assertSame(consoleUser, SessionManager.getCurrentUser());
+        assertEquals(2, other.getCurrentUser().getUserId());
+        SessionManager.clearSession();
+        assertNull(SessionManager.getCurrentUser());
+    }
+}
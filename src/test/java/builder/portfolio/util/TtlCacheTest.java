@@ -0,0 +1,71 @@
+package builder.portfolio.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load(String key) {
+        loads.incrementAndGet();
+        return key + "-value";
+    }
+
+    @Test
+    void testGet_HitsUntilTtlExpires() {
+        TtlCache<String, String> cache = new TtlCache<>(100, 10, now::get);
+
+        assertEquals("a-value", cache.get("a", this::load));
+        assertEquals("a-value", cache.get("a", this::load));
+        now.addAndGet(100);
+        assertEquals("a-value", cache.get("a", this::load));
+
+        assertEquals(2, loads.get());
+        TtlCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1, stats.getExpirations());
+        assertEquals(1.0 / 3, stats.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void testGet_EvictsLeastRecentlyUsedWhenFull() {
+        TtlCache<String, String> cache = new TtlCache<>(10_000, 2, now::get);
+
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+        cache.get("c", this::load);
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+
+        assertEquals(4, loads.get(), "only b should have been evicted and reloaded");
+        assertEquals(2, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void testInvalidateIf_RemovesMatchingEntriesAndSkipsStaleLoads() {
+        TtlCache<String, String> cache = new TtlCache<>(10_000, 10, now::get);
+        cache.get("BUILDER:1", this::load);
+        cache.get("CLIENT:2", this::load);
+
+        cache.invalidateIf((key, value) -> key.startsWith("BUILDER"));
+        cache.get("BUILDER:1", this::load);
+        cache.get("CLIENT:2", this::load);
+        assertEquals(3, loads.get());
+
+        // A value loaded while an invalidation runs must not be cached
+        cache.get("ADMIN", key -> {
+            cache.invalidateAll();
+            return load(key);
+        });
+        cache.get("ADMIN", this::load);
+        assertEquals(5, loads.get());
+    }
+}